@@ -0,0 +1,83 @@
+package com.dangun.miniproject.auth;
+
+import com.dangun.miniproject.auth.dto.LoginRequest;
+import com.dangun.miniproject.auth.dto.LoginResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LoginFilter 한 번의 로그인 당 JSON 처리 비용 / 할당량 비교
+ * - legacyPerLogin : 기존 방식 (요청 파싱 + 응답 작성마다 new ObjectMapper, Map 파싱, 문자열로 직렬화)
+ * - sharedPerLogin : 공용 ObjectMapper + streaming 파싱(LoginRequest) + 재사용 ObjectWriter 로 writer 에 바로 작성
+ * 할당량은 gc 프로파일러로 확인 : ./gradlew benchmark -Pjmh="LoginFilterAllocationBenchmark -prof gc"
+ * (gc.alloc.rate.norm = 로그인 1회 당 할당 byte)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginFilterAllocationBenchmark {
+
+    private static final String ACCESS_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJjYXRlZ29yeSI6ImFjY2Vzc1Rva2VuIn0.signature";
+    private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJjYXRlZ29yeSI6InJlZnJlc2hUb2tlbiJ9.signature";
+
+    private byte[] requestBody;
+    private ObjectMapper sharedObjectMapper;
+    private ObjectWriter responseWriter;
+
+    // 서블릿 컨테이너의 응답 buffer 역할 (호출마다 비우고 재사용)
+    private StringWriter servletWriter;
+
+    @Setup
+    public void setUp() {
+        requestBody = "{\"email\":\"bench@test.com\",\"password\":\"password1\"}".getBytes(StandardCharsets.UTF_8);
+        sharedObjectMapper = new ObjectMapper();
+        responseWriter = sharedObjectMapper.writerFor(LoginResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        servletWriter = new StringWriter(256);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void legacyPerLogin(Blackhole bh) throws IOException {
+        Map<String, String> request = new ObjectMapper().readValue(new ByteArrayInputStream(requestBody), Map.class);
+        bh.consume(request.get("email"));
+        bh.consume(request.get("password"));
+
+        Map<String, String> data = new HashMap<>();
+        data.put("message", "Login Successful :)");
+        data.put("accessToken", ACCESS_TOKEN);
+        data.put("refreshToken", REFRESH_TOKEN);
+
+        servletWriter.getBuffer().setLength(0);
+        servletWriter.write(new ObjectMapper().writeValueAsString(data));
+        bh.consume(servletWriter);
+    }
+
+    @Benchmark
+    public void sharedPerLogin(Blackhole bh) throws IOException {
+        try (JsonParser parser = sharedObjectMapper.getFactory().createParser(new ByteArrayInputStream(requestBody))) {
+            LoginRequest request = LoginRequest.read(parser);
+            bh.consume(request.getEmail());
+            bh.consume(request.getPassword());
+        }
+
+        servletWriter.getBuffer().setLength(0);
+        responseWriter.writeValue(servletWriter, LoginResponse.success(ACCESS_TOKEN, REFRESH_TOKEN));
+        bh.consume(servletWriter);
+    }
+}
@@ -0,0 +1,81 @@
+package com.dangun.miniproject.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWTFilter 한 요청 당 토큰 검증 비용 비교
+ * - legacyPerRequest : 기존 필터 경로 (만료 검사 2회 + category + email, 매번 파서 생성)
+ * - parseOncePerRequest : JWTUtil.parseToken 한 번으로 모든 claim 추출
+ * - createTokensPerLogin : 로그인 성공 시 access / refresh 토큰 발급
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWTUtilBenchmark {
+
+    private static final String SECRET = "dpfwnldbfpzkrkqhwkrndpfwnldbfpzkrkqhwkrndpfwnldbfpzkrkqhwkrn";
+
+    private JWTUtil jwtUtil;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil(SECRET);
+        secretKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        accessToken = jwtUtil.createJwtAccess("accessToken", "bench@test.com", "bench", 60 * 60 * 1000L);
+    }
+
+    @Benchmark
+    public void legacyPerRequest(Blackhole bh) {
+        bh.consume(legacyIsExpired(accessToken));
+        bh.consume(legacyClaims(accessToken).get("category", String.class));
+        bh.consume(legacyClaims(accessToken).get("email", String.class));
+    }
+
+    @Benchmark
+    public void parseOncePerRequest(Blackhole bh) {
+        JWTClaims claims = jwtUtil.parseToken(accessToken);
+
+        bh.consume(claims.isExpired());
+        bh.consume(claims.getCategory());
+        bh.consume(claims.getEmail());
+    }
+
+    @Benchmark
+    public void createTokensPerLogin(Blackhole bh) {
+        bh.consume(jwtUtil.createJwtAccess("accessToken", "bench@test.com", "bench", 60 * 60 * 1000L));
+        bh.consume(jwtUtil.createJwtRefresh("refreshToken", "bench@test.com", 7 * 24 * 60 * 60 * 1000L));
+    }
+
+    private boolean legacyIsExpired(String token) {
+        try {
+            legacyClaims(token);
+            Date expiration = legacyClaims(token).getExpiration();
+            return expiration.before(new Date());
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
+    }
+
+    private Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,109 @@
+package com.dangun.miniproject.board;
+
+import com.dangun.miniproject.MiniprojectApplication;
+import com.dangun.miniproject.board.domain.Board;
+import com.dangun.miniproject.board.domain.BoardStatus;
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.repository.MemberRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 페이지 깊이별 조회 비용 비교 (로컬 MySQL 필요)
+ * - offsetPage : 기존 findAllWithMember (OFFSET + COUNT 쿼리)
+ * - keysetPage : findSliceWithMemberBefore ((createdAt, id) cursor, COUNT 쿼리 없음)
+ * 게시글이 부족하면 setup 에서 repository 로 채워 넣음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardFeedPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int SEED_BOARDS = 20_000;
+    private static final int SEED_BATCH = 1_000;
+
+    @Param({"1", "100", "1000"})
+    private int pageNumber;
+
+    private ConfigurableApplicationContext context;
+    private BoardRepository boardRepository;
+
+    private PageRequest offsetRequest;
+    private Board cursorBoard;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(MiniprojectApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.sql.init.mode=never")
+                .run();
+        boardRepository = context.getBean(BoardRepository.class);
+
+        seedBoards(context.getBean(MemberRepository.class));
+
+        final Sort sort = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        offsetRequest = PageRequest.of(pageNumber, PAGE_SIZE, sort);
+
+        // pageNumber 페이지 직전 게시글을 cursor 로 사용 (클라이언트가 계속 스크롤한 상태와 동일)
+        cursorBoard = boardRepository.findAllWithMember(PageRequest.of(pageNumber * PAGE_SIZE - 1, 1, sort))
+                .getContent()
+                .get(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void offsetPage(Blackhole bh) {
+        bh.consume(boardRepository.findAllWithMember(offsetRequest));
+    }
+
+    @Benchmark
+    public void keysetPage(Blackhole bh) {
+        bh.consume(boardRepository.findSliceWithMemberBefore(
+                cursorBoard.getCreatedAt(), cursorBoard.getId(), PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    private void seedBoards(MemberRepository memberRepository) {
+        long missing = SEED_BOARDS - boardRepository.count();
+        if (missing <= 0) {
+            return;
+        }
+
+        final Member member = memberRepository.findAll().get(0);
+
+        while (missing > 0) {
+            final int batch = (int) Math.min(missing, SEED_BATCH);
+            final List<Board> boards = new ArrayList<>(batch);
+
+            for (int i = 0; i < batch; i++) {
+                boards.add(Board.builder()
+                        .title("Benchmark Title " + i)
+                        .content("Benchmark Content " + i)
+                        .price(10000)
+                        .boardStatus(BoardStatus.판매중)
+                        .member(member)
+                        .build());
+            }
+
+            boardRepository.saveAll(boards);
+            missing -= batch;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.dangun.miniproject.board;
+
+import com.dangun.miniproject.board.domain.Board;
+import com.dangun.miniproject.board.dto.GetBoardResponse;
+import com.dangun.miniproject.common.BenchmarkFixtures;
+import com.dangun.miniproject.member.domain.Member;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지의 엔티티 -> 응답 DTO 변환 비용
+ * - mapList : List.stream().map(GetBoardResponse::from)
+ * - mapSlice : 서비스와 동일하게 Slice.map(GetBoardResponse::from)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GetBoardResponseBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private List<Board> boards;
+    private Slice<Board> slice;
+
+    @Setup
+    public void setUp() {
+        Member member = Member.builder()
+                .email("bench@test.com")
+                .nickname("bench")
+                .password("password")
+                .build();
+
+        boards = BenchmarkFixtures.boards(member, pageSize);
+        slice = new SliceImpl<>(boards, PageRequest.of(0, pageSize), true);
+    }
+
+    @Benchmark
+    public void mapList(Blackhole bh) {
+        bh.consume(boards.stream().map(GetBoardResponse::from).toList());
+    }
+
+    @Benchmark
+    public void mapSlice(Blackhole bh) {
+        bh.consume(slice.map(GetBoardResponse::from));
+    }
+
+    @Benchmark
+    public GetBoardResponse mapSingle() {
+        return GetBoardResponse.from(boards.get(0));
+    }
+}
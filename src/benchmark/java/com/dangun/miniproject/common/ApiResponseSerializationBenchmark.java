@@ -0,0 +1,77 @@
+package com.dangun.miniproject.common;
+
+import com.dangun.miniproject.board.dto.GetBoardCursorResponse;
+import com.dangun.miniproject.board.dto.GetBoardResponse;
+import com.dangun.miniproject.board.dto.GetBoardSliceResponse;
+import com.dangun.miniproject.member.domain.Member;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 응답(ApiResponse) JSON 직렬화 비용
+ * - page : count=exact 응답 (PagedModel, VIA_DTO 설정과 동일한 형태)
+ * - slice : 기본 응답 (GetBoardSliceResponse)
+ * - cursor : cursor 응답 (GetBoardCursorResponse)
+ * ObjectMapper 는 Spring MVC 와 같은 설정(Jackson2ObjectMapperBuilder) 으로 한 번만 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private ObjectMapper objectMapper;
+
+    private ApiResponse<PagedModel<GetBoardResponse>> pageResponse;
+    private ApiResponse<GetBoardSliceResponse> sliceResponse;
+    private ApiResponse<GetBoardCursorResponse> cursorResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Member member = Member.builder()
+                .email("bench@test.com")
+                .nickname("bench")
+                .password("password")
+                .build();
+        List<GetBoardResponse> content = BenchmarkFixtures.boards(member, PAGE_SIZE).stream()
+                .map(GetBoardResponse::from)
+                .toList();
+        Slice<GetBoardResponse> slice = new SliceImpl<>(content, PageRequest.of(0, PAGE_SIZE), true);
+
+        pageResponse = ApiResponse.ok("BOARD-S002",
+                new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 1_000)), "Read Success").getBody();
+        sliceResponse = ApiResponse.ok("BOARD-S002", GetBoardSliceResponse.from(slice), "Read Success").getBody();
+        cursorResponse = ApiResponse.ok("BOARD-S002", GetBoardCursorResponse.from(slice), "Read Success").getBody();
+    }
+
+    @Benchmark
+    public byte[] page() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    @Benchmark
+    public byte[] slice() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(sliceResponse);
+    }
+
+    @Benchmark
+    public byte[] cursor() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cursorResponse);
+    }
+}
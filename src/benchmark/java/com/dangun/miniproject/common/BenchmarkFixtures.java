@@ -0,0 +1,55 @@
+package com.dangun.miniproject.common;
+
+import com.dangun.miniproject.board.domain.Board;
+import com.dangun.miniproject.board.domain.BoardStatus;
+import com.dangun.miniproject.member.domain.Member;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 엔티티 생성 (id / createdAt 은 JPA 가 채우는 값이라 reflection 으로 설정)
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Board> boards(Member member, int count) {
+        LocalDateTime now = LocalDateTime.of(2024, 9, 20, 12, 0);
+        List<Board> boards = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            Board board = Board.builder()
+                    .title("물품 " + i + " 판매")
+                    .content("상태는 매우 좋습니다. 직접 확인 가능합니다.")
+                    .price(10_000 + i * 100)
+                    .boardStatus(i % 3 == 0 ? BoardStatus.판매완료 : BoardStatus.판매중)
+                    .member(member)
+                    .build();
+
+            setField(board, "id", (long) count - i);
+            setField(board, "createdAt", now.minusMinutes(i));
+            setField(board, "commentCount", i % 7);
+            boards.add(board);
+        }
+
+        return boards;
+    }
+
+    public static void setField(Object target, String name, Object value) {
+        for (Class<?> type = target.getClass(); type != null; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                // 상위 클래스(BaseEntity) 에서 다시 찾음
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("field not found: " + name);
+    }
+}
@@ -0,0 +1,306 @@
+package com.dangun.miniproject.load;
+
+import com.dangun.miniproject.MiniprojectApplication;
+import com.dangun.miniproject.board.domain.Board;
+import com.dangun.miniproject.board.domain.BoardStatus;
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.BoardSearchEngine;
+import com.dangun.miniproject.board.service.impl.ApproximateBoardCounter;
+import com.dangun.miniproject.board.service.impl.InvertedIndexBoardSearchEngine;
+import com.dangun.miniproject.comment.domain.Comment;
+import com.dangun.miniproject.comment.repository.CommentRepository;
+import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.repository.MemberRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * REST API 부하 생성기 (로컬 MySQL 필요)
+ * - 애플리케이션을 임의 포트로 띄우고 repository 로 회원 / 게시글 / 댓글을 채운 뒤
+ *   로그인 / 목록 / 검색 / 상세 / 댓글 작성 요청을 비율대로 섞어 보냄
+ * - 시나리오별 요청 수, 오류 수, 처리량, p50 / p90 / p99 / max 지연 시간 출력
+ *
+ * ./gradlew loadGenerator -Dload.concurrency=200 -Dload.mix=login:5,list:40,search:15,detail:30,comment:10
+ *
+ * load.members(50) / load.boards-per-member(20) / load.comments-per-board(5) : 시드 데이터 양
+ * load.concurrency(100) / load.warmup-seconds(5) / load.duration-seconds(30) : 부하
+ * load.mix : 시나리오별 가중치, load.virtual-threads(false) : 서버 가상 스레드 모드
+ * 시드 데이터는 실행마다 다른 email / nickname 으로 추가됨 (data.sql 초기화 시 함께 정리)
+ */
+public class ApiLoadGenerator {
+
+    private static final String PASSWORD = "load-test-password";
+    private static final List<String> KEYWORDS = List.of("아이폰", "자전거", "노트북", "책상", "캠핑");
+
+    enum Scenario {
+        LOGIN, LIST, SEARCH, DETAIL, COMMENT
+    }
+
+    private final int members = Integer.getInteger("load.members", 50);
+    private final int boardsPerMember = Integer.getInteger("load.boards-per-member", 20);
+    private final int commentsPerBoard = Integer.getInteger("load.comments-per-board", 5);
+    private final int concurrency = Integer.getInteger("load.concurrency", 100);
+    private final Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5L));
+    private final Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30L));
+    private final boolean virtualThreads = Boolean.getBoolean("load.virtual-threads");
+    private final Scenario[] mix = parseMix(System.getProperty("load.mix", "login:5,list:40,search:15,detail:30,comment:10"));
+
+    private final List<String> emails = new ArrayList<>();
+    private final List<Long> boardIds = new ArrayList<>();
+
+    private String baseUrl;
+    private HttpClient client;
+
+    public static void main(String[] args) throws Exception {
+        new ApiLoadGenerator().run();
+    }
+
+    void run() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MiniprojectApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.sql.init.mode=never",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .executor(Executors.newVirtualThreadPerTaskExecutor())
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            client = httpClient;
+
+            long seedStartedAt = System.nanoTime();
+            seed(context);
+            System.out.printf("seeded %d members, %d boards, %d comments in %.1fs%n",
+                    members, boardIds.size(), boardIds.size() * commentsPerBoard, (System.nanoTime() - seedStartedAt) / 1e9);
+
+            List<String> tokens = loginUsers();
+
+            drive(tokens, warmup);
+            Report report = drive(tokens, duration);
+            report.print(concurrency, virtualThreads);
+        }
+    }
+
+    // repository 로 직접 저장 (비밀번호 해시는 한 번만 계산해 모든 회원이 공유)
+    private void seed(ConfigurableApplicationContext context) {
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        BoardRepository boardRepository = context.getBean(BoardRepository.class);
+        CommentRepository commentRepository = context.getBean(CommentRepository.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        List<Member> savedMembers = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            String email = "load-" + runId + "-" + i + "@test.com";
+            savedMembers.add(memberRepository.save(Member.builder()
+                    .email(email)
+                    .nickname("load-" + runId + "-" + i)
+                    .password(encodedPassword)
+                    .build()));
+            emails.add(email);
+        }
+
+        for (Member member : savedMembers) {
+            List<Board> boards = new ArrayList<>();
+            for (int i = 0; i < boardsPerMember; i++) {
+                String keyword = KEYWORDS.get(ThreadLocalRandom.current().nextInt(KEYWORDS.size()));
+                boards.add(Board.builder()
+                        .title(keyword + " 판매합니다 " + i)
+                        .content(keyword + " 상태 좋습니다. 직거래 가능합니다.")
+                        .price(ThreadLocalRandom.current().nextInt(1, 100) * 1_000)
+                        .boardStatus(BoardStatus.판매중)
+                        .member(member)
+                        .build());
+            }
+            boardRepository.saveAll(boards).forEach(board -> boardIds.add(board.getId()));
+
+            List<Comment> comments = new ArrayList<>();
+            for (Board board : boards) {
+                for (int i = 0; i < commentsPerBoard; i++) {
+                    Member writer = savedMembers.get(ThreadLocalRandom.current().nextInt(savedMembers.size()));
+                    comments.add(Comment.builder().board(board).member(writer).content("댓글 " + i).build());
+                }
+            }
+            commentRepository.saveAll(comments);
+        }
+
+        // 댓글 수 / 검색 색인 / 대략적인 게시글 수를 시드 데이터 기준으로 맞춤
+        boardRepository.reconcileCommentSummary(boardIds.get(0), boardIds.get(boardIds.size() - 1), LocalDateTime.now());
+        if (context.getBean(BoardSearchEngine.class) instanceof InvertedIndexBoardSearchEngine index) {
+            index.rebuild();
+        }
+        context.getBean(ApproximateBoardCounter.class).refresh();
+    }
+
+    // 가상 사용자마다 한 번 로그인해 access token 확보
+    private List<String> loginUsers() throws Exception {
+        List<Future<String>> futures = new ArrayList<>();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < concurrency; u++) {
+                final String email = emails.get(u % emails.size());
+                futures.add(users.submit(() -> {
+                    for (int attempt = 0; attempt < 10; attempt++) {
+                        HttpResponse<Void> response = client.send(loginRequest(email), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() == 200) {
+                            return response.headers().firstValue("Authorization").orElseThrow();
+                        }
+                        Thread.sleep(200L); // 503 (BCrypt 풀 포화) 이면 잠시 후 재시도
+                    }
+                    throw new IllegalStateException("login failed: " + email);
+                }));
+            }
+        }
+
+        List<String> tokens = new ArrayList<>();
+        for (Future<String> future : futures) {
+            tokens.add(future.get());
+        }
+        return tokens;
+    }
+
+    private Report drive(List<String> tokens, Duration runFor) throws Exception {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + runFor.toNanos();
+        List<Future<Report>> futures = new ArrayList<>();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < concurrency; u++) {
+                final String token = tokens.get(u);
+                final String email = emails.get(u % emails.size());
+                futures.add(users.submit(() -> {
+                    Report report = new Report();
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = mix[ThreadLocalRandom.current().nextInt(mix.length)];
+                        HttpRequest request = request(scenario, token, email);
+
+                        long sentAt = System.nanoTime();
+                        boolean success;
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            success = status >= 200 && status < 300;
+                        } catch (Exception e) {
+                            success = false;
+                        }
+                        report.record(scenario, System.nanoTime() - sentAt, success);
+                    }
+                    return report;
+                }));
+            }
+        }
+
+        Report total = new Report();
+        for (Future<Report> future : futures) {
+            total.merge(future.get());
+        }
+        total.elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        return total;
+    }
+
+    private HttpRequest request(Scenario scenario, String token, String email) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long boardId = boardIds.get(random.nextInt(boardIds.size()));
+
+        return switch (scenario) {
+            case LOGIN -> loginRequest(email);
+            case LIST -> get("/boards?page=" + random.nextInt(5) + "&size=10", token);
+            case SEARCH -> get("/boards?size=10&keyword="
+                    + URLEncoder.encode(KEYWORDS.get(random.nextInt(KEYWORDS.size())), StandardCharsets.UTF_8), token);
+            case DETAIL -> get("/boards/" + boardId, token);
+            case COMMENT -> HttpRequest.newBuilder(URI.create(baseUrl + "/boards/" + boardId + "/comments"))
+                    .header("Authorization", token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"부하 테스트 댓글\"}"))
+                    .build();
+        };
+    }
+
+    private HttpRequest loginRequest(String email) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", token)
+                .GET()
+                .build();
+    }
+
+    // "login:5,list:40" -> 가중치만큼 시나리오를 채운 배열 (무작위 index 로 선택)
+    private static Scenario[] parseMix(String mix) {
+        List<Scenario> scenarios = new ArrayList<>();
+
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split(":");
+            Scenario scenario = Scenario.valueOf(pair[0].trim().toUpperCase());
+            int weight = Integer.parseInt(pair[1].trim());
+            for (int i = 0; i < weight; i++) {
+                scenarios.add(scenario);
+            }
+        }
+
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("load.mix is empty");
+        }
+        return scenarios.toArray(Scenario[]::new);
+    }
+
+    // 사용자(스레드) 별로 따로 기록한 뒤 마지막에 합침
+    static class Report {
+
+        private final Map<Scenario, LatencyRecorder> latencies = new EnumMap<>(Scenario.class);
+        private double elapsedSeconds;
+
+        void record(Scenario scenario, long nanos, boolean success) {
+            latencies.computeIfAbsent(scenario, key -> new LatencyRecorder()).record(nanos, success);
+        }
+
+        void merge(Report other) {
+            other.latencies.forEach((scenario, value) -> latencies.computeIfAbsent(scenario, key -> new LatencyRecorder()).merge(value));
+        }
+
+        void print(int concurrency, boolean virtualThreads) {
+            Map<String, LatencyRecorder> rows = new LinkedHashMap<>();
+            LatencyRecorder all = new LatencyRecorder();
+            latencies.forEach((scenario, value) -> {
+                rows.put(scenario.name().toLowerCase(), value);
+                all.merge(value);
+            });
+            rows.put("total", all);
+
+            System.out.printf("%nconcurrency=%d, virtual-threads=%s, duration=%.1fs%n", concurrency, virtualThreads, elapsedSeconds);
+            System.out.printf("%-10s %10s %8s %10s %9s %9s %9s %9s%n",
+                    "scenario", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+            rows.forEach((name, value) -> {
+                LatencyRecorder.Percentiles percentiles = value.percentiles();
+                System.out.printf("%-10s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                        name, value.count(), value.errors(), value.count() / elapsedSeconds,
+                        percentiles.millis(0.50), percentiles.millis(0.90), percentiles.millis(0.99), percentiles.millis(1.0));
+            });
+        }
+    }
+}
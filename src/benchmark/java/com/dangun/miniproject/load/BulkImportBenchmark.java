@@ -0,0 +1,107 @@
+package com.dangun.miniproject.load;
+
+import com.dangun.miniproject.MiniprojectApplication;
+import com.dangun.miniproject.board.dto.WriteBoardRequest;
+import com.dangun.miniproject.board.service.BoardService;
+import com.dangun.miniproject.comment.dto.WriteCommentRequest;
+import com.dangun.miniproject.comment.service.CommentService;
+import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 / 댓글 단건 등록 vs 일괄 등록 처리량 비교 (로컬 MySQL 필요, data.sql 로 초기화됨)
+ * - hibernate.jdbc.batch_size 를 1(배치 없음) / 50 으로 바꿔 애플리케이션을 두 번 띄우고 같은 작업을 반복
+ * - 단건: writeBoard / writeComment 를 건마다 호출 (건마다 트랜잭션 + INSERT 왕복)
+ * - 일괄: importBoards / importComments 로 import.chunk-size 건씩 등록
+ *
+ * ./gradlew importBenchmark -Dimport.rows=5000 -Dimport.chunk-size=1000
+ */
+public class BulkImportBenchmark {
+
+    private static final int ROWS = Integer.getInteger("import.rows", 5000);
+    private static final int CHUNK_SIZE = Integer.getInteger("import.chunk-size", 1000);
+    private static final String EMAIL = "jeongdong@google.com";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, Double> rowsPerSecond = new LinkedHashMap<>();
+
+        for (int batchSize : new int[]{1, 50}) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MiniprojectApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize)
+                    .run()) {
+
+                BoardService boardService = context.getBean(BoardService.class);
+                CommentService commentService = context.getBean(CommentService.class);
+                ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+                Member member = context.getBean(MemberRepository.class).findByEmail(EMAIL);
+                String suffix = " (batch_size=" + batchSize + ")";
+
+                // 예열
+                boardService.importBoards(boardRequests(100), member.getId());
+
+                rowsPerSecond.put("board   single" + suffix, measure(() -> {
+                    for (WriteBoardRequest request : boardRequests(ROWS)) {
+                        boardService.writeBoard(request, member.getId());
+                    }
+                }));
+                rowsPerSecond.put("board   bulk  " + suffix, measure(() -> {
+                    List<WriteBoardRequest> requests = boardRequests(ROWS);
+                    for (int from = 0; from < ROWS; from += CHUNK_SIZE) {
+                        boardService.importBoards(requests.subList(from, Math.min(from + CHUNK_SIZE, ROWS)), member.getId());
+                    }
+                }));
+
+                Long boardId = boardService.importBoards(boardRequests(1), member.getId()).getIds().get(0);
+                List<WriteCommentRequest> comments = commentRequests(objectMapper, ROWS);
+
+                rowsPerSecond.put("comment single" + suffix, measure(() -> {
+                    for (WriteCommentRequest request : comments) {
+                        commentService.writeComment(member, boardId, request);
+                    }
+                }));
+                rowsPerSecond.put("comment bulk  " + suffix, measure(() -> {
+                    for (int from = 0; from < ROWS; from += CHUNK_SIZE) {
+                        commentService.importComments(member, boardId, comments.subList(from, Math.min(from + CHUNK_SIZE, ROWS)));
+                    }
+                }));
+            }
+        }
+
+        System.out.printf("%nrows=%d, chunk-size=%d%n", ROWS, CHUNK_SIZE);
+        System.out.printf("%-36s %12s%n", "mode", "rows/s");
+        rowsPerSecond.forEach((mode, value) -> System.out.printf("%-36s %12.1f%n", mode, value));
+    }
+
+    private static double measure(Runnable task) {
+        long startedAt = System.nanoTime();
+        task.run();
+        return ROWS / ((System.nanoTime() - startedAt) / 1e9);
+    }
+
+    private static List<WriteBoardRequest> boardRequests(int count) {
+        List<WriteBoardRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new WriteBoardRequest("일괄 등록 " + i, "일괄 등록 게시글 내용 " + i, 1000 + i));
+        }
+        return requests;
+    }
+
+    // WriteCommentRequest 는 setter / 생성자가 없으므로 JSON 으로 생성
+    private static List<WriteCommentRequest> commentRequests(ObjectMapper objectMapper, int count) throws Exception {
+        List<WriteCommentRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(objectMapper.readValue("{\"content\":\"일괄 등록 댓글 " + i + "\"}", WriteCommentRequest.class));
+        }
+        return requests;
+    }
+}
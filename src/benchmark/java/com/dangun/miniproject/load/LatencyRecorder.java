@@ -0,0 +1,67 @@
+package com.dangun.miniproject.load;
+
+import java.util.Arrays;
+
+/**
+ * 부하 하네스 공용 지연 시간 기록기 (ApiLoadGenerator, ThreadModeLoadTest)
+ * - 사용자(스레드) 마다 하나씩 만들어 각자 배열에 기록 (공유 자료구조 경합 없음), 측정이 끝나면 merge 로 합침
+ * - 스레드 안전하지 않으므로 한 스레드에서만 record 하고, merge / percentiles 는 기록이 끝난 뒤 호출
+ */
+public class LatencyRecorder {
+
+    private long[] values = new long[1024];
+    private int size;
+    private long errors;
+
+    public void record(long nanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    // 기록한 값을 정렬한 사본 기준, 여러 백분위를 구할 때 한 번만 정렬하도록 묶어서 반환
+    public Percentiles percentiles() {
+        long[] sorted = Arrays.copyOf(values, size);
+        Arrays.sort(sorted);
+        return new Percentiles(sorted);
+    }
+
+    public static final class Percentiles {
+
+        private final long[] sorted;
+
+        private Percentiles(long[] sorted) {
+            this.sorted = sorted;
+        }
+
+        // nearest-rank 방식, 1.0 이면 최댓값 (ms)
+        public double millis(double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.dangun.miniproject.auth.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+
+@Getter
+@AllArgsConstructor
+public class LoginRequest {
+
+    private final String email;
+    private final String password;
+
+    // 요청 body 를 Map 으로 만들지 않고 streaming 으로 email / password 만 읽음 (그 외 필드는 건너뜀)
+    public static LoginRequest read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("로그인 요청은 JSON 객체여야 합니다.");
+        }
+
+        String email = null;
+        String password = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("email".equals(fieldName)) {
+                email = value.isScalarValue() ? parser.getValueAsString() : null;
+            } else if ("password".equals(fieldName)) {
+                password = value.isScalarValue() ? parser.getValueAsString() : null;
+            }
+
+            parser.skipChildren();
+        }
+
+        return new LoginRequest(email, password);
+    }
+}
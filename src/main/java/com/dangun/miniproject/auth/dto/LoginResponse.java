@@ -0,0 +1,25 @@
+package com.dangun.miniproject.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoginResponse {
+
+    private final String code;
+    private final String message;
+    private final String accessToken;
+    private final String refreshToken;
+
+    public static LoginResponse success(String accessToken, String refreshToken) {
+        return new LoginResponse(null, "Login Successful :)", accessToken, refreshToken);
+    }
+
+    public static LoginResponse failure(String code, String message) {
+        return new LoginResponse(code, message, null, null);
+    }
+}
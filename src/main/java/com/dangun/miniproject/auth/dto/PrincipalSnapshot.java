@@ -0,0 +1,15 @@
+package com.dangun.miniproject.auth.dto;
+
+import com.dangun.miniproject.member.domain.Member;
+
+/**
+ * 인증에 필요한 회원 정보만 복사한 불변 값 (PrincipalCacheService 캐시 값)
+ * - 여러 요청 스레드가 같은 값을 공유하므로 Member 엔티티 대신 사용 (지연 로딩 / 변경이 다른 요청에 새지 않음)
+ * - 비밀번호는 담지 않음, 권한은 ROLE_USER 고정 (UserDetailsDto)
+ */
+public record PrincipalSnapshot(Long id, String email, String nickname) {
+
+    public static PrincipalSnapshot from(Member member) {
+        return new PrincipalSnapshot(member.getId(), member.getEmail(), member.getNickname());
+    }
+}
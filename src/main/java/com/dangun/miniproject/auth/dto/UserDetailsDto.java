@@ -1,7 +1,6 @@
 package com.dangun.miniproject.auth.dto;
 
 import com.dangun.miniproject.member.domain.Member;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,11 +8,20 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
-@RequiredArgsConstructor
 public class UserDetailsDto implements UserDetails {
 
     private final Member member;
 
+    // 로그인(UserDetailsServiceImpl) 시 조회한 회원, 비밀번호 검증에 사용
+    public UserDetailsDto(Member member) {
+        this.member = member;
+    }
+
+    // JWTFilter 인증 시 캐시된 principal 로 요청마다 새 참조용 Member 생성 (비밀번호 없음)
+    public UserDetailsDto(PrincipalSnapshot principal) {
+        this.member = Member.reference(principal.id(), principal.email(), principal.nickname());
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_USER"));
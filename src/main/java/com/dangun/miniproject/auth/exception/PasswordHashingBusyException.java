@@ -0,0 +1,17 @@
+package com.dangun.miniproject.auth.exception;
+
+import lombok.Getter;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+// 비밀번호 해싱 풀이 가득 차 요청을 받을 수 없음 (503 + Retry-After 로 응답)
+// - ProviderManager 가 다른 provider 로 재시도하지 않고 바로 던지도록 InternalAuthenticationServiceException 상속
+@Getter
+public class PasswordHashingBusyException extends InternalAuthenticationServiceException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("요청이 많아 잠시 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,12 +1,13 @@
 package com.dangun.miniproject.auth.filter;
 
+import com.dangun.miniproject.auth.dto.PrincipalSnapshot;
 import com.dangun.miniproject.auth.dto.UserDetailsDto;
 import com.dangun.miniproject.auth.exception.ReissueAccessTokenException;
+import com.dangun.miniproject.auth.jwt.JWTClaims;
 import com.dangun.miniproject.auth.jwt.JWTUtil;
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
 import com.dangun.miniproject.auth.service.impl.TokenBlackListService;
-import com.dangun.miniproject.member.domain.Member;
-import com.dangun.miniproject.member.repository.MemberRepository;
-import io.jsonwebtoken.JwtException;
+import com.dangun.miniproject.common.config.StaticResourceConfig;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -20,20 +21,28 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
-    private final MemberRepository memberRepository;
+    private final PrincipalCacheService principalCacheService;
     private final TokenBlackListService tokenBlackListService;
     private final static long ACCESS_TOKEN_EXPIRE_TIME = 60 * 60 * 1000L;
 
+    // 토큰 검증 없이 통과시키는 경로 (요청마다 정규식을 돌리지 않도록 prefix / 정확히 일치하는 경로로만 비교)
+    // 정적 리소스는 대부분 SecurityConfig 의 ignoring 으로 필터 체인을 거치지 않음
+    private final static List<String> PERMIT_PREFIXES = List.of(
+            "/auth/", "/static/", "/resources/", StaticResourceConfig.ASSETS_PATH, "/css/", "/js/", "/images/", "/html/");
+    private final static Set<String> PERMIT_PATHS = Set.of("/", "/index.html", "/favicon.ico");
+
     @Override
     public void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String uri = request.getRequestURI();
 
-        if (uri.startsWith("/auth/") || uri.equals("/") || uri.startsWith("/static/") || uri.startsWith("/resources/") || uri.matches(".*\\.(html|css|js|png|jpg|jpeg|ico)$")) {
+        if (isPermitPath(uri)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -61,37 +70,29 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        try {
-            boolean isExpireAccess = jwtUtil.isExpiredTokenAccess(accessToken);
+        JWTClaims claims = jwtUtil.parseToken(accessToken);
 
-            if (isExpireAccess) {
-                reissueAccessToken(request, response, filterChain);
-                return;
-            }
-        } catch (JwtException e) {
-            throw e;
+        if (claims.isExpired()) {
+            reissueAccessToken(request, response, filterChain);
+            return;
         }
 
-        String category = jwtUtil.getJwtCategory(accessToken);
-
-        if (!category.equals("accessToken")) {
+        if (!claims.isAccessToken()) {
             response.getWriter().write("not accessToken");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
 
-        String email = jwtUtil.getMemberEmail(accessToken);
-        Member member = memberRepository.findByEmail(email);
+        String email = claims.getEmail();
+        PrincipalSnapshot principal = principalCacheService.getPrincipal(email);
 
-        if (member == null) {
+        if (principal == null) {
             response.getWriter().write("not found member");
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
             return;
         }
 
-        UserDetailsDto customUserDetails = new UserDetailsDto(member);
-        Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
-        SecurityContextHolder.getContext().setAuthentication(authToken);
+        setAuthentication(principal);
 
         filterChain.doFilter(request, response);
     }
@@ -118,21 +119,23 @@ public class JWTFilter extends OncePerRequestFilter {
             throw new ReissueAccessTokenException("refreshToken null");
         }
 
-        if(jwtUtil.isExpiredTokenRefresh(refreshToken)){
+        JWTClaims refreshClaims = jwtUtil.parseToken(refreshToken);
+
+        if (refreshClaims.isExpired()) {
             response.getWriter().write("refreshToken expired");
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             throw new ReissueAccessTokenException("refreshToken expired");
         }
 
-        String email = jwtUtil.getMemberEmail(refreshToken);
-        Member member = memberRepository.findByEmail(email);
+        String email = refreshClaims.getEmail();
+        PrincipalSnapshot principal = principalCacheService.getPrincipal(email);
 
-        if (member == null) {
+        if (principal == null) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             throw new UsernameNotFoundException("User not found");
         }
 
-        String nickname = member.getNickname();
+        String nickname = principal.nickname();
 
         String accessToken = jwtUtil.createJwtAccess("accessToken", email, nickname, ACCESS_TOKEN_EXPIRE_TIME);
 
@@ -140,13 +143,26 @@ public class JWTFilter extends OncePerRequestFilter {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
-        setAuthentication(member);
+        setAuthentication(principal);
 
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(Member member) {
-        UserDetailsDto customUserDetails = new UserDetailsDto(member);
+    private boolean isPermitPath(String uri) {
+        if (PERMIT_PATHS.contains(uri)) {
+            return true;
+        }
+
+        for (String prefix : PERMIT_PREFIXES) {
+            if (uri.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void setAuthentication(PrincipalSnapshot principal) {
+        UserDetailsDto customUserDetails = new UserDetailsDto(principal);
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
     }
@@ -1,13 +1,19 @@
 package com.dangun.miniproject.auth.filter;
 
+import com.dangun.miniproject.auth.dto.LoginRequest;
+import com.dangun.miniproject.auth.dto.LoginResponse;
 import com.dangun.miniproject.auth.dto.UserDetailsDto;
+import com.dangun.miniproject.auth.exception.PasswordHashingBusyException;
 import com.dangun.miniproject.auth.jwt.JWTUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -16,32 +22,41 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
-@RequiredArgsConstructor
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+
+    // 애플리케이션 공용 ObjectMapper 에서 한 번만 만들어 재사용 (응답 writer 를 닫지 않도록 AUTO_CLOSE_TARGET 해제)
+    private final ObjectWriter responseWriter;
 
     private final static long ACCESS_TOKEN_EXPIRE_TIME = 60 * 60 * 1000L;
     private final static long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000L;
 
+    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, ObjectMapper objectMapper) {
+        this.authenticationManager = authenticationManager;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.responseWriter = objectMapper.writerFor(LoginResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
-        try {
-            Map<String, String> requestBody = new ObjectMapper().readValue(request.getInputStream(), Map.class);
-
-            String email = requestBody.get("email");
-            String password = requestBody.get("password");
-
-            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(email, password);
+        LoginRequest loginRequest;
 
-            return authenticationManager.authenticate(authToken);
+        try (JsonParser parser = objectMapper.getFactory().createParser(request.getInputStream())) {
+            loginRequest = LoginRequest.read(parser);
         } catch (IOException e) {
             throw new BadCredentialsException("LoginFilter : Request JSON 요청 파싱 중 오류 발생", e);
         }
+
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword());
+
+        return authenticationManager.authenticate(authToken);
     }
 
     @Override
@@ -57,29 +72,29 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         response.addCookie(createCookie("refreshToken", refreshToken));
 
         // response
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
-        Map<String, String> data = new HashMap<>();
-        data.put("message", "Login Successful :)");
-        data.put("accessToken", accessToken);
-        data.put("refreshToken", refreshToken);
-
-        response.getWriter().write(new ObjectMapper().writeValueAsString(data));
+        writeResponse(response, LoginResponse.success(accessToken, refreshToken));
     }
 
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException {
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
+        // 비밀번호 검증 풀이 가득 찬 경우 -> 인증 실패가 아니므로 503 + Retry-After
+        if (failed instanceof PasswordHashingBusyException busy) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(busy.getRetryAfterSeconds()));
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            writeResponse(response, LoginResponse.failure("AUTH_F503", busy.getMessage()));
+            return;
+        }
 
-        Map<String, String> data = new HashMap<>();
-        data.put("code", "AUTH_F000");
-        data.put("message", "Login Failed.. -> Id / Password invalid..");
+        response.setStatus(400);
+        writeResponse(response, LoginResponse.failure("AUTH_F000", "Login Failed.. -> Id / Password invalid.."));
+    }
 
-        response.getWriter().write(new ObjectMapper().writeValueAsString(data));
+    // 문자열로 직렬화하지 않고 응답 writer 에 바로 씀
+    private void writeResponse(HttpServletResponse response, LoginResponse body) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
 
-        response.setStatus(400);
+        responseWriter.writeValue(response.getWriter(), body);
     }
 
     private Cookie createCookie(String key, String value) {
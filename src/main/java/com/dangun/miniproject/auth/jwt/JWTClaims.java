@@ -0,0 +1,43 @@
+package com.dangun.miniproject.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 서명 검증이 끝난 토큰의 claim 묶음 (요청당 한 번만 파싱)
+@Getter
+public class JWTClaims {
+
+    private final String category;
+    private final String email;
+    private final String nickname;
+    private final Date expiration;
+    private final boolean expired;
+
+    @Builder
+    private JWTClaims(String category, String email, String nickname, Date expiration, boolean expired) {
+        this.category = category;
+        this.email = email;
+        this.nickname = nickname;
+        this.expiration = expiration;
+        this.expired = expired;
+    }
+
+    static JWTClaims of(Claims claims, boolean expired) {
+        Date expiration = claims.getExpiration();
+
+        return JWTClaims.builder()
+                .category(claims.get("category", String.class))
+                .email(claims.get("email", String.class))
+                .nickname(claims.get("nickname", String.class))
+                .expiration(expiration)
+                .expired(expired || (expiration != null && expiration.before(new Date())))
+                .build();
+    }
+
+    public boolean isAccessToken() {
+        return "accessToken".equals(category);
+    }
+}
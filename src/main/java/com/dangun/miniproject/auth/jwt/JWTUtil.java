@@ -1,7 +1,7 @@
 package com.dangun.miniproject.auth.jwt;
 
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -17,69 +17,47 @@ import java.util.Date;
 public class JWTUtil {
 
     private SecretKey secretKey;
+    private final JwtParser jwtParser;
 
     public JWTUtil(@Value("${jwt.secretKey}") String secret) {
         byte[] decodedKey = Base64.getDecoder().decode(secret);
         this.secretKey = Keys.hmacShaKeyFor(decodedKey);  // HMAC-SHA 알고리즘용 키 생성
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();  // 파서는 thread-safe 하므로 한 번만 생성
+    }
+
+    // 토큰 서명 검증 및 claim 추출을 한 번에 처리 (만료된 토큰은 expired = true 로 반환)
+    public JWTClaims parseToken(String token) {
+        try {
+            return JWTClaims.of(jwtParser.parseSignedClaims(token).getPayload(), false);
+        } catch (ExpiredJwtException e) {
+            return JWTClaims.of(e.getClaims(), true);
+        }
     }
 
     // 토큰 내 member email 추출
     public String getMemberEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload().get("email", String.class);
     }
 
     // 액세스 토큰 내 member nickname 추출
     public String getMemberNickname(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload().get("nickname", String.class);
     }
 
     public String getJwtCategory(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
+        return jwtParser.parseSignedClaims(token)
                 .getPayload().get("category", String.class);
     }
 
     public boolean isExpiredTokenAccess(String token) {
-        try {
-            // 토큰 파싱 및 유효성 검사
-            Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-
-            // 만료 시간 검사
-            Date expirationDate = Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody().getExpiration();
-            return expirationDate.before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true;
-        } catch (JwtException e) {
-            throw e;
-        }
+        return parseToken(token).isExpired();
     }
 
     // 리프레쉬 토큰 만료 시간 검증
     public boolean isExpiredTokenRefresh(String token) {
-        try {
-            Jwts.parser().verifyWith(secretKey)
-                    .build().parseSignedClaims(token);
-        }catch (ExpiredJwtException e){
-            return true;
-        }
-        return false;
+        return parseToken(token).isExpired();
     }
 
     public String createJwtAccess(String category, String email, String nickname, Long expireTime) {
@@ -0,0 +1,14 @@
+package com.dangun.miniproject.auth.service;
+
+// 로그아웃 토큰 블랙 리스트 저장소 (auth.blacklist.store = memory | jdbc)
+public interface TokenBlackListStore {
+
+    // 새로 등록되면 true, 이미 등록된 digest 면 false
+    boolean add(String tokenDigest, long expiresAt);
+
+    boolean contains(String tokenDigest);
+
+    void removeExpired(long now);
+
+    int size();
+}
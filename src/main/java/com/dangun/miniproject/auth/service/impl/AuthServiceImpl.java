@@ -1,5 +1,6 @@
 package com.dangun.miniproject.auth.service.impl;
 
+import com.dangun.miniproject.auth.jwt.JWTClaims;
 import com.dangun.miniproject.auth.jwt.JWTUtil;
 import com.dangun.miniproject.auth.service.AuthService;
 import com.dangun.miniproject.auth.service.validator.SignupValidator;
@@ -11,7 +12,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,7 +20,7 @@ import org.springframework.stereotype.Service;
 public class AuthServiceImpl implements AuthService {
 
     private final MemberRepository memberRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final SignupValidator signupValidator;
     private final TokenBlackListService tokenBlackListService;
     private final JWTUtil jwtUtil;
@@ -28,7 +29,7 @@ public class AuthServiceImpl implements AuthService {
     public Member signupMember(GetMemberRequest memberReq) {
         signupValidator.validateMember(memberReq);
         Member member = memberReq.toEntity();
-        member.updatePassword(bCryptPasswordEncoder.encode(member.getPassword()));
+        member.updatePassword(passwordEncoder.encode(member.getPassword()));
 
         memberRepository.save(member);
         return member;
@@ -46,8 +47,8 @@ public class AuthServiceImpl implements AuthService {
         String accessToken = authorizationHeader.substring(7);
 
         try {
-            jwtUtil.isExpiredTokenAccess(accessToken);
-            tokenBlackListService.addBlackListToken(accessToken);
+            JWTClaims claims = jwtUtil.parseToken(accessToken);
+            tokenBlackListService.addBlackListToken(accessToken, claims.getExpiration());
 
             Cookie refreshTokenCookie = new Cookie("refreshToken", null);
             refreshTokenCookie.setPath("/");
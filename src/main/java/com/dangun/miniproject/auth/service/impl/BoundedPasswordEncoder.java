@@ -0,0 +1,30 @@
+package com.dangun.miniproject.auth.service.impl;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 실제 해싱 / 검증은 위임 encoder 가 하고, 실행은 PasswordHashingExecutor 의 제한된 풀에서 처리
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor) {
+        this.delegate = delegate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,36 @@
+package com.dangun.miniproject.auth.service.impl;
+
+import com.dangun.miniproject.auth.service.TokenBlackListStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 단일 인스턴스용 JVM 내부 저장소 (기본값)
+@Component
+@ConditionalOnProperty(name = "auth.blacklist.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenBlackListStore implements TokenBlackListStore {
+
+    private final Map<String, Long> tokenBlackList = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean add(String tokenDigest, long expiresAt) {
+        return tokenBlackList.putIfAbsent(tokenDigest, expiresAt) == null;
+    }
+
+    @Override
+    public boolean contains(String tokenDigest) {
+        return tokenBlackList.containsKey(tokenDigest);
+    }
+
+    @Override
+    public void removeExpired(long now) {
+        tokenBlackList.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    @Override
+    public int size() {
+        return tokenBlackList.size();
+    }
+}
@@ -0,0 +1,102 @@
+package com.dangun.miniproject.auth.service.impl;
+
+import com.dangun.miniproject.auth.service.TokenBlackListStore;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 인스턴스가 공유하는 token_black_list 테이블 기반 저장소
+ * - 등록은 테이블에 바로 INSERT, 다른 노드는 등록 시각(created_at, DB 시계) 기준으로 증분 polling
+ * - polling 은 직전 조회 시각보다 poll-lookback-ms 만큼 앞에서부터 다시 읽어 늦게 커밋된 행을 반영
+ * - 그보다 늦게 커밋된 행은 만료 정리 시 만료되지 않은 행 전체를 다시 읽어 반영
+ * - 요청마다 호출되는 contains 는 로컬 사본만 조회 (DB 접근 없음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.blacklist.store", havingValue = "jdbc")
+public class JdbcTokenBlackListStore implements TokenBlackListStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long pollLookbackMillis;
+
+    private final Map<String, Long> localCopy = new ConcurrentHashMap<>();
+    private Timestamp lastPolledAt; // 직전 polling 시작 시각 (DB 시계), null 이면 전체 조회
+
+    public JdbcTokenBlackListStore(JdbcTemplate jdbcTemplate,
+                                   @Value("${auth.blacklist.jdbc.poll-lookback-ms:10000}") long pollLookbackMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollLookbackMillis = pollLookbackMillis;
+    }
+
+    // 테이블은 Flyway (V5__add_token_black_list.sql) 에서 생성
+    @PostConstruct
+    public void init() {
+        poll();
+    }
+
+    @Override
+    public boolean add(String tokenDigest, long expiresAt) {
+        try {
+            jdbcTemplate.update("INSERT INTO token_black_list (token_digest, expires_at) VALUES (?, ?)", tokenDigest, expiresAt);
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+
+        localCopy.put(tokenDigest, expiresAt);
+        return true;
+    }
+
+    @Override
+    public boolean contains(String tokenDigest) {
+        return localCopy.containsKey(tokenDigest);
+    }
+
+    // 다른 노드에서 등록된 토큰을 증분으로 가져옴
+    @Scheduled(fixedDelayString = "${auth.blacklist.jdbc.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        Timestamp pollStartedAt = jdbcTemplate.queryForObject("SELECT NOW(6)", Timestamp.class);
+
+        if (lastPolledAt == null) {
+            load("SELECT token_digest, expires_at FROM token_black_list WHERE expires_at > ?",
+                    System.currentTimeMillis());
+        } else {
+            load("SELECT token_digest, expires_at FROM token_black_list WHERE created_at >= ? AND expires_at > ?",
+                    new Timestamp(lastPolledAt.getTime() - pollLookbackMillis), System.currentTimeMillis());
+        }
+        lastPolledAt = pollStartedAt;
+    }
+
+    @Override
+    public synchronized void removeExpired(long now) {
+        int deleted = jdbcTemplate.update("DELETE FROM token_black_list WHERE expires_at <= ?", now);
+        if (deleted > 0) {
+            log.debug("token_black_list expired rows deleted: {}", deleted);
+        }
+
+        localCopy.values().removeIf(expiresAt -> expiresAt <= now);
+
+        // polling 범위보다 늦게 커밋된 행이 있어도 다음 정리 주기 안에는 반영되도록 전체 다시 조회
+        load("SELECT token_digest, expires_at FROM token_black_list WHERE expires_at > ?", now);
+    }
+
+    @Override
+    public int size() {
+        return localCopy.size();
+    }
+
+    private void load(String sql, Object... args) {
+        jdbcTemplate.query(sql, rs -> {
+            localCopy.put(rs.getString("token_digest"), rs.getLong("expires_at"));
+        }, args);
+    }
+}
@@ -0,0 +1,176 @@
+package com.dangun.miniproject.auth.service.impl;
+
+import com.dangun.miniproject.auth.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 / 검증(BCrypt) 전용 스레드 풀
+ * - 동시에 실행되는 BCrypt 는 풀 크기로, 대기 요청은 큐 크기로 제한해 로그인 폭주 시에도 Tomcat 스레드가 모두 묶이지 않게 함
+ * - 큐까지 가득 차거나 대기 시간이 초과되면 PasswordHashingBusyException (503 + Retry-After)
+ * - 시간 초과 시 future.cancel(true) 는 큐에서 대기 중인 작업만 막음, BCrypt 는 interrupt 를 확인하지 않으므로
+ *   이미 시작한 해싱은 끝까지 실행되어 풀 스레드를 계속 점유함
+ *   (timeout-ms 는 BCrypt 1회 시간 x (queue-capacity / pool-size + 1) 이상으로 잡아야 정상 부하에서 시간 초과가 나지 않음)
+ * - 큐에서 꺼낸 시점에 이미 timeout-ms 가 지났다면 호출자는 응답을 받은 뒤이므로 해싱을 시작하지 않음
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder hashingNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxHashingNanos = new LongAccumulator(Math::max, 0L);
+    private final AtomicBoolean slowHashingWarned = new AtomicBoolean();
+
+    public PasswordHashingExecutor(@Value("${auth.password-hashing.pool-size:0}") int poolSize,
+                                   @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${auth.password-hashing.timeout-ms:5000}") long timeoutMillis,
+                                   @Value("${auth.password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        // 0 이하면 CPU 코어 수 (BCrypt 는 CPU 작업이므로 코어 수 이상은 의미 없음)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    // 풀에서 실행하고 결과를 기다림, 풀이 가득 찼으면 바로 거절
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                if (startedAt - submittedAt >= TimeUnit.MILLISECONDS.toNanos(timeoutMillis)) {
+                    expiredCount.increment();
+                    throw new CancellationException("password hashing expired in queue");
+                }
+
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.get();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    hashingNanos.add(elapsed);
+                    maxHashingNanos.accumulate(elapsed);
+                    completedCount.increment();
+                    warnIfSlowerThanTimeout(elapsed);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기 중이면 실행되지 않음, 이미 실행 중인 BCrypt 는 멈추지 않음
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // BCrypt 1회가 timeout-ms 보다 길면 모든 요청이 시간 초과되므로 설정 오류로 한 번 경고
+    private void warnIfSlowerThanTimeout(long elapsedNanos) {
+        if (elapsedNanos > TimeUnit.MILLISECONDS.toNanos(timeoutMillis) && slowHashingWarned.compareAndSet(false, true)) {
+            log.warn("password hashing took {} ms, longer than auth.password-hashing.timeout-ms={} ms",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), timeoutMillis);
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    // 큐에서 기다리는 동안 시간이 초과되어 실행하지 않은 작업 수
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    public double getAverageHashingMillis() {
+        long completed = completedCount.sum();
+        return completed == 0 ? 0.0 : hashingNanos.sum() / 1_000_000.0 / completed;
+    }
+
+    public double getMaxHashingMillis() {
+        return maxHashingNanos.get() / 1_000_000.0;
+    }
+
+    public double getAverageQueueWaitMillis() {
+        long completed = completedCount.sum();
+        return completed == 0 ? 0.0 : queueWaitNanos.sum() / 1_000_000.0 / completed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("password hashing executor shut down: completed={}, rejected={}", getCompletedCount(), getRejectedCount());
+    }
+}
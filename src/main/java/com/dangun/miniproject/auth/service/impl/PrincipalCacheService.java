@@ -0,0 +1,79 @@
+package com.dangun.miniproject.auth.service.impl;
+
+import com.dangun.miniproject.auth.dto.PrincipalSnapshot;
+import com.dangun.miniproject.common.cache.ExpiringCache;
+import com.dangun.miniproject.common.transaction.TransactionCallbacks;
+import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// JWTFilter 인증 시 email -> 회원 조회 결과 캐시 (요청마다 SELECT 방지)
+// 여러 요청이 공유하므로 Member 엔티티가 아닌 불변 PrincipalSnapshot 으로 저장
+@Service
+public class PrincipalCacheService {
+
+    private final MemberRepository memberRepository;
+
+    private final ExpiringCache<String, PrincipalSnapshot> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public PrincipalCacheService(MemberRepository memberRepository,
+                                 @Value("${auth.principal-cache.max-size:10000}") int maxSize,
+                                 @Value("${auth.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = new ExpiringCache<>(maxSize, ttlSeconds * 1000L);
+    }
+
+    // 캐시 조회 후 없으면 DB 조회 (존재하지 않는 회원은 캐시하지 않음)
+    public PrincipalSnapshot getPrincipal(String email) {
+        PrincipalSnapshot cached = cache.get(email);
+
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        long loadGeneration = generation.get();
+        Member member = memberRepository.findByEmail(email);
+        if (member == null) {
+            return null;
+        }
+
+        PrincipalSnapshot principal = PrincipalSnapshot.from(member);
+        // 조회 도중 무효화가 일어났다면 이전 값일 수 있으므로 저장하지 않음
+        if (loadGeneration == generation.get()) {
+            cache.put(email, principal);
+        }
+
+        return principal;
+    }
+
+    // 회원 정보 변경 / 탈퇴 시 호출, 트랜잭션 안이라면 커밋 후 한 번 더 무효화
+    public void evict(String email) {
+        TransactionCallbacks.nowAndAfterCommit(() -> invalidate(email));
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void invalidate(String email) {
+        generation.incrementAndGet();
+        cache.remove(email);
+    }
+}
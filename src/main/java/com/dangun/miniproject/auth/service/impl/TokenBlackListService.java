@@ -1,23 +1,49 @@
 package com.dangun.miniproject.auth.service.impl;
 
+import com.dangun.miniproject.auth.service.TokenBlackListStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
 
 @Service
+@RequiredArgsConstructor
 public class TokenBlackListService {
 
-    private final Set<String> tokenBlackList = new HashSet<>();
+    // 토큰 원문 대신 SHA-256 digest 와 토큰 만료 시각(ms)만 저장소에 보관
+    private final TokenBlackListStore tokenBlackListStore;
 
-    public void addBlackListToken(String token) {
-        if (isBlackListToken(token)) {
+    public void addBlackListToken(String token, Date expiration) {
+        if (!tokenBlackListStore.add(digest(token), expiration.getTime())) {
             throw new RuntimeException("이미 블랙 리스트에 등록 된 토큰입니다.");
         }
-        tokenBlackList.add(token);
     }
 
     public boolean isBlackListToken(String token) {
-        return tokenBlackList.contains(token);
+        return tokenBlackListStore.contains(digest(token));
+    }
+
+    // 만료 시각이 지난 토큰은 어차피 검증에서 걸러지므로 주기적으로 제거
+    @Scheduled(fixedDelayString = "${auth.blacklist.sweep-interval-ms:60000}")
+    public void removeExpiredTokens() {
+        tokenBlackListStore.removeExpired(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return tokenBlackListStore.size();
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -4,49 +4,96 @@ import com.dangun.miniproject.auth.dto.UserDetailsDto;
 import com.dangun.miniproject.board.dto.*;
 import com.dangun.miniproject.board.service.BoardService;
 import com.dangun.miniproject.common.ApiResponse;
+import com.dangun.miniproject.common.etag.ConditionalGet;
+import com.dangun.miniproject.common.etag.ResourceVersions;
+import com.dangun.miniproject.common.etag.Versioned;
 import com.dangun.miniproject.member.domain.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/boards")
 public class BoardController {
 
+	private static final String COUNT_EXACT = "exact";
+	private static final String COUNT_APPROX = "approx";
+
 	private final BoardService boardService;
+	private final ResourceVersions resourceVersions;
 
 	// 게시글 상세 조회
+	// - If-None-Match 가 있을 때만 현재 버전을 읽고, 같으면 게시글을 읽지 않고 304
+	// - If-None-Match 가 없으면 버전을 따로 읽지 않고 캐시 항목의 버전으로 ETag 설정
 	@GetMapping("/{boardId}")
-	public ResponseEntity<?> getBoardDetail(@PathVariable("boardId") final Long boardId) {
+	public ResponseEntity<?> getBoardDetail(@PathVariable("boardId") final Long boardId, final WebRequest request) {
+		String currentVersion = null;
+		if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+			currentVersion = resourceVersions.boardVersion(boardId);
+			if (ConditionalGet.notModified(request, ConditionalGet.eTag(ResourceVersions.BOARDS, boardId, currentVersion))) {
+				return null;
+			}
+		}
+
+		final Versioned<GetBoardDetailResponse> detail = boardService.getBoardDetail(boardId, currentVersion);
+		if (currentVersion == null) {
+			ConditionalGet.notModified(request, ConditionalGet.eTag(ResourceVersions.BOARDS, boardId, detail.version()));
+		}
 
 		return ApiResponse.ok(
 			 "BOARD-S002",
-			boardService.getBoardDetail(boardId),
+			detail.body(),
 			"Board Read Success"
 		);
 	}
 
 	// 게시글 목록 조회
+	// - 기본은 COUNT 없이 hasNext 만 반환, count=approx 이면 대략적인 전체 개수, count=exact 이면 기존 Page 응답
 	@GetMapping
 	public ResponseEntity<?> getBoardList(
 			@RequestParam(value = "keyword", required = false) final String keyword,
-			final Pageable pageable
+			@RequestParam(value = "cursor", required = false) final String cursor,
+			@RequestParam(value = "count", required = false) final String count,
+			final Pageable pageable,
+			final WebRequest request
 	) {
+		// 키워드 검색은 인스턴스마다 따로 갱신되는 역색인을 쓰므로 ETag 없이 매번 조회
 		if (keyword != null && !keyword.isEmpty()) {
 			return ApiResponse.ok(
 				"BOARD-S002",
-				boardService.getBoardList(keyword, pageable),
+				COUNT_EXACT.equalsIgnoreCase(count)
+					? boardService.getBoardList(keyword, pageable)
+					: boardService.searchBoardSlice(keyword, pageable),
+				"Board Sorted List Success"
+			);
+		}
+
+		if (ConditionalGet.notModified(request, ConditionalGet.eTag(ResourceVersions.BOARDS, "*", resourceVersions.boardListVersion()))) {
+			return null;
+		}
+
+		// cursor 파라미터가 있으면 (첫 페이지는 빈 값) keyset 방식으로 조회
+		if (cursor != null) {
+			return ApiResponse.ok(
+				"BOARD-S002",
+				boardService.getBoardListByCursor(cursor, pageable.getPageSize()),
 				"Board Sorted List Success"
 			);
 		}
 
 		return ApiResponse.ok(
 			"BOARD-S002",
-			boardService.getBoardList(pageable),
+			COUNT_EXACT.equalsIgnoreCase(count)
+				? boardService.getBoardList(pageable)
+				: boardService.getBoardSlice(pageable, COUNT_APPROX.equalsIgnoreCase(count)),
 			"Board Sorted List Success"
 		);
 	}
@@ -55,19 +102,24 @@ public class BoardController {
 	@GetMapping("/my-board")
 	public ResponseEntity<?> getMyBoardList(
 			@AuthenticationPrincipal(expression = "member") final Member member,
-			final Pageable pageable
+			@RequestParam(value = "count", required = false) final String count,
+			final Pageable pageable,
+			final WebRequest request
 	) {
+		// 사용자마다 목록이 다르므로 회원 id 로 ETag 구분
+		if (ConditionalGet.notModified(request, ConditionalGet.eTag(ResourceVersions.BOARDS, member.getId(), resourceVersions.boardListVersion()))) {
+			return null;
+		}
 
 		return ApiResponse.ok(
 			"BOARD-S002",
-			boardService.getMyBoardList(member.getId(), pageable),
+			COUNT_EXACT.equalsIgnoreCase(count)
+				? boardService.getMyBoardList(member.getId(), pageable)
+				: boardService.getMyBoardSlice(member.getId(), pageable),
 			"My Board List Success"
 		);
 	}
 
-
-
-
 	// 게시글 생성
 	@PostMapping
 	public ResponseEntity<WriteBoardResponse> writeBoard(
@@ -78,6 +130,20 @@ public class BoardController {
 		return new ResponseEntity<>(response, HttpStatus.CREATED);
 	}
 
+	// 게시글 일괄 생성
+	@PostMapping("/bulk")
+	public ResponseEntity<?> importBoards(
+			@AuthenticationPrincipal UserDetailsDto userDetailsDto,
+			@RequestBody List<WriteBoardRequest> writeBoardRequests) {
+		Long memberId = userDetailsDto.getMember().getId();
+		return ApiResponse.created(
+			"",
+			"BOARD-S005",
+			boardService.importBoards(writeBoardRequests, memberId),
+			"Board Bulk Write Success"
+		);
+	}
+
 	// 게시글 수정
 	@PutMapping("/{boardId}")
 	public ResponseEntity<UpdateBoardResponse> updateBoard(
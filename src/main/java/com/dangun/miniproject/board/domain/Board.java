@@ -8,7 +8,10 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,12 +19,22 @@ import static jakarta.persistence.FetchType.LAZY;
 
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_board_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_board_member_id_created_at", columnList = "member_id, created_at"),
+        @Index(name = "idx_board_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_board_updated_at", columnList = "updated_at")
+})
+// 삭제 표시된 게시글은 모든 엔티티 / JPQL 조회에서 제외 (실제 삭제는 BoardPurger)
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @NoArgsConstructor
 public class Board extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // JDBC batch insert 를 위해 IDENTITY 대신 board_seq 테이블에서 id 를 범위 단위로 할당 (pooled-lo)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -34,6 +47,19 @@ public class Board extends BaseEntity {
     @Column(name = "board_status")
     private BoardStatus boardStatus;
 
+    // 댓글 수 (COUNT 쿼리 대신 댓글 작성 / 삭제 시 갱신)
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
+    // 마지막 댓글 작성 시각 (댓글이 없으면 null, 목록에서는 작성일로 대체)
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+
+    // 삭제 요청 시각 (null 이면 정상 게시글)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @ManyToOne(fetch = LAZY)
     private Member member;
 
@@ -56,4 +82,13 @@ public class Board extends BaseEntity {
         this.price = price;
         this.boardStatus = boardStatus;
     }
+
+    // 삭제 표시만 하고 댓글과 함께 실제 삭제는 백그라운드에서 처리
+    public void softDelete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
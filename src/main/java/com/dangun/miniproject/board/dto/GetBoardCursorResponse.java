@@ -0,0 +1,32 @@
+package com.dangun.miniproject.board.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import com.dangun.miniproject.common.dto.KeysetCursor;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class GetBoardCursorResponse {
+	private List<GetBoardResponse> content;
+	private boolean hasNext;
+	private String nextCursor;
+
+	public static GetBoardCursorResponse from(final Slice<GetBoardResponse> slice) {
+		final GetBoardCursorResponse cursorResponse = new GetBoardCursorResponse();
+
+		cursorResponse.content = slice.getContent();
+		cursorResponse.hasNext = slice.hasNext();
+
+		if (slice.hasNext() && !slice.getContent().isEmpty()) {
+			final GetBoardResponse last = slice.getContent().get(slice.getContent().size() - 1);
+			cursorResponse.nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+		}
+
+		return cursorResponse;
+	}
+}
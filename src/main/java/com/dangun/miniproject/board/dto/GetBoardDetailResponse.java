@@ -2,6 +2,7 @@ package com.dangun.miniproject.board.dto;
 
 import com.dangun.miniproject.board.domain.Board;
 import com.dangun.miniproject.board.domain.BoardStatus;
+import com.dangun.miniproject.comment.dto.GetCommentCursorResponse;
 import com.dangun.miniproject.comment.dto.GetCommentResponse;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,7 +22,24 @@ public class GetBoardDetailResponse {
     private Integer price;
     private BoardStatus boardStatus;
     private LocalDateTime createdAt;
+    private int commentCount;
+    // 댓글은 첫 페이지만 포함, 이후는 GET /boards/{boardId}/comments?cursor= 로 조회
     private List<GetCommentResponse> comments = new ArrayList<>();
+    private String nextCommentCursor;
+
+    public GetBoardDetailResponse(final Long id, final String title, final String content, final String writer,
+                                  final String writerStreetAddress, final Integer price, final BoardStatus boardStatus,
+                                  final LocalDateTime createdAt, final int commentCount) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.writer = writer;
+        this.writerStreetAddress = writerStreetAddress;
+        this.price = price;
+        this.boardStatus = boardStatus;
+        this.createdAt = createdAt;
+        this.commentCount = commentCount;
+    }
 
     public static GetBoardDetailResponse from(final Board board) {
         final GetBoardDetailResponse boardResponse = new GetBoardDetailResponse();
@@ -34,7 +52,14 @@ public class GetBoardDetailResponse {
         boardResponse.price = board.getPrice();
         boardResponse.boardStatus = board.getBoardStatus();
         boardResponse.createdAt = board.getCreatedAt();
+        boardResponse.commentCount = board.getCommentCount();
 
         return boardResponse;
     }
+
+    // 댓글 첫 페이지 설정
+    public void addCommentPage(final GetCommentCursorResponse commentPage) {
+        this.comments.addAll(commentPage.getContent());
+        this.nextCommentCursor = commentPage.getNextCursor();
+    }
 }
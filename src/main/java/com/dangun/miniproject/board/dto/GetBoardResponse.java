@@ -17,6 +17,8 @@ public class GetBoardResponse {
 	private Integer price;
 	private BoardStatus boardStatus;
 	private LocalDateTime createdAt;
+	private int commentCount;
+	private LocalDateTime lastActivityAt;
 
 	public static GetBoardResponse from(final Board board) {
 		final GetBoardResponse boardResponse = new GetBoardResponse();
@@ -27,6 +29,8 @@ public class GetBoardResponse {
 		boardResponse.price = board.getPrice();
 		boardResponse.boardStatus = board.getBoardStatus();
 		boardResponse.createdAt = board.getCreatedAt();
+		boardResponse.commentCount = board.getCommentCount();
+		boardResponse.lastActivityAt = board.getLastActivityAt() != null ? board.getLastActivityAt() : board.getCreatedAt();
 
 		return boardResponse;
 	}
@@ -0,0 +1,39 @@
+package com.dangun.miniproject.board.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// COUNT 쿼리 없이 다음 페이지 존재 여부만 내려주는 목록 응답
+@Getter
+@NoArgsConstructor
+public class GetBoardSliceResponse {
+	private List<GetBoardResponse> content;
+	private int page;
+	private int size;
+	private boolean hasNext;
+	// count=approx 일 때만 포함 (주기적으로 갱신되는 전체 게시글 수)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long approximateTotal;
+
+	public static GetBoardSliceResponse from(final Slice<GetBoardResponse> slice) {
+		return from(slice, null);
+	}
+
+	public static GetBoardSliceResponse from(final Slice<GetBoardResponse> slice, final Long approximateTotal) {
+		final GetBoardSliceResponse sliceResponse = new GetBoardSliceResponse();
+
+		sliceResponse.content = slice.getContent();
+		sliceResponse.page = slice.getNumber();
+		sliceResponse.size = slice.getSize();
+		sliceResponse.hasNext = slice.hasNext();
+		sliceResponse.approximateTotal = approximateTotal;
+
+		return sliceResponse;
+	}
+}
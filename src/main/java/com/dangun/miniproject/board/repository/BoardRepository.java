@@ -1,26 +1,34 @@
 package com.dangun.miniproject.board.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dangun.miniproject.board.domain.Board;
 import com.dangun.miniproject.board.dto.GetBoardDetailResponse;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
-	// 게시글 상세 조회
+	// 게시글 상세 조회 (작성자 주소까지 DTO 로 한 번에 조회, 댓글은 CommentRepository 에서 별도 조회)
 	@Query(value = """
-			SELECT b
+			SELECT new com.dangun.miniproject.board.dto.GetBoardDetailResponse(
+					b.id, b.title, b.content, m.nickname, a.street, b.price, b.boardStatus, b.createdAt, b.commentCount)
 			 FROM Board b
-			 JOIN FETCH b.member m
-			 LEFT JOIN FETCH b.comments c
+			 JOIN b.member m
+			 LEFT JOIN m.address a
 			WHERE b.id = :boardId
-			ORDER BY c.createdAt DESC
 	""")
-	GetBoardDetailResponse findBoardById(final Long boardId);
+	Optional<GetBoardDetailResponse> findBoardDetailById(@Param("boardId") final Long boardId);
 
 
 	// 게시글 목록 조회
@@ -32,6 +40,30 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 	""")
 	Page<Board> findAllWithMember(final Pageable pageable);
 
+	// 게시글 목록 cursor 조회 - 첫 페이지 (COUNT 쿼리 없음)
+	@Query(value = """
+			SELECT b
+			 FROM Board b
+			 JOIN FETCH b.member
+			ORDER BY b.createdAt DESC, b.id DESC
+	""")
+	Slice<Board> findSliceWithMember(final Pageable pageable);
+
+	// 게시글 목록 cursor 조회 - (createdAt, id) 이후 페이지
+	@Query(value = """
+			SELECT b
+			 FROM Board b
+			 JOIN FETCH b.member
+			WHERE b.createdAt < :createdAt
+			   OR (b.createdAt = :createdAt AND b.id < :id)
+			ORDER BY b.createdAt DESC, b.id DESC
+	""")
+	Slice<Board> findSliceWithMemberBefore(
+			@Param("createdAt") final LocalDateTime createdAt,
+			@Param("id") final Long id,
+			final Pageable pageable
+	);
+
 	// 게시글 키워드 검색
 	@Query(value = """
 			SELECT b
@@ -43,6 +75,26 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 	""")
 	Page<Board> searchBoardsByKeyword(@Param("keyword") final String keyword, final Pageable pageable);
 
+	// 게시글 키워드 검색 (COUNT 쿼리 없음)
+	@Query(value = """
+			SELECT b
+			  FROM Board b
+			  JOIN FETCH b.member
+			 WHERE LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+				OR LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))
+			 ORDER BY b.createdAt DESC, b.id DESC
+	""")
+	Slice<Board> searchSliceByKeyword(@Param("keyword") final String keyword, final Pageable pageable);
+
+	// 검색 색인에서 찾은 게시글 조회
+	@Query(value = """
+			SELECT b
+			  FROM Board b
+			  JOIN FETCH b.member
+			 WHERE b.id IN :ids
+	""")
+	List<Board> findAllWithMemberByIdIn(@Param("ids") final Collection<Long> ids);
+
 	// 작성 게시글 목록 조회
 	@Query(value = """
 			SELECT b
@@ -53,4 +105,147 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 	""")
 	Page<Board> findAllByMyBoard(final Long memberId, final Pageable pageable);
 
+	// 작성 게시글 목록 조회 (COUNT 쿼리 없음)
+	@Query(value = """
+			SELECT b
+			  FROM Board b
+			  JOIN FETCH b.member m
+			 WHERE m.id = :memberId
+			 ORDER BY b.createdAt DESC, b.id DESC
+	""")
+	Slice<Board> findSliceByMyBoard(@Param("memberId") final Long memberId, final Pageable pageable);
+
+	// 댓글 수 증가 + 마지막 활동 시각 갱신 (동시 작성에도 유실되지 않도록 DB 에서 원자적으로 갱신)
+	// - 마지막 활동 시각은 댓글 작성 시각의 최댓값 (BoardCommentSummaryReconciler 와 같은 기준), 늦게 커밋된 이전 댓글이 되돌리지 않도록 함
+	// - 아래 댓글 관련 갱신은 모두 updated_at 도 함께 갱신 (조회 ETag, ResourceVersions)
+	@Modifying
+	@Query(value = """
+			UPDATE Board b
+			   SET b.commentCount = b.commentCount + 1,
+			       b.updatedAt = :activityAt,
+			       b.lastActivityAt = CASE WHEN b.lastActivityAt IS NULL OR b.lastActivityAt < :activityAt
+			                               THEN :activityAt ELSE b.lastActivityAt END
+			 WHERE b.id = :boardId
+	""")
+	int increaseCommentCount(@Param("boardId") final Long boardId, @Param("activityAt") final LocalDateTime activityAt);
+
+	// 댓글 일괄 등록 시 댓글 수 증가 + 마지막 활동 시각 갱신 (activityAt 은 등록한 댓글 작성 시각의 최댓값)
+	@Modifying
+	@Query(value = """
+			UPDATE Board b
+			   SET b.commentCount = b.commentCount + :count,
+			       b.updatedAt = :activityAt,
+			       b.lastActivityAt = CASE WHEN b.lastActivityAt IS NULL OR b.lastActivityAt < :activityAt
+			                               THEN :activityAt ELSE b.lastActivityAt END
+			 WHERE b.id = :boardId
+	""")
+	int increaseCommentCountBy(
+			@Param("boardId") final Long boardId,
+			@Param("count") final int count,
+			@Param("activityAt") final LocalDateTime activityAt
+	);
+
+	// 댓글 수 감소 + 마지막 활동 시각을 남은 댓글 기준으로 다시 계산 (댓글 삭제 전 같은 트랜잭션에서 호출)
+	@Modifying
+	@Query(nativeQuery = true, value = """
+			UPDATE board b
+			   SET b.comment_count = GREATEST(b.comment_count - 1, 0),
+			       b.updated_at = :updatedAt,
+			       b.last_activity_at = (SELECT MAX(c.created_at)
+			                               FROM comment c
+			                              WHERE c.board_id = b.id
+			                                AND c.id <> :commentId)
+			 WHERE b.id = :boardId
+	""")
+	int decreaseCommentCount(
+			@Param("boardId") final Long boardId,
+			@Param("commentId") final Long commentId,
+			@Param("updatedAt") final LocalDateTime updatedAt
+	);
+
+	// 댓글 수정처럼 게시글 행은 그대로이고 상세 응답만 바뀌는 경우 updated_at 만 갱신
+	@Modifying
+	@Query(value = "UPDATE Board b SET b.updatedAt = :updatedAt WHERE b.id = :boardId")
+	int touch(@Param("boardId") final Long boardId, @Param("updatedAt") final LocalDateTime updatedAt);
+
+	// id 범위 안의 게시글 댓글 수 / 마지막 활동 시각을 실제 댓글 기준으로 보정, 보정된 게시글 수 반환
+	@Transactional
+	@Modifying
+	@Query(nativeQuery = true, value = """
+			UPDATE board b
+			  LEFT JOIN (SELECT c.board_id, COUNT(*) AS cnt, MAX(c.created_at) AS last_comment_at
+			               FROM comment c
+			              WHERE c.board_id BETWEEN :fromId AND :toId
+			              GROUP BY c.board_id) s
+			    ON s.board_id = b.id
+			   SET b.comment_count = COALESCE(s.cnt, 0),
+			       b.last_activity_at = s.last_comment_at,
+			       b.updated_at = :updatedAt
+			 WHERE b.id BETWEEN :fromId AND :toId
+			   AND (b.comment_count <> COALESCE(s.cnt, 0)
+			        OR NOT (b.last_activity_at <=> s.last_comment_at))
+	""")
+	int reconcileCommentSummary(
+			@Param("fromId") final Long fromId,
+			@Param("toId") final Long toId,
+			@Param("updatedAt") final LocalDateTime updatedAt
+	);
+
+	@Query(value = "SELECT MAX(b.id) FROM Board b")
+	Long findMaxId();
+
+	// 회원 탈퇴 배치 처리용 작성 게시글 id (삭제 표시된 게시글 포함, id 순)
+	@Query(nativeQuery = true, value = "SELECT b.id FROM board b WHERE b.member_id = :memberId ORDER BY b.id LIMIT :limit")
+	List<Long> findIdsByMemberId(@Param("memberId") final Long memberId, @Param("limit") final int limit);
+
+	// 회원 탈퇴 시 먼저 삭제 표시할 작성 게시글 id (삭제 표시되지 않은 게시글만, id 순)
+	@Query(value = "SELECT b.id FROM Board b WHERE b.member.id = :memberId ORDER BY b.id")
+	List<Long> findActiveIdsByMemberId(@Param("memberId") final Long memberId, final Pageable pageable);
+
+	// 삭제 표시 + updated_at 갱신 (목록 ETag 변경), 이미 표시된 게시글은 그대로
+	@Modifying
+	@Query(nativeQuery = true, value = """
+			UPDATE board
+			   SET deleted_at = :deletedAt,
+			       updated_at = :deletedAt
+			 WHERE id IN (:ids)
+			   AND deleted_at IS NULL
+	""")
+	int softDeleteByIds(@Param("ids") final Collection<Long> ids, @Param("deletedAt") final LocalDateTime deletedAt);
+
+	// 삭제 표시 후 일정 시간이 지난 게시글 id (id 순)
+	@Query(nativeQuery = true, value = """
+			SELECT b.id
+			  FROM board b
+			 WHERE b.deleted_at < :deletedBefore
+			 ORDER BY b.id
+			 LIMIT :limit
+	""")
+	List<Long> findSoftDeletedIds(@Param("deletedBefore") final LocalDateTime deletedBefore, @Param("limit") final int limit);
+
+	// 삭제될 댓글만큼 게시글 댓글 수 감소 + 마지막 활동 시각을 남은 댓글 기준으로 다시 계산 (댓글 삭제 전 같은 트랜잭션에서 호출)
+	@Modifying
+	@Query(nativeQuery = true, value = """
+			UPDATE board b
+			  JOIN (SELECT c.board_id, COUNT(*) AS cnt
+			          FROM comment c
+			         WHERE c.id IN (:commentIds)
+			         GROUP BY c.board_id) s
+			    ON s.board_id = b.id
+			   SET b.comment_count = GREATEST(b.comment_count - s.cnt, 0),
+			       b.updated_at = :updatedAt,
+			       b.last_activity_at = (SELECT MAX(r.created_at)
+			                               FROM comment r
+			                              WHERE r.board_id = b.id
+			                                AND r.id NOT IN (:commentIds))
+	""")
+	int decreaseCommentCountByCommentIds(
+			@Param("commentIds") final Collection<Long> commentIds,
+			@Param("updatedAt") final LocalDateTime updatedAt
+	);
+
+	// 삭제 표시 여부와 관계없이 실제 삭제 (댓글을 먼저 삭제해야 함)
+	@Modifying
+	@Query(nativeQuery = true, value = "DELETE FROM board WHERE id IN (:ids)")
+	int deleteByIds(@Param("ids") final Collection<Long> ids);
 }
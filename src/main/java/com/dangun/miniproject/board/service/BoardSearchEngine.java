@@ -0,0 +1,22 @@
+package com.dangun.miniproject.board.service;
+
+import com.dangun.miniproject.board.domain.Board;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// 게시글 키워드 검색 엔진 (board.search.engine 설정으로 선택)
+public interface BoardSearchEngine {
+
+	// 제목 또는 내용에 키워드가 포함된 게시글 최신순 조회
+	Page<Board> search(final String keyword, final Pageable pageable);
+
+	// 전체 개수 없이 다음 페이지 존재 여부만 조회
+	Slice<Board> searchSlice(final String keyword, final Pageable pageable);
+
+	// 게시글 생성 / 수정 시 색인 반영
+	void index(final Board board);
+
+	// 게시글 삭제 시 색인 제거
+	void remove(final Long boardId);
+}
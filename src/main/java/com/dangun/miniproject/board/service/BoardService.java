@@ -1,13 +1,17 @@
 package com.dangun.miniproject.board.service;
 
 import com.dangun.miniproject.board.dto.*;
+import com.dangun.miniproject.common.dto.BulkImportResponse;
+import com.dangun.miniproject.common.etag.Versioned;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface BoardService {
 
-	// 게시글 상세 조회
-	GetBoardDetailResponse getBoardDetail(final Long boardId);
+	// 게시글 상세 조회 (currentVersion 은 호출한 쪽이 이미 읽은 현재 버전, 없으면 null)
+	Versioned<GetBoardDetailResponse> getBoardDetail(final Long boardId, final String currentVersion);
 
 	// 게시글 목록 조회
 	Page<GetBoardResponse> getBoardList(final Pageable pageable);
@@ -15,12 +19,27 @@ public interface BoardService {
 	// 게시글 키워드 검색
 	Page<GetBoardResponse> getBoardList(final String keyword, final Pageable pageable);
 
+	// 게시글 목록 조회 (COUNT 없이 다음 페이지 여부만, 필요하면 대략적인 전체 개수 포함)
+	GetBoardSliceResponse getBoardSlice(final Pageable pageable, final boolean withApproximateTotal);
+
+	// 게시글 키워드 검색 (COUNT 없이 다음 페이지 여부만)
+	GetBoardSliceResponse searchBoardSlice(final String keyword, final Pageable pageable);
+
+	// 게시글 목록 cursor 조회
+	GetBoardCursorResponse getBoardListByCursor(final String cursor, final int size);
+
 	// 작성 게시글 목록 조회
 	Page<GetBoardResponse> getMyBoardList(final Long memberId, final Pageable pageable);
 
+	// 작성 게시글 목록 조회 (COUNT 없이 다음 페이지 여부만)
+	GetBoardSliceResponse getMyBoardSlice(final Long memberId, final Pageable pageable);
+
 	// 게시글 생성
 	WriteBoardResponse writeBoard(WriteBoardRequest request, Long memberId);
 
+	// 게시글 일괄 생성
+	BulkImportResponse importBoards(List<WriteBoardRequest> requests, Long memberId);
+
 	// 게시글 수정
 	UpdateBoardResponse updateBoard(Long boardId, UpdateBoardRequest request, Long memberId);
 
@@ -0,0 +1,49 @@
+package com.dangun.miniproject.board.service.impl;
+
+import com.dangun.miniproject.board.repository.BoardRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 목록 응답의 대략적인 전체 게시글 수
+ * - 요청마다 COUNT 대신 주기적으로 다시 세고, 그 사이 작성 / 삭제는 증감으로 반영
+ */
+@Component
+public class ApproximateBoardCounter {
+
+    private static final long NOT_LOADED = -1L;
+
+    private final BoardRepository boardRepository;
+    private final AtomicLong total = new AtomicLong(NOT_LOADED);
+
+    public ApproximateBoardCounter(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    public long getApproximateTotal() {
+        if (total.get() == NOT_LOADED) {
+            refresh();
+        }
+        return total.get();
+    }
+
+    @Scheduled(fixedDelayString = "${board.count.refresh-interval-ms:30000}")
+    public void refresh() {
+        total.set(boardRepository.count());
+    }
+
+    public void increment() {
+        total.updateAndGet(value -> value == NOT_LOADED ? value : value + 1);
+    }
+
+    // 일괄 작성 / 삭제 반영 (삭제는 음수, 0 아래로 내려가지 않음)
+    public void add(long count) {
+        total.updateAndGet(value -> value == NOT_LOADED ? value : Math.max(value + count, 0));
+    }
+
+    public void decrement() {
+        total.updateAndGet(value -> value <= 0 ? value : value - 1);
+    }
+}
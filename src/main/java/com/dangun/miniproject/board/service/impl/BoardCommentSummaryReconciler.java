@@ -0,0 +1,51 @@
+package com.dangun.miniproject.board.service.impl;
+
+import com.dangun.miniproject.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Board.commentCount / lastActivityAt 보정 작업
+ * - 댓글 일괄 삭제(회원 탈퇴 등)처럼 카운터를 거치지 않는 변경으로 생긴 차이를 주기적으로 맞춤
+ * - id 범위 단위로 나눠 배치마다 별도 트랜잭션으로 처리 (긴 잠금 방지)
+ */
+@Slf4j
+@Component
+public class BoardCommentSummaryReconciler {
+
+    private final BoardRepository boardRepository;
+    private final BoardDetailCacheService boardDetailCacheService;
+    private final int batchSize;
+
+    public BoardCommentSummaryReconciler(BoardRepository boardRepository,
+                                         BoardDetailCacheService boardDetailCacheService,
+                                         @Value("${board.reconcile.batch-size:1000}") int batchSize) {
+        this.boardRepository = boardRepository;
+        this.boardDetailCacheService = boardDetailCacheService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${board.reconcile.cron:0 0 4 * * *}")
+    public int reconcile() {
+        Long maxId = boardRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            // 보정된 게시글만 updated_at 이 바뀌어 해당 게시글 / 목록의 ETag 가 바뀜
+            repaired += boardRepository.reconcileCommentSummary(fromId, fromId + batchSize - 1, LocalDateTime.now());
+        }
+
+        if (repaired > 0) {
+            boardDetailCacheService.evictAll();
+            log.info("board comment summary repaired: {} boards", repaired);
+        }
+        return repaired;
+    }
+}
@@ -0,0 +1,148 @@
+package com.dangun.miniproject.board.service.impl;
+
+import com.dangun.miniproject.board.dto.GetBoardDetailResponse;
+import com.dangun.miniproject.common.cache.ExpiringCache;
+import com.dangun.miniproject.common.etag.Versioned;
+import com.dangun.miniproject.common.transaction.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 조회 결과 캐시 (read-through)
+ * - 같은 게시글에 동시에 캐시 미스가 나면 한 요청만 DB 를 조회하고 나머지는 그 결과를 기다림
+ * - 게시글 수정 / 삭제, 댓글 작성 / 수정 / 삭제 시 해당 게시글만 무효화, 회원 정보 변경 시 전체 무효화
+ * - 항목마다 적재 직전에 읽은 게시글 버전을 함께 두고 응답 ETag 로 사용 (캐시 히트는 DB 를 조회하지 않음)
+ * - 호출한 쪽이 이미 현재 버전을 읽었다면 (If-None-Match 요청) 버전이 다른 항목은 미스로 처리
+ *   (다른 인스턴스의 변경은 그 외에는 TTL 이 지나야 반영됨)
+ */
+@Service
+public class BoardDetailCacheService {
+
+    private final ExpiringCache<Long, Versioned<GetBoardDetailResponse>> cache;
+    private final Map<Long, CompletableFuture<Versioned<GetBoardDetailResponse>>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public BoardDetailCacheService(@Value("${board.detail-cache.max-size:1000}") int maxSize,
+                                   @Value("${board.detail-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = new ExpiringCache<>(maxSize, ttlSeconds * 1000L);
+    }
+
+    // currentVersion: 호출한 쪽이 읽은 현재 버전 (없으면 null, 버전 비교 없이 캐시 사용)
+    // loader 는 게시글을 읽기 전에 버전을 먼저 읽어야 함 (적재 도중 변경되면 이전 버전으로 저장되어 다음 비교에서 다시 적재)
+    public Versioned<GetBoardDetailResponse> get(Long boardId, String currentVersion,
+                                                 Function<Long, Versioned<GetBoardDetailResponse>> loader) {
+        Versioned<GetBoardDetailResponse> cached = cache.get(boardId);
+
+        if (cached != null && (currentVersion == null || Objects.equals(cached.version(), currentVersion))) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        CompletableFuture<Versioned<GetBoardDetailResponse>> mine = new CompletableFuture<>();
+        CompletableFuture<Versioned<GetBoardDetailResponse>> inFlight = loading.putIfAbsent(boardId, mine);
+
+        // 이미 다른 요청이 조회 중이면 그 결과를 같이 사용
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            long loadGeneration = generation.get();
+            Versioned<GetBoardDetailResponse> detail = loader.apply(boardId);
+            loadCount.increment();
+
+            // 조회 도중 무효화가 일어났다면 이전 값일 수 있으므로 저장하지 않음
+            if (loadGeneration == generation.get()) {
+                cache.put(boardId, detail);
+            }
+
+            mine.complete(detail);
+            return detail;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(boardId, mine);
+        }
+    }
+
+    // 트랜잭션 안이라면 커밋 후 한 번 더 무효화
+    public void evict(Long boardId) {
+        TransactionCallbacks.nowAndAfterCommit(() -> invalidate(boardId));
+    }
+
+    public void evictAll() {
+        TransactionCallbacks.nowAndAfterCommit(this::invalidateAll);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    public double getHitRatio() {
+        long hit = hitCount.sum();
+        long total = hit + missCount.sum();
+
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void invalidate(Long boardId) {
+        generation.incrementAndGet();
+        loading.remove(boardId);
+        if (cache.remove(boardId)) {
+            invalidationCount.increment();
+        }
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        loading.clear();
+        invalidationCount.add(cache.clear());
+    }
+
+    private Versioned<GetBoardDetailResponse> await(CompletableFuture<Versioned<GetBoardDetailResponse>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.dangun.miniproject.board.service.impl;
+
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.comment.repository.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 삭제 표시된 게시글 실제 삭제 작업
+ * - 게시글 삭제 요청은 deleted_at 만 표시하고, 댓글 / 게시글 삭제는 여기서 요청 처리와 별도로 수행
+ * - 표시 후 grace-seconds 가 지난 게시글만 삭제 (삭제 직전에 시작된 댓글 작성과 겹치지 않도록)
+ * - 댓글 -> 게시글 순으로 id 배치 단위 DELETE, 배치마다 별도 트랜잭션
+ */
+@Slf4j
+@Component
+public class BoardPurger {
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long graceSeconds;
+
+    public BoardPurger(BoardRepository boardRepository,
+                       CommentRepository commentRepository,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${board.purge.batch-size:1000}") int batchSize,
+                       @Value("${board.purge.grace-seconds:60}") long graceSeconds) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.graceSeconds = graceSeconds;
+    }
+
+    // 삭제된 게시글 수 반환
+    @Scheduled(fixedDelayString = "${board.purge.interval-ms:60000}")
+    public int purge() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minusSeconds(graceSeconds);
+        int purgedBoards = 0;
+        int purgedComments = 0;
+
+        List<Long> boardIds;
+        while (!(boardIds = boardRepository.findSoftDeletedIds(deletedBefore, batchSize)).isEmpty()) {
+            List<Long> commentIds;
+            while (!(commentIds = commentRepository.findIdsByBoardIdIn(boardIds, batchSize)).isEmpty()) {
+                List<Long> ids = commentIds;
+                purgedComments += execute(() -> commentRepository.deleteByIds(ids));
+            }
+
+            List<Long> ids = boardIds;
+            purgedBoards += execute(() -> boardRepository.deleteByIds(ids));
+        }
+
+        if (purgedBoards > 0) {
+            log.info("soft-deleted boards purged: {} boards, {} comments", purgedBoards, purgedComments);
+        }
+        return purgedBoards;
+    }
+
+    private int execute(Supplier<Integer> step) {
+        Integer deleted = transactionTemplate.execute(status -> step.get());
+
+        return deleted == null ? 0 : deleted;
+    }
+}
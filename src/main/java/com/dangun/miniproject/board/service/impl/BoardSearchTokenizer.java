@@ -0,0 +1,63 @@
+package com.dangun.miniproject.board.service.impl;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 검색용 n-gram 토크나이저
+ * - 한글은 띄어쓰기 / 조사와 무관하게 부분 일치가 필요하므로 형태소 분석 대신 1-gram, 2-gram 사용
+ * - 영문 / 숫자도 같은 방식으로 처리해 기존 LIKE '%keyword%' 와 같은 결과를 보장
+ */
+final class BoardSearchTokenizer {
+
+    private BoardSearchTokenizer() {
+    }
+
+    static String normalize(final String text) {
+        if (text == null) {
+            return "";
+        }
+
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 색인용 토큰 : 단어마다 모든 1-gram + 2-gram
+    static Set<String> indexTokens(final String normalizedText) {
+        final Set<String> tokens = new HashSet<>();
+
+        for (String word : words(normalizedText)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+
+        return tokens;
+    }
+
+    // 검색용 토큰 : 한 글자 단어는 1-gram, 나머지는 2-gram (후보를 좁히는 용도, 최종 일치 여부는 원문으로 확인)
+    static Set<String> queryTokens(final String normalizedKeyword) {
+        final Set<String> tokens = new HashSet<>();
+
+        for (String word : words(normalizedKeyword)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+
+        return tokens;
+    }
+
+    private static String[] words(final String normalizedText) {
+        return normalizedText.split("[^\\p{L}\\p{N}]+");
+    }
+}
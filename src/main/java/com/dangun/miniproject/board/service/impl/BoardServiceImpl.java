@@ -5,49 +5,73 @@ import com.dangun.miniproject.board.domain.BoardStatus;
 import com.dangun.miniproject.board.dto.*;
 import com.dangun.miniproject.board.exception.BoardNotFoundException;
 import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.BoardSearchEngine;
 import com.dangun.miniproject.board.service.BoardService;
-import com.dangun.miniproject.comment.domain.Comment;
+import com.dangun.miniproject.comment.dto.GetCommentCursorResponse;
 import com.dangun.miniproject.comment.dto.GetCommentResponse;
+import com.dangun.miniproject.comment.repository.CommentRepository;
+import com.dangun.miniproject.common.dto.BulkImportResponse;
+import com.dangun.miniproject.common.dto.KeysetCursor;
+import com.dangun.miniproject.common.etag.ResourceVersions;
+import com.dangun.miniproject.common.etag.Versioned;
+import com.dangun.miniproject.common.exception.InvalidInputException;
 import com.dangun.miniproject.member.domain.Member;
 import com.dangun.miniproject.member.exception.MemberNotFoundException;
 import com.dangun.miniproject.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BoardServiceImpl implements BoardService {
 
+    private static final int DETAIL_COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_IMPORT_SIZE = 1000;
+
     private final BoardRepository boardRepository;
     private final MemberRepository memberRepository;
+    private final CommentRepository commentRepository;
+    private final BoardSearchEngine boardSearchEngine;
+    private final BoardDetailCacheService boardDetailCacheService;
+    private final ApproximateBoardCounter approximateBoardCounter;
+    private final ResourceVersions resourceVersions;
 
     /**
      * 게시글 상세 조회
+     * - 게시글(작성자 주소 포함) 1회 + 댓글(작성자 포함) 첫 페이지 1회, 댓글 수와 무관하게 쿼리 2회
+     * - 댓글 총 개수는 Board.commentCount 사용 (COUNT 쿼리 없음)
+     * - 캐시 미스일 때만 DB 조회 (BoardDetailCacheService), 히트는 버전도 캐시 항목의 값을 사용
      */
     @Override
-    public GetBoardDetailResponse getBoardDetail(final Long boardId) {
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 캐시 히트 시 커넥션을 잡지 않도록
+    public Versioned<GetBoardDetailResponse> getBoardDetail(final Long boardId, final String currentVersion) {
 
-        final Board board = boardRepository.findById(boardId)
-                .orElseThrow(BoardNotFoundException::new);
+        return boardDetailCacheService.get(boardId, currentVersion, this::loadBoardDetail);
+    }
 
-        final GetBoardDetailResponse boardResponse = boardRepository.findBoardById(boardId);
+    // 버전을 게시글보다 먼저 읽음 (사이에 변경되면 이전 버전이 붙어 다음 조건부 요청에서 다시 적재)
+    private Versioned<GetBoardDetailResponse> loadBoardDetail(final Long boardId) {
 
-        for (Comment comment : board.getComments()) {
-            final boolean isBoardWriter = checkBoardWriter(board, comment);
-            final GetCommentResponse commentResponse = GetCommentResponse.from(comment, isBoardWriter);
+        final String version = resourceVersions.boardVersion(boardId);
+        final GetBoardDetailResponse boardResponse = boardRepository.findBoardDetailById(boardId)
+                .orElseThrow(BoardNotFoundException::new);
 
-            boardResponse.getComments().add(commentResponse);
-        }
+        final Slice<GetCommentResponse> comments = commentRepository.findSliceByBoardId(boardId, PageRequest.of(0, DETAIL_COMMENT_PAGE_SIZE));
+        boardResponse.addCommentPage(GetCommentCursorResponse.from(comments));
 
-        return boardResponse;
+        return new Versioned<>(boardResponse, version);
     }
 
     /**
@@ -67,11 +91,54 @@ public class BoardServiceImpl implements BoardService {
     @Override
     public Page<GetBoardResponse> getBoardList(final String keyword, final Pageable pageable) {
 
-        final Page<Board> boards = boardRepository.searchBoardsByKeyword(keyword, pageable);
+        final Page<Board> boards = boardSearchEngine.search(keyword, pageable);
 
         return boards.map(GetBoardResponse::from);
     }
 
+    /**
+     * 게시글 목록 조회 (COUNT 쿼리 없음)
+     */
+    @Override
+    public GetBoardSliceResponse getBoardSlice(final Pageable pageable, final boolean withApproximateTotal) {
+
+        final Slice<Board> boards = boardRepository.findSliceWithMember(unsorted(pageable));
+        final Long approximateTotal = withApproximateTotal ? approximateBoardCounter.getApproximateTotal() : null;
+
+        return GetBoardSliceResponse.from(boards.map(GetBoardResponse::from), approximateTotal);
+    }
+
+    /**
+     * 게시글 키워드 검색 (COUNT 쿼리 없음)
+     */
+    @Override
+    public GetBoardSliceResponse searchBoardSlice(final String keyword, final Pageable pageable) {
+
+        final Slice<Board> boards = boardSearchEngine.searchSlice(keyword, unsorted(pageable));
+
+        return GetBoardSliceResponse.from(boards.map(GetBoardResponse::from));
+    }
+
+    /**
+     * 게시글 목록 cursor 조회
+     * - OFFSET 대신 마지막 게시글의 (createdAt, id) 이후를 조회하므로 깊은 페이지도 비용이 일정
+     */
+    @Override
+    public GetBoardCursorResponse getBoardListByCursor(final String cursor, final int size) {
+
+        final Pageable pageable = PageRequest.of(0, size);
+
+        final Slice<Board> boards;
+        if (cursor == null || cursor.isEmpty()) {
+            boards = boardRepository.findSliceWithMember(pageable);
+        } else {
+            final KeysetCursor boardCursor = KeysetCursor.decode(cursor);
+            boards = boardRepository.findSliceWithMemberBefore(boardCursor.getCreatedAt(), boardCursor.getId(), pageable);
+        }
+
+        return GetBoardCursorResponse.from(boards.map(GetBoardResponse::from));
+    }
+
     /**
      * 작성 게시글 목록 조회
      */
@@ -83,13 +150,20 @@ public class BoardServiceImpl implements BoardService {
         return boards.map(GetBoardResponse::from);
     }
 
-    // 게시글 작성자인지 확인
-    private boolean checkBoardWriter(final Board board, final Comment comment) {
+    /**
+     * 작성 게시글 목록 조회 (COUNT 쿼리 없음)
+     */
+    @Override
+    public GetBoardSliceResponse getMyBoardSlice(final Long memberId, final Pageable pageable) {
+
+        final Slice<Board> boards = boardRepository.findSliceByMyBoard(memberId, unsorted(pageable));
 
-        final Long boardWriter = board.getMember().getId();
-        final Long commentWriter = comment.getMember().getId();
+        return GetBoardSliceResponse.from(boards.map(GetBoardResponse::from));
+    }
 
-        return boardWriter.equals(commentWriter);
+    // Slice 쿼리는 (createdAt, id) 정렬이 고정이므로 요청의 sort 는 무시
+    private Pageable unsorted(final Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
     }
 
     /**
@@ -110,6 +184,8 @@ public class BoardServiceImpl implements BoardService {
                 .build();
 
         Board savedBoard = boardRepository.save(board);
+        boardSearchEngine.index(savedBoard);
+        approximateBoardCounter.increment();
 
         return WriteBoardResponse.builder()
                 .code("BOARD-S001")
@@ -121,6 +197,37 @@ public class BoardServiceImpl implements BoardService {
                 .build();
     }
 
+    /**
+     * 게시글 일괄 생성
+     * - 한 트랜잭션에서 saveAll, id 는 board_seq 에서 미리 할당되므로 INSERT 가 hibernate.jdbc.batch_size 단위로 묶여 전송됨
+     */
+    @Override
+    @Transactional
+    public BulkImportResponse importBoards(List<WriteBoardRequest> requests, Long memberId) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_IMPORT_SIZE) {
+            throw new InvalidInputException("게시글은 한 번에 1 ~ " + MAX_IMPORT_SIZE + "개까지 등록할 수 있습니다.");
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
+
+        List<Board> boards = requests.stream()
+                .map(request -> Board.builder()
+                        .title(request.getTitle())
+                        .content(request.getContent())
+                        .member(member)
+                        .boardStatus(BoardStatus.판매중)
+                        .price(request.getPrice())
+                        .build())
+                .toList();
+
+        List<Board> savedBoards = boardRepository.saveAll(boards);
+        savedBoards.forEach(boardSearchEngine::index);
+        approximateBoardCounter.add(savedBoards.size());
+
+        return new BulkImportResponse(savedBoards.stream().map(Board::getId).toList());
+    }
+
     /**
      * 게시글 수정
      */
@@ -148,6 +255,8 @@ public class BoardServiceImpl implements BoardService {
                 //request.getBoardStatus() != null ? BoardStatus.valueOf(request.getBoardStatus()) : board.getBoardStatus()
                 BoardStatus.valueOf(request.getBoardStatus())
         );
+        boardSearchEngine.index(board);
+        boardDetailCacheService.evict(boardId);
 
         // 응답 생성
         return UpdateBoardResponse.builder()
@@ -174,7 +283,11 @@ public class BoardServiceImpl implements BoardService {
             throw new AccessDeniedException("Is not writer");
         }
 
-        boardRepository.delete(board);
+        // 삭제 표시 후 즉시 조회에서 제외, 댓글과 함께 실제 삭제는 BoardPurger 가 처리
+        board.softDelete();
+        boardSearchEngine.remove(boardId);
+        approximateBoardCounter.decrement();
+        boardDetailCacheService.evict(boardId);
 
         return DeleteBoardResponse.builder()
                 .code("BOARD-S004")
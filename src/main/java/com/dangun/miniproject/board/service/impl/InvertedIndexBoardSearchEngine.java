@@ -0,0 +1,239 @@
+package com.dangun.miniproject.board.service.impl;
+
+import com.dangun.miniproject.board.domain.Board;
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.BoardSearchEngine;
+import com.dangun.miniproject.common.transaction.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 애플리케이션 메모리에 유지하는 n-gram 역색인 검색 엔진 (board.search.engine=index 로 선택)
+ * - 기동 시 게시글 전체를 cursor 방식으로 읽어 색인, 이후 생성 / 수정 / 삭제는 커밋 후 증분 반영
+ * - 색인 준비 전이거나 토큰이 없는 키워드는 LIKE 검색으로 대체
+ * - 인스턴스마다 자기 쓰기만 반영하므로 단일 인스턴스 운영에서만 사용 (여러 인스턴스면 다른 인스턴스의 변경이 검색되지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "index")
+public class InvertedIndexBoardSearchEngine implements BoardSearchEngine {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private static final Comparator<IndexedBoard> LATEST_FIRST = Comparator
+            .comparing(IndexedBoard::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(IndexedBoard::id, Comparator.reverseOrder());
+
+    private final BoardRepository boardRepository;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedBoard> documents = new ConcurrentHashMap<>();
+
+    // 재색인 도중 삭제된 게시글이 이전 스냅샷으로 다시 색인되지 않도록 기록
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    public InvertedIndexBoardSearchEngine(final BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE);
+
+        Slice<Board> boards = boardRepository.findSliceWithMember(pageable);
+        while (true) {
+            boards.forEach(board -> {
+                if (!removedDuringRebuild.contains(board.getId())) {
+                    putIfAbsent(IndexedBoard.from(board));
+                }
+            });
+
+            if (!boards.hasNext() || boards.isEmpty()) {
+                break;
+            }
+
+            final Board last = boards.getContent().get(boards.getNumberOfElements() - 1);
+            boards = boardRepository.findSliceWithMemberBefore(last.getCreatedAt(), last.getId(), pageable);
+        }
+
+        ready = true;
+        removedDuringRebuild.clear();
+        log.info("board search index ready: {} boards, {} tokens", documents.size(), postings.size());
+    }
+
+    @Override
+    public Page<Board> search(final String keyword, final Pageable pageable) {
+        final List<Long> matches = match(keyword);
+
+        if (matches == null) {
+            return boardRepository.searchBoardsByKeyword(keyword, pageable);
+        }
+
+        return new PageImpl<>(load(page(matches, pageable)), pageable, matches.size());
+    }
+
+    @Override
+    public Slice<Board> searchSlice(final String keyword, final Pageable pageable) {
+        final List<Long> matches = match(keyword);
+
+        if (matches == null) {
+            return boardRepository.searchSliceByKeyword(keyword, pageable);
+        }
+
+        final boolean hasNext = pageable.isPaged() && pageable.getOffset() + pageable.getPageSize() < matches.size();
+
+        return new SliceImpl<>(load(page(matches, pageable)), pageable, hasNext);
+    }
+
+    // 키워드가 포함된 게시글 id 최신순, 색인을 사용할 수 없으면 null
+    private List<Long> match(final String keyword) {
+        final String normalizedKeyword = BoardSearchTokenizer.normalize(keyword);
+        final Set<String> tokens = BoardSearchTokenizer.queryTokens(normalizedKeyword);
+
+        if (!ready || tokens.isEmpty()) {
+            return null;
+        }
+
+        // n-gram 교집합으로 후보를 좁힌 뒤 원문 포함 여부로 최종 확인 (LIKE 와 동일한 결과)
+        return candidates(tokens).stream()
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .filter(document -> document.contains(normalizedKeyword))
+                .sorted(LATEST_FIRST)
+                .map(IndexedBoard::id)
+                .toList();
+    }
+
+    private List<Long> page(final List<Long> matches, final Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return matches;
+        }
+
+        final int from = (int) Math.min(pageable.getOffset(), matches.size());
+        final int to = Math.min(from + pageable.getPageSize(), matches.size());
+
+        return matches.subList(from, to);
+    }
+
+    @Override
+    public void index(final Board board) {
+        final IndexedBoard document = IndexedBoard.from(board);
+
+        TransactionCallbacks.afterCommit(() -> put(document));
+    }
+
+    @Override
+    public void remove(final Long boardId) {
+        TransactionCallbacks.afterCommit(() -> {
+            if (!ready) {
+                removedDuringRebuild.add(boardId);
+            }
+            delete(boardId);
+        });
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private Set<Long> candidates(final Set<String> tokens) {
+        final List<Set<Long>> postingLists = tokens.stream()
+                .map(token -> postings.getOrDefault(token, Set.of()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        // 가장 짧은 posting 부터 교집합
+        final Set<Long> result = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !result.isEmpty(); i++) {
+            result.retainAll(postingLists.get(i));
+        }
+
+        return result;
+    }
+
+    private List<Board> load(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Long, Board> boards = boardRepository.findAllWithMemberByIdIn(ids).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+
+        return ids.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private synchronized void put(final IndexedBoard document) {
+        delete(document.id());
+
+        documents.put(document.id(), document);
+        document.tokens().forEach(token -> postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(document.id()));
+    }
+
+    private synchronized void putIfAbsent(final IndexedBoard document) {
+        if (!documents.containsKey(document.id())) {
+            put(document);
+        }
+    }
+
+    private synchronized void delete(final Long boardId) {
+        final IndexedBoard previous = documents.remove(boardId);
+        if (previous == null) {
+            return;
+        }
+
+        previous.tokens().forEach(token -> {
+            final Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(boardId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        });
+    }
+
+    private record IndexedBoard(Long id, String title, String content, LocalDateTime createdAt, Set<String> tokens) {
+
+        static IndexedBoard from(final Board board) {
+            final String title = BoardSearchTokenizer.normalize(board.getTitle());
+            final String content = BoardSearchTokenizer.normalize(board.getContent());
+
+            final Set<String> tokens = BoardSearchTokenizer.indexTokens(title);
+            tokens.addAll(BoardSearchTokenizer.indexTokens(content));
+
+            return new IndexedBoard(board.getId(), title, content, board.getCreatedAt(), Set.copyOf(tokens));
+        }
+
+        boolean contains(final String normalizedKeyword) {
+            return title.contains(normalizedKeyword) || content.contains(normalizedKeyword);
+        }
+    }
+}
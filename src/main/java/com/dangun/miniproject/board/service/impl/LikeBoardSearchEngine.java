@@ -0,0 +1,38 @@
+package com.dangun.miniproject.board.service.impl;
+
+import com.dangun.miniproject.board.domain.Board;
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.BoardSearchEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+// 색인 없이 DB LIKE 검색을 그대로 사용 (기본값, 모든 인스턴스가 같은 DB 를 조회하므로 여러 인스턴스에서도 일관됨)
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "board.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeBoardSearchEngine implements BoardSearchEngine {
+
+    private final BoardRepository boardRepository;
+
+    @Override
+    public Page<Board> search(final String keyword, final Pageable pageable) {
+        return boardRepository.searchBoardsByKeyword(keyword, pageable);
+    }
+
+    @Override
+    public Slice<Board> searchSlice(final String keyword, final Pageable pageable) {
+        return boardRepository.searchSliceByKeyword(keyword, pageable);
+    }
+
+    @Override
+    public void index(final Board board) {
+    }
+
+    @Override
+    public void remove(final Long boardId) {
+    }
+}
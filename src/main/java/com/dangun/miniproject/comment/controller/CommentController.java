@@ -3,12 +3,15 @@ package com.dangun.miniproject.comment.controller;
 import com.dangun.miniproject.comment.dto.*;
 import com.dangun.miniproject.comment.service.CommentService;
 import com.dangun.miniproject.common.ApiResponse;
+import com.dangun.miniproject.common.dto.BulkImportResponse;
 import com.dangun.miniproject.member.domain.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/boards/{boardId}/comments")
@@ -16,6 +19,16 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    @GetMapping
+    public ResponseEntity<?> getCommentList(@PathVariable Long boardId,
+                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "size", defaultValue = "20") int size) {
+
+        GetCommentCursorResponse response = commentService.getCommentList(boardId, cursor, size);
+
+        return ApiResponse.ok("COMMENT-S004", response, "Read Success");
+    }
+
     @PostMapping
     public ResponseEntity<?> writeComment(@AuthenticationPrincipal(expression = "member") Member member,
                                           @RequestBody WriteCommentRequest request,
@@ -30,6 +43,17 @@ public class CommentController {
         return ApiResponse.created("", "COMMENT-S001", writeCommentResponse, "Create Success");
     }
 
+    // 댓글 일괄 등록
+    @PostMapping("/bulk")
+    public ResponseEntity<?> importComments(@AuthenticationPrincipal(expression = "member") Member member,
+                                            @RequestBody List<WriteCommentRequest> requests,
+                                            @PathVariable Long boardId) {
+
+        BulkImportResponse response = commentService.importComments(member, boardId, requests);
+
+        return ApiResponse.created("", "COMMENT-S005", response, "Bulk Create Success");
+    }
+
     @PutMapping("/{commentId}")
     public ResponseEntity<?> updateComment(@AuthenticationPrincipal(expression = "member") Member member,
                                            @RequestBody UpdateCommentRequest request,
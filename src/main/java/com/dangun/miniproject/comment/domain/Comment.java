@@ -12,11 +12,14 @@ import lombok.NoArgsConstructor;
 import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = @Index(name = "idx_comment_board_id_created_at", columnList = "board_id, created_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // JDBC batch insert 를 위해 IDENTITY 대신 comment_seq 테이블에서 id 를 범위 단위로 할당 (pooled-lo)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
     private Long id;
 
     private String content;
@@ -0,0 +1,32 @@
+package com.dangun.miniproject.comment.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import com.dangun.miniproject.common.dto.KeysetCursor;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class GetCommentCursorResponse {
+	private List<GetCommentResponse> content;
+	private boolean hasNext;
+	private String nextCursor;
+
+	public static GetCommentCursorResponse from(final Slice<GetCommentResponse> slice) {
+		final GetCommentCursorResponse cursorResponse = new GetCommentCursorResponse();
+
+		cursorResponse.content = slice.getContent();
+		cursorResponse.hasNext = slice.hasNext();
+
+		if (slice.hasNext() && !slice.getContent().isEmpty()) {
+			final GetCommentResponse last = slice.getContent().get(slice.getContent().size() - 1);
+			cursorResponse.nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+		}
+
+		return cursorResponse;
+	}
+}
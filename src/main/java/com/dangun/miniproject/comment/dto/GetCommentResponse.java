@@ -17,6 +17,16 @@ public class GetCommentResponse {
 	private boolean isBoardWriter;
 	private LocalDateTime createdAt;
 
+	public GetCommentResponse(final Long id, final String content, final Long writerId, final String writer,
+			final boolean isBoardWriter, final LocalDateTime createdAt) {
+		this.id = id;
+		this.content = content;
+		this.writerId = writerId;
+		this.writer = writer;
+		this.isBoardWriter = isBoardWriter;
+		this.createdAt = createdAt;
+	}
+
 	public static GetCommentResponse from(final Comment comment, final boolean isBoardWriter) {
 		final GetCommentResponse commentResponse = new GetCommentResponse();
 
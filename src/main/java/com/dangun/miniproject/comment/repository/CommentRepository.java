@@ -1,7 +1,63 @@
 package com.dangun.miniproject.comment.repository;
 
 import com.dangun.miniproject.comment.domain.Comment;
+import com.dangun.miniproject.comment.dto.GetCommentResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 게시글 댓글 + 작성자 첫 페이지 조회, 작성순 (게시글 작성자 여부는 SQL 에서 계산, Member 엔티티를 로딩하지 않음)
+    @Query(value = """
+            SELECT new com.dangun.miniproject.comment.dto.GetCommentResponse(
+                    c.id, c.content, m.id, m.nickname,
+                    CASE WHEN m.id = b.member.id THEN true ELSE false END,
+                    c.createdAt)
+              FROM Comment c
+              JOIN c.member m
+              JOIN c.board b
+             WHERE b.id = :boardId
+             ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    Slice<GetCommentResponse> findSliceByBoardId(@Param("boardId") final Long boardId, final Pageable pageable);
+
+    // 게시글 댓글 + 작성자 cursor 이후 페이지 조회 (cursor 보다 나중에 작성된 댓글)
+    @Query(value = """
+            SELECT new com.dangun.miniproject.comment.dto.GetCommentResponse(
+                    c.id, c.content, m.id, m.nickname,
+                    CASE WHEN m.id = b.member.id THEN true ELSE false END,
+                    c.createdAt)
+              FROM Comment c
+              JOIN c.member m
+              JOIN c.board b
+             WHERE b.id = :boardId
+               AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+             ORDER BY c.createdAt ASC, c.id ASC
+    """)
+    Slice<GetCommentResponse> findSliceByBoardIdAfter(
+            @Param("boardId") final Long boardId,
+            @Param("createdAt") final LocalDateTime createdAt,
+            @Param("id") final Long id,
+            final Pageable pageable
+    );
+
+    // 회원 탈퇴 배치 처리용 작성 댓글 id (id 순)
+    @Query(value = "SELECT c.id FROM Comment c WHERE c.member.id = :memberId ORDER BY c.id")
+    List<Long> findIdsByMemberId(@Param("memberId") final Long memberId, final Pageable pageable);
+
+    // 게시글들에 달린 댓글 id (다른 회원이 작성한 댓글, 삭제 표시된 게시글 포함)
+    @Query(nativeQuery = true, value = "SELECT c.id FROM comment c WHERE c.board_id IN (:boardIds) ORDER BY c.id LIMIT :limit")
+    List<Long> findIdsByBoardIdIn(@Param("boardIds") final Collection<Long> boardIds, @Param("limit") final int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") final Collection<Long> ids);
 }
@@ -1,15 +1,23 @@
 package com.dangun.miniproject.comment.service;
 
+import com.dangun.miniproject.comment.dto.GetCommentCursorResponse;
 import com.dangun.miniproject.member.domain.Member;
 import com.dangun.miniproject.comment.dto.UpdateCommentRequest;
 import com.dangun.miniproject.comment.dto.UpdateCommentResponse;
 import com.dangun.miniproject.comment.dto.WriteCommentRequest;
 import com.dangun.miniproject.comment.dto.WriteCommentResponse;
+import com.dangun.miniproject.common.dto.BulkImportResponse;
+
+import java.util.List;
 
 public interface CommentService {
 
+    GetCommentCursorResponse getCommentList(Long boardId, String cursor, int size);
+
     WriteCommentResponse writeComment(Member member, Long boardId, WriteCommentRequest comment);
 
+    BulkImportResponse importComments(Member member, Long boardId, List<WriteCommentRequest> requests);
+
     UpdateCommentResponse updateComment(Long boardId, Long commentId, Member member, UpdateCommentRequest request);
 
     void deleteComment(Long boardId, Long commentId, Member member);
@@ -3,7 +3,10 @@ package com.dangun.miniproject.comment.service.impl;
 import com.dangun.miniproject.board.domain.Board;
 import com.dangun.miniproject.board.exception.BoardNotFoundException;
 import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
 import com.dangun.miniproject.comment.domain.Comment;
+import com.dangun.miniproject.comment.dto.GetCommentCursorResponse;
+import com.dangun.miniproject.comment.dto.GetCommentResponse;
 import com.dangun.miniproject.comment.dto.UpdateCommentRequest;
 import com.dangun.miniproject.comment.dto.UpdateCommentResponse;
 import com.dangun.miniproject.comment.dto.WriteCommentRequest;
@@ -11,19 +14,55 @@ import com.dangun.miniproject.comment.dto.WriteCommentResponse;
 import com.dangun.miniproject.comment.exception.CommentNotFoundException;
 import com.dangun.miniproject.comment.repository.CommentRepository;
 import com.dangun.miniproject.comment.service.CommentService;
+import com.dangun.miniproject.common.dto.BulkImportResponse;
+import com.dangun.miniproject.common.dto.KeysetCursor;
+import com.dangun.miniproject.common.exception.InvalidInputException;
 import com.dangun.miniproject.member.domain.Member;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_IMPORT_SIZE = 1000;
+
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
+    private final BoardDetailCacheService boardDetailCacheService;
+
+    // 댓글 목록 cursor 조회, 작성순 (cursor 가 없으면 첫 페이지)
+    @Override
+    @Transactional(readOnly = true)
+    public GetCommentCursorResponse getCommentList(Long boardId, String cursor, int size) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new BoardNotFoundException();
+        }
+
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+        Slice<GetCommentResponse> comments;
+        if (cursor == null || cursor.isEmpty()) {
+            comments = commentRepository.findSliceByBoardId(boardId, pageable);
+        } else {
+            KeysetCursor commentCursor = KeysetCursor.decode(cursor);
+            comments = commentRepository.findSliceByBoardIdAfter(boardId, commentCursor.getCreatedAt(), commentCursor.getId(), pageable);
+        }
+
+        return GetCommentCursorResponse.from(comments);
+    }
 
     @Override
     public WriteCommentResponse writeComment(Member member, Long boardId, WriteCommentRequest request) {
@@ -31,10 +70,39 @@ public class CommentServiceImpl implements CommentService {
 
         Comment comment = request.toEntity(member, board);
         comment = commentRepository.save(comment);
+        boardRepository.increaseCommentCount(boardId, comment.getCreatedAt() != null ? comment.getCreatedAt() : LocalDateTime.now());
+        boardDetailCacheService.evict(boardId);
 
         return new WriteCommentResponse(comment.getContent());
     }
 
+    // 댓글 일괄 등록 (INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 전송, 댓글 수는 한 번에 증가)
+    @Override
+    public BulkImportResponse importComments(Member member, Long boardId, List<WriteCommentRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_IMPORT_SIZE) {
+            throw new InvalidInputException("댓글은 한 번에 1 ~ " + MAX_IMPORT_SIZE + "개까지 등록할 수 있습니다.");
+        }
+        if (requests.stream().anyMatch(request -> request.getContent() == null || request.getContent().isBlank())) {
+            throw new InvalidInputException("내용이 비어 있는 댓글이 있습니다.");
+        }
+
+        Board board = boardRepository.findById(boardId).orElseThrow(BoardNotFoundException::new);
+
+        List<Comment> comments = commentRepository.saveAll(requests.stream()
+                .map(request -> request.toEntity(member, board))
+                .toList());
+        // 마지막 활동 시각은 등록한 댓글 중 가장 늦은 작성 시각
+        LocalDateTime lastCreatedAt = comments.stream()
+                .map(Comment::getCreatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElseGet(LocalDateTime::now);
+        boardRepository.increaseCommentCountBy(boardId, comments.size(), lastCreatedAt);
+        boardDetailCacheService.evict(boardId);
+
+        return new BulkImportResponse(comments.stream().map(Comment::getId).toList());
+    }
+
     @Override
     public UpdateCommentResponse updateComment(Long boardId, Long commentId, Member member, UpdateCommentRequest request) {
         Comment comment = commentRepository.findById(commentId).orElseThrow(CommentNotFoundException::new);
@@ -48,6 +116,9 @@ public class CommentServiceImpl implements CommentService {
         }
 
         comment.updateContent(request.getContent());
+        // 게시글 행은 그대로이므로 상세 조회 ETag 가 바뀌도록 게시글 updated_at 갱신
+        boardRepository.touch(boardId, LocalDateTime.now());
+        boardDetailCacheService.evict(boardId);
 
         return new UpdateCommentResponse(comment.getContent());
     }
@@ -65,6 +136,8 @@ public class CommentServiceImpl implements CommentService {
             throw new AccessDeniedException("Is not writer");
         }
 
+        boardRepository.decreaseCommentCount(boardId, commentId, LocalDateTime.now());
         commentRepository.delete(comment);
+        boardDetailCacheService.evict(boardId);
     }
 }
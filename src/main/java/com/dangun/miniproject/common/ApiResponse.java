@@ -2,6 +2,7 @@ package com.dangun.miniproject.common;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
 import java.net.URI;
@@ -41,4 +42,10 @@ public class ApiResponse<T> {
     public static <T> ResponseEntity<ApiResponse<T>> unAuthorized(String code, String message) {
         return ResponseEntity.status(401).body(new ApiResponse<>(code, null, message));
     }
+
+    public static <T> ResponseEntity<ApiResponse<T>> serviceUnavailable(String code, String message, long retryAfterSeconds) {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ApiResponse<>(code, null, message));
+    }
 }
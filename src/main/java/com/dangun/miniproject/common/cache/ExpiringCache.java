@@ -0,0 +1,101 @@
+package com.dangun.miniproject.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 최대 크기 + TTL 캐시
+ * - 모든 항목의 TTL 이 같으므로 삽입 순서가 곧 만료 순서
+ *   가득 차면 가장 먼저 넣은 (만료가 가장 가까운) 항목을 O(1) 로 제거, 저장 시 앞쪽의 만료 항목도 함께 제거
+ * - 같은 key 를 다시 저장하면 맨 뒤로 이동 (삽입 순서 LinkedHashMap 은 put 만으로는 순서가 바뀌지 않음)
+ * - 조회는 read lock 만 사용 (삽입 순서 LinkedHashMap 은 get 시 구조가 바뀌지 않음)
+ */
+public class ExpiringCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public ExpiringCache(int maxSize, long ttlMillis) {
+        this.maxSize = Math.max(maxSize, 1);
+        this.ttlMillis = ttlMillis;
+    }
+
+    // 만료되지 않은 값, 없으면 null
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+
+        lock.readLock().lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            return entry != null && entry.expiresAt > now ? entry.value : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        long now = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            entries.remove(key);
+            entries.put(key, new Entry<>(value, now + ttlMillis));
+
+            Iterator<Entry<V>> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry<V> eldest = iterator.next();
+                if (entries.size() <= maxSize && eldest.expiresAt > now) {
+                    break;
+                }
+                iterator.remove();
+                evictionCount.increment();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(K key) {
+        lock.writeLock().lock();
+        try {
+            return entries.remove(key) != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 제거한 항목 수 반환
+    public int clear() {
+        lock.writeLock().lock();
+        try {
+            int size = entries.size();
+            entries.clear();
+            return size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.dangun.miniproject.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// @Async 는 Spring Boot 기본 applicationTaskExecutor 사용 (spring.threads.virtual.enabled=true 면 가상 스레드)
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
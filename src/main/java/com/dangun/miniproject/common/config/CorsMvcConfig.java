@@ -11,6 +11,7 @@ public class CorsMvcConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry corsRegistry) {
         corsRegistry
                     .addMapping("/**")
-                    .allowedOrigins("http://localhost:3000"); // 프론트 port 확인 후 변경 필요
+                    .allowedOrigins("http://localhost:3000") // 프론트 port 확인 후 변경 필요
+                    .exposedHeaders("ETag"); // 조건부 GET (If-None-Match) 에 사용
     }
 }
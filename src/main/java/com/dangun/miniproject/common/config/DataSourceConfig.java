@@ -0,0 +1,31 @@
+package com.dangun.miniproject.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class DataSourceConfig {
+
+    // 가상 스레드 모드에서는 스레드 수 제한이 없어 요청이 모두 커넥션 풀에서 대기하므로
+    // Hikari 기본값(30초) 대신 짧게 기다리고 실패 (플랫폼 스레드 모드는 Tomcat 스레드 수가 먼저 제한하므로 기본값 유지)
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public static BeanPostProcessor virtualThreadConnectionTimeout(Environment environment) {
+        long timeoutMs = environment.getProperty("db.pool.virtual-thread-connection-timeout-ms", Long.class, 3000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setConnectionTimeout(timeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.dangun.miniproject.common.config;
+
+import com.dangun.miniproject.common.metrics.RequestMetricsFilter;
+import com.dangun.miniproject.common.metrics.RequestMetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MetricsConfig {
+
+    // Spring Security 필터 체인보다 먼저 실행
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            RequestMetricsRegistry requestMetricsRegistry,
+            @Value("${metrics.request.statement-budget:10}") int statementBudget) {
+
+        FilterRegistrationBean<RequestMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(requestMetricsRegistry, statementBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+
+        return registration;
+    }
+}
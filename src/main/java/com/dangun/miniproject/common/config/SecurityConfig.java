@@ -4,8 +4,11 @@ import com.dangun.miniproject.auth.filter.JWTExceptionHandlerFilter;
 import com.dangun.miniproject.auth.filter.JWTFilter;
 import com.dangun.miniproject.auth.filter.LoginFilter;
 import com.dangun.miniproject.auth.jwt.JWTUtil;
+import com.dangun.miniproject.auth.service.impl.BoundedPasswordEncoder;
+import com.dangun.miniproject.auth.service.impl.PasswordHashingExecutor;
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
 import com.dangun.miniproject.auth.service.impl.TokenBlackListService;
-import com.dangun.miniproject.member.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +21,7 @@ import org.springframework.security.config.annotation.web.configuration.WebSecur
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -28,16 +32,17 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration authenticationConfiguration;
     private final JWTUtil jwtUtil;
-    private final MemberRepository memberRepository;
+    private final PrincipalCacheService principalCacheService;
     private final TokenBlackListService tokenBlackListService;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         AuthenticationManager authenticationManager = authenticationManagerBean();
-        LoginFilter loginFilter = new LoginFilter(authenticationManager, jwtUtil);
+        LoginFilter loginFilter = new LoginFilter(authenticationManager, jwtUtil, objectMapper);
         loginFilter.setFilterProcessesUrl("/auth/login");
 
-        JWTFilter jwtFilter = new JWTFilter(jwtUtil, memberRepository, tokenBlackListService);
+        JWTFilter jwtFilter = new JWTFilter(jwtUtil, principalCacheService, tokenBlackListService);
         JWTExceptionHandlerFilter jwtExceptionHandlerFilter = new JWTExceptionHandlerFilter();
 
         // Http Security Setting
@@ -67,14 +72,16 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    // BCrypt 해싱 / 검증은 전용 풀에서 실행 (로그인 DaoAuthenticationProvider, 회원 가입 모두 사용)
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
         return (web) -> web.ignoring()
-                .requestMatchers("/css/**", "/js/**", "/images/**", "/html/**", "/favicon.ico", "/index.html");
+                .requestMatchers("/css/**", "/js/**", "/images/**", "/html/**", "/favicon.ico", "/index.html",
+                        StaticResourceConfig.ASSETS_PATH + "**");
     }
 }
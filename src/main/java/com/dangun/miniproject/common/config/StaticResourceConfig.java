@@ -0,0 +1,29 @@
+package com.dangun.miniproject.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내용 해시를 붙인 정적 리소스 사본 (/assets/**, gradle/static-assets.gradle 에서 생성)
+ * - 내용이 바뀌면 파일명도 바뀌므로 1년 immutable 캐시
+ * - 빌드 시 만든 .br / .gz 가 있으면 Accept-Encoding 에 맞춰 제공
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    public static final String ASSETS_PATH = "/assets/";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(ASSETS_PATH + "**")
+                .addResourceLocations("classpath:/static" + ASSETS_PATH)
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+}
@@ -2,31 +2,64 @@ package com.dangun.miniproject.common.controller;
 
 import com.dangun.miniproject.common.code.Code;
 import com.dangun.miniproject.common.code.CodeKey;
+import com.dangun.miniproject.common.ApiResponse;
+import com.dangun.miniproject.common.dto.CodeImportReport;
+import com.dangun.miniproject.common.etag.ConditionalGet;
 import com.dangun.miniproject.common.dto.CodeResultDto;
+import com.dangun.miniproject.common.service.CodeBulkService;
 import com.dangun.miniproject.common.service.CodeService;
+import com.dangun.miniproject.common.service.CodeTableCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class CodeController {
 	
 	private final CodeService codeService;
+	private final CodeBulkService codeBulkService;
+	private final CodeTableCache codeTableCache;
 		
+	// 조회는 캐시 스냅샷의 그룹 단위 내용 버전으로 ETag, 변경이 없으면 304
 	@GetMapping("/codes")
 	public CodeResultDto listCode(
 			@RequestParam("groupCode") String groupCode, 
 			@RequestParam("pageNumber") int pageNumber, 
-			@RequestParam("pageSize") int pageSize
+			@RequestParam("pageSize") int pageSize,
+			WebRequest request
 			) {
+		if (ConditionalGet.notModified(request, ConditionalGet.eTag("codes", groupCode, codeTableCache.groupVersion(groupCode)))) {
+			return null;
+		}
 		return codeService.listCode(groupCode, pageNumber, pageSize);
 	}	
 	
+	// 여러 그룹의 코드를 한 번에 조회 (예: /codes/groups?groupCodes=010,020)
+	@GetMapping("/codes/groups")
+	public CodeResultDto listCodes(@RequestParam("groupCodes") List<String> groupCodes, WebRequest request) {
+		if (ConditionalGet.notModified(request, ConditionalGet.eTag("codes", "all", codeTableCache.version()))) {
+			return null;
+		}
+		return codeService.listCodes(groupCodes);
+	}
+
 	@GetMapping("/codes/{groupCode}/{code}")
 	public CodeResultDto detailCode(
 			@PathVariable("groupCode") String groupCode,
-			@PathVariable("code") String code
+			@PathVariable("code") String code,
+			WebRequest request
 			) {
+		if (ConditionalGet.notModified(request, ConditionalGet.eTag("codes", groupCode, codeTableCache.groupVersion(groupCode)))) {
+			return null;
+		}
 		CodeKey codeKey = new CodeKey(groupCode, code);
         return codeService.detailCode(codeKey);
 	}
@@ -60,6 +93,19 @@ public class CodeController {
 		return codeService.updateCode(codeParam);
 	}
 	
+	// CSV 본문을 스트림으로 읽어 청크 단위로 등록 / 수정 (헤더: group_code,code,code_name,code_name_brief,order_no)
+	@PostMapping(value = "/codes/import", consumes = "text/csv")
+	public ResponseEntity<?> importCodes(InputStream body) {
+		CodeImportReport report = codeBulkService.importCodes(new InputStreamReader(body, StandardCharsets.UTF_8));
+		return ApiResponse.ok("CODE-S001", report, "Code Import Finished");
+	}
+
+	@GetMapping("/codes/export")
+	public ResponseEntity<StreamingResponseBody> exportCodes(
+			@RequestParam(value = "groupCode", required = false) String groupCode) {
+		return CsvResponses.attachment("codes.csv", writer -> codeBulkService.exportCodes(groupCode, writer));
+	}
+
 	@DeleteMapping("/codes/{groupCode}/{code}")
 	public CodeResultDto deleteCode(
 			@PathVariable("groupCode") String groupCode,
@@ -0,0 +1,35 @@
+package com.dangun.miniproject.common.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+// CSV 내보내기 응답, 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰면서 바로 전송
+final class CsvResponses {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private CsvResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> attachment(String filename, Consumer<Writer> body) {
+        StreamingResponseBody stream = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            body.accept(writer);
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(stream);
+    }
+}
@@ -1,30 +1,63 @@
 package com.dangun.miniproject.common.controller;
 
 import com.dangun.miniproject.common.code.GroupCode;
+import com.dangun.miniproject.common.ApiResponse;
+import com.dangun.miniproject.common.dto.CodeImportReport;
+import com.dangun.miniproject.common.etag.ConditionalGet;
 import com.dangun.miniproject.common.dto.CodeResultDto;
+import com.dangun.miniproject.common.service.CodeBulkService;
+import com.dangun.miniproject.common.service.CodeTableCache;
 import com.dangun.miniproject.common.service.GroupCodeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequiredArgsConstructor
 public class GroupCodeController {
 	
 	private final GroupCodeService groupCodeService;
+	private final CodeBulkService codeBulkService;
+	private final CodeTableCache codeTableCache;
 		
 	@GetMapping("/groupcodes")
 	public CodeResultDto listGroupCode(
 			@RequestParam("pageNumber") int pageNumber, 
-			@RequestParam("pageSize") int pageSize
+			@RequestParam("pageSize") int pageSize,
+			WebRequest request
 			) {
+		if (ConditionalGet.notModified(request, ConditionalGet.eTag("groupcodes", "list", codeTableCache.groupCodesVersion()))) {
+			return null;
+		}
 		return groupCodeService.listGroupCode( pageNumber, pageSize);
 	}	
 	
 	@GetMapping("/groupcodes/{groupCode}")
-	public CodeResultDto detailGroupCode(@PathVariable("groupCode") String groupCode	) {
+	public CodeResultDto detailGroupCode(@PathVariable("groupCode") String groupCode, WebRequest request) {
+		if (ConditionalGet.notModified(request, ConditionalGet.eTag("groupcodes", groupCode, codeTableCache.groupVersion(groupCode)))) {
+			return null;
+		}
         return groupCodeService.detailGroupCode(groupCode);
 	}
 	
+	// CSV 본문을 스트림으로 읽어 청크 단위로 등록 / 수정 (헤더: group_code,group_code_name,group_code_desc)
+	@PostMapping(value = "/groupcodes/import", consumes = "text/csv")
+	public ResponseEntity<?> importGroupCodes(InputStream body) {
+		CodeImportReport report = codeBulkService.importGroupCodes(new InputStreamReader(body, StandardCharsets.UTF_8));
+		return ApiResponse.ok("GROUPCODE-S001", report, "Group Code Import Finished");
+	}
+
+	@GetMapping("/groupcodes/export")
+	public ResponseEntity<StreamingResponseBody> exportGroupCodes() {
+		return CsvResponses.attachment("groupcodes.csv", codeBulkService::exportGroupCodes);
+	}
+
 	@PostMapping("/groupcodes")
 	public CodeResultDto insertGroupCode(@RequestBody GroupCode groupCode){
 		System.out.println(groupCode);
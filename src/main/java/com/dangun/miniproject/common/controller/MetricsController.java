@@ -0,0 +1,97 @@
+package com.dangun.miniproject.common.controller;
+
+import com.dangun.miniproject.auth.service.impl.PasswordHashingExecutor;
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
+import com.dangun.miniproject.board.service.impl.ApproximateBoardCounter;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
+import com.dangun.miniproject.board.service.impl.InvertedIndexBoardSearchEngine;
+import com.dangun.miniproject.common.ApiResponse;
+import com.dangun.miniproject.common.dto.MetricsResponse;
+import com.dangun.miniproject.common.metrics.QueryCountInspector;
+import com.dangun.miniproject.common.metrics.RequestMetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 애플리케이션 내부 지표 조회 / 초기화 (부하 테스트용, metrics.endpoint.enabled=true 인 경우에만 등록)
+@RestController
+@ConditionalOnProperty(name = "metrics.endpoint.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final RequestMetricsRegistry requestMetricsRegistry;
+    private final PrincipalCacheService principalCacheService;
+    private final BoardDetailCacheService boardDetailCacheService;
+    private final ApproximateBoardCounter approximateBoardCounter;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final ObjectProvider<InvertedIndexBoardSearchEngine> searchIndex;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<?> getMetrics() {
+
+        return ApiResponse.ok("METRICS-S001", metrics(), "Metrics Read Success");
+    }
+
+    // 부하 테스트 구간별로 측정할 수 있도록 요청 집계만 초기화
+    @DeleteMapping("/metrics/requests")
+    public ResponseEntity<?> resetRequestMetrics() {
+        requestMetricsRegistry.reset();
+
+        return ApiResponse.ok("METRICS-S002", null, "Request Metrics Reset Success");
+    }
+
+    private MetricsResponse metrics() {
+        Map<String, Object> principalCache = new LinkedHashMap<>();
+        principalCache.put("size", principalCacheService.size());
+        principalCache.put("hitCount", principalCacheService.getHitCount());
+        principalCache.put("missCount", principalCacheService.getMissCount());
+
+        Map<String, Object> boardDetailCache = new LinkedHashMap<>();
+        boardDetailCache.put("size", boardDetailCacheService.size());
+        boardDetailCache.put("hitCount", boardDetailCacheService.getHitCount());
+        boardDetailCache.put("missCount", boardDetailCacheService.getMissCount());
+        boardDetailCache.put("hitRatio", boardDetailCacheService.getHitRatio());
+        boardDetailCache.put("loadCount", boardDetailCacheService.getLoadCount());
+        boardDetailCache.put("evictionCount", boardDetailCacheService.getEvictionCount());
+        boardDetailCache.put("invalidationCount", boardDetailCacheService.getInvalidationCount());
+
+        Map<String, Object> boardCount = new LinkedHashMap<>();
+        boardCount.put("approximateTotal", approximateBoardCounter.getApproximateTotal());
+
+        Map<String, Object> passwordHashing = new LinkedHashMap<>();
+        passwordHashing.put("poolSize", passwordHashingExecutor.getPoolSize());
+        passwordHashing.put("activeCount", passwordHashingExecutor.getActiveCount());
+        passwordHashing.put("queueDepth", passwordHashingExecutor.getQueueDepth());
+        passwordHashing.put("completedCount", passwordHashingExecutor.getCompletedCount());
+        passwordHashing.put("rejectedCount", passwordHashingExecutor.getRejectedCount());
+        passwordHashing.put("expiredCount", passwordHashingExecutor.getExpiredCount());
+        passwordHashing.put("averageHashingMillis", passwordHashingExecutor.getAverageHashingMillis());
+        passwordHashing.put("maxHashingMillis", passwordHashingExecutor.getMaxHashingMillis());
+        passwordHashing.put("averageQueueWaitMillis", passwordHashingExecutor.getAverageQueueWaitMillis());
+
+        InvertedIndexBoardSearchEngine index = searchIndex.getIfAvailable();
+        Map<String, Object> searchIndexMetrics = null;
+        if (index != null) {
+            searchIndexMetrics = new LinkedHashMap<>();
+            searchIndexMetrics.put("ready", index.isReady());
+            searchIndexMetrics.put("size", index.size());
+        }
+
+        return MetricsResponse.builder()
+                .requests(requestMetricsRegistry.snapshot())
+                .totalStatements(QueryCountInspector.getTotalCount())
+                .principalCache(principalCache)
+                .boardDetailCache(boardDetailCache)
+                .boardCount(boardCount)
+                .passwordHashing(passwordHashing)
+                .searchIndex(searchIndexMetrics)
+                .build();
+    }
+}
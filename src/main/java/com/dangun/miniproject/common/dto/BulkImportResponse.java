@@ -0,0 +1,17 @@
+package com.dangun.miniproject.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 게시글 / 댓글 일괄 등록 결과 (요청 순서대로 생성된 id)
+@Getter
+public class BulkImportResponse {
+    private final int count;
+    private final List<Long> ids;
+
+    public BulkImportResponse(List<Long> ids) {
+        this.count = ids.size();
+        this.ids = ids;
+    }
+}
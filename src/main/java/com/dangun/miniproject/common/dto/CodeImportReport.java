@@ -0,0 +1,71 @@
+package com.dangun.miniproject.common.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 코드 / 그룹 코드 일괄 등록 결과 (청크별 반영 결과 / 행 단위 오류)
+@Getter
+public class CodeImportReport {
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final String table;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final List<RowError> errors = new ArrayList<>();
+    private long totalRows;
+    private long appliedRows;
+    private long rejectedRows;
+    private long failedRows;
+    private long totalMillis;
+
+    public CodeImportReport(String table) {
+        this.table = table;
+    }
+
+    // 값이 잘못되어 반영하지 않은 행
+    public void reject(long line, String message) {
+        totalRows++;
+        rejectedRows++;
+        addError(line, message);
+    }
+
+    public void addChunk(long firstLine, long lastLine, int rows, long elapsedNanos, String error) {
+        totalRows += rows;
+        if (error == null) {
+            appliedRows += rows;
+        } else {
+            failedRows += rows;
+            addError(firstLine, "line " + firstLine + "-" + lastLine + " 반영 실패: " + error);
+        }
+        chunks.add(new Chunk(chunks.size() + 1, firstLine, lastLine, rows, error == null, elapsedNanos / 1_000_000L, error));
+    }
+
+    public void finish(long totalNanos) {
+        this.totalMillis = totalNanos / 1_000_000L;
+    }
+
+    public boolean isSuccess() {
+        return rejectedRows == 0 && failedRows == 0;
+    }
+
+    // 응답 크기가 커지지 않도록 앞쪽 오류만 보관
+    private void addError(long line, String message) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "table=" + table + ", rows=" + totalRows + ", applied=" + appliedRows + ", rejected=" + rejectedRows
+                + ", failed=" + failedRows + ", chunks=" + chunks.size() + ", totalMs=" + totalMillis;
+    }
+
+    public record Chunk(int index, long firstLine, long lastLine, int rows, boolean applied, long elapsedMillis,
+                        String error) {
+    }
+
+    public record RowError(long line, String message) {
+    }
+}
@@ -3,6 +3,7 @@ package com.dangun.miniproject.common.dto;
 import lombok.Data;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 public class CodeResultDto {
@@ -11,5 +12,6 @@ public class CodeResultDto {
 	private GroupCodeDto groupCodeDto;
 	private List<CodeDto> codeDtoList;
 	private List<GroupCodeDto> groupCodeDtoList;
+	private Map<String, List<CodeDto>> codeDtoListByGroup;
 	private long count;
 }
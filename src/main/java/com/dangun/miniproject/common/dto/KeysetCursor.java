@@ -0,0 +1,47 @@
+package com.dangun.miniproject.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.dangun.miniproject.common.exception.InvalidInputException;
+
+import lombok.Getter;
+
+// 게시글 / 댓글 목록 keyset 페이지네이션 위치 (createdAt, id)
+@Getter
+public class KeysetCursor {
+	private static final String DELIMITER = "_";
+
+	private final LocalDateTime createdAt;
+	private final Long id;
+
+	private KeysetCursor(final LocalDateTime createdAt, final Long id) {
+		this.createdAt = createdAt;
+		this.id = id;
+	}
+
+	// 페이지 마지막 항목의 (createdAt, id)
+	public static KeysetCursor of(final LocalDateTime createdAt, final Long id) {
+		return new KeysetCursor(createdAt, id);
+	}
+
+	// 클라이언트에는 내부 구조를 노출하지 않는 불투명 토큰으로 전달
+	public String encode() {
+		final String raw = createdAt + DELIMITER + id;
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static KeysetCursor decode(final String token) {
+		try {
+			final String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			final int index = raw.lastIndexOf(DELIMITER);
+
+			return new KeysetCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+		} catch (IllegalArgumentException | DateTimeException | IndexOutOfBoundsException e) {
+			throw new InvalidInputException("유효하지 않은 cursor 입니다.");
+		}
+	}
+}
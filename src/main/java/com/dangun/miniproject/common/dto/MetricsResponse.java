@@ -0,0 +1,23 @@
+package com.dangun.miniproject.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+// 요청 / SQL 집계와 캐시, 카운터, 해싱 풀 상태
+@Getter
+@Builder
+public class MetricsResponse {
+    private List<RouteMetricsResponse> requests;
+    private long totalStatements;
+    private Map<String, Object> principalCache;
+    private Map<String, Object> boardDetailCache;
+    private Map<String, Object> boardCount;
+    private Map<String, Object> passwordHashing;
+    // board.search.engine=index 일 때만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Object> searchIndex;
+}
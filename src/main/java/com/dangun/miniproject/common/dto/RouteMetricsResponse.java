@@ -0,0 +1,22 @@
+package com.dangun.miniproject.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 라우트별 요청 지연 시간 (ms) / SQL 수 집계
+@Getter
+@Builder
+public class RouteMetricsResponse {
+    private String route;
+    private long count;
+    private long errorCount;
+    private double averageMillis;
+    private double p50Millis;
+    private double p90Millis;
+    private double p99Millis;
+    private double maxMillis;
+    private double averageStatements;
+    private long maxStatements;
+    // statement budget 을 넘은 요청 수
+    private long overBudgetCount;
+}
@@ -0,0 +1,50 @@
+package com.dangun.miniproject.common.etag;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 조건부 GET 처리
+ * - If-None-Match 가 ETag 와 같으면 true (응답은 304, 컨트롤러는 본문 없이 null 반환)
+ * - 다르면 ETag 헤더만 설정하고 false
+ * - Spring Security 기본값(no-store)이면 브라우저가 응답을 저장하지 않아 재검증 요청을 보내지 않으므로
+ *   저장은 하되 매번 재검증하도록 private, no-cache 로 설정
+ */
+public final class ConditionalGet {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    private static final Pattern PLAIN = Pattern.compile("[A-Za-z0-9_.*-]{1,64}");
+
+    private ConditionalGet() {
+    }
+
+    public static boolean notModified(WebRequest request, String eTag) {
+        if (request instanceof ServletWebRequest servletWebRequest && servletWebRequest.getResponse() != null) {
+            servletWebRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+
+        return request.checkNotModified(eTag);
+    }
+
+    // W/"resource-scope-version", ETag 에 쓸 수 없는 문자가 있는 scope 는 CRC32 로 대체
+    public static String eTag(String resource, Object scope, String version) {
+        return "W/\"" + resource + "-" + safe(String.valueOf(scope)) + "-" + safe(version) + "\"";
+    }
+
+    private static String safe(String value) {
+        if (PLAIN.matcher(value).matches()) {
+            return value;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(value.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().toHexDigits((int) crc.getValue());
+    }
+}
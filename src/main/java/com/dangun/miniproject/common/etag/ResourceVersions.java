@@ -0,0 +1,75 @@
+package com.dangun.miniproject.common.etag;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 조회 API 의 ETag 로 쓰는 버전 (조건부 GET)
+ * - 별도 버전 저장소 없이 행에 이미 있는 updated_at 으로 계산 (쓰기 경로에서 따로 올리지 않으므로 잠금 경합 없음)
+ *   - board.updated_at: 게시글 수정 / 삭제 표시, 댓글 작성 / 수정 / 삭제, 댓글 수 보정 시 갱신
+ *   - member.updated_at: 닉네임 / 주소 변경 시 갱신
+ * - 게시글 상세: 해당 게시글 updated_at (PK 조회) + 작성자 닉네임 / 주소가 함께 노출되므로 회원 MAX(updated_at)
+ * - 게시글 목록: 게시글 MAX(updated_at), MAX(id) + 회원 MAX(updated_at), 모두 인덱스 끝값만 읽음
+ *   (여러 인스턴스가 각자의 시각으로 갱신하므로 서버 시각이 동기화되어 있어야 함, 더 이른 시각으로 기록된 변경은 목록 ETag 에 반영되지 않음)
+ * - 회원: 해당 회원 updated_at (PK 조회)
+ */
+@Component
+public class ResourceVersions {
+
+    public static final String BOARDS = "boards";
+    public static final String MEMBERS = "members";
+
+    private static final String BOARD_VERSION = """
+            SELECT b.updated_at, (SELECT MAX(m.updated_at) FROM member m)
+              FROM board b
+             WHERE b.id = ?
+            """;
+    private static final String BOARD_LIST_VERSION = """
+            SELECT (SELECT MAX(b.updated_at) FROM board b),
+                   (SELECT MAX(b.id) FROM board b),
+                   (SELECT MAX(m.updated_at) FROM member m)
+            """;
+    private static final String MEMBER_VERSION = "SELECT m.updated_at FROM member m WHERE m.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResourceVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 게시글 상세 버전, 게시글을 읽기 전에 조회해야 함 (없는 게시글은 "0")
+    public String boardVersion(Long boardId) {
+        return first(jdbcTemplate.query(BOARD_VERSION,
+                (rs, rowNum) -> join(rs.getTimestamp(1), rs.getTimestamp(2)), boardId));
+    }
+
+    // 게시글 목록 버전 (검색 제외 전체 / 작성 게시글 목록 공용, 사용자별 구분은 ETag scope 로)
+    public String boardListVersion() {
+        return first(jdbcTemplate.query(BOARD_LIST_VERSION,
+                (rs, rowNum) -> join(rs.getTimestamp(1), rs.getLong(2), rs.getTimestamp(3))));
+    }
+
+    public String memberVersion(Long memberId) {
+        return first(jdbcTemplate.query(MEMBER_VERSION, (rs, rowNum) -> join(rs.getTimestamp(1)), memberId));
+    }
+
+    private String first(List<String> versions) {
+        return versions.isEmpty() ? "0" : versions.get(0);
+    }
+
+    // 시각은 epoch 마이크로초, 36진수로 짧게 (null 은 0)
+    private String join(Object... values) {
+        StringJoiner joiner = new StringJoiner(".");
+        for (Object value : values) {
+            long number = value instanceof Timestamp timestamp
+                    ? timestamp.getTime() / 1000 * 1_000_000L + timestamp.getNanos() / 1000
+                    : value instanceof Long longValue ? longValue : 0L;
+            joiner.add(Long.toString(number, 36));
+        }
+        return joiner.toString();
+    }
+}
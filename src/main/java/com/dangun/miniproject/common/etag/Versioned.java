@@ -0,0 +1,7 @@
+package com.dangun.miniproject.common.etag;
+
+/**
+ * 조회 결과와 그 결과를 읽기 직전의 버전 (응답 ETag 용)
+ */
+public record Versioned<T>(T body, String version) {
+}
@@ -1,5 +1,6 @@
 package com.dangun.miniproject.common.exception;
 
+import com.dangun.miniproject.auth.exception.PasswordHashingBusyException;
 import com.dangun.miniproject.common.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -26,6 +27,11 @@ public class GlobalExceptionHandler {
         return ApiResponse.forbidden(AUTH + "F301", e.getMessage());
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<?> handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+        return ApiResponse.serviceUnavailable(AUTH + "F503", e.getMessage(), e.getRetryAfterSeconds());
+    }
+
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<?> handleAuthenticationException(AuthenticationException e) {
         return ApiResponse.unAuthorized(AUTH + "F101", e.getMessage());
@@ -0,0 +1,50 @@
+package com.dangun.miniproject.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hibernate 가 실행하는 SQL 문 수를 요청(스레드) 단위로 셈
+ * - spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록 (Hibernate 가 직접 생성하므로 상태는 static)
+ * - RequestMetricsFilter 가 요청 시작 시 start(), 끝날 때 finish() 로 해당 요청의 SQL 수를 가져감
+ * - JdbcTemplate 로 직접 실행하는 SQL 은 포함되지 않음
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+    private static final LongAdder TOTAL = new LongAdder();
+
+    @Override
+    public String inspect(String sql) {
+        TOTAL.increment();
+
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    // 현재 요청에서 실행된 SQL 수, 집계 종료
+    public static int finish() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+
+        return count == null ? 0 : count[0];
+    }
+
+    public static int current() {
+        int[] count = CURRENT.get();
+
+        return count == null ? 0 : count[0];
+    }
+
+    public static long getTotalCount() {
+        return TOTAL.sum();
+    }
+}
@@ -0,0 +1,59 @@
+package com.dangun.miniproject.common.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 지연 시간 / Hibernate SQL 수를 라우트 단위로 기록
+ * - Spring Security 필터보다 먼저 실행되므로 인증(JWTFilter) 에서 실행된 SQL 도 포함
+ * - 한 요청의 SQL 수가 statement budget 을 넘으면 경고 로그
+ */
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String UNMAPPED = "UNMAPPED";
+
+    private final RequestMetricsRegistry requestMetricsRegistry;
+    private final int statementBudget;
+
+    public RequestMetricsFilter(RequestMetricsRegistry requestMetricsRegistry, int statementBudget) {
+        this.requestMetricsRegistry = requestMetricsRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long startedAt = System.nanoTime();
+        QueryCountInspector.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            int statementCount = QueryCountInspector.finish();
+            boolean overBudget = statementBudget > 0 && statementCount > statementBudget;
+            String route = request.getMethod() + " " + routeOf(request);
+
+            if (overBudget) {
+                log.warn("statement budget exceeded: {} {} executed {} statements (budget {}, route {})",
+                        request.getMethod(), request.getRequestURI(), statementCount, statementBudget, route);
+            }
+
+            requestMetricsRegistry.record(route, response.getStatus(), elapsedNanos, statementCount, overBudget);
+        }
+    }
+
+    // 매핑된 URI 패턴 (인증 실패 등으로 컨트롤러까지 가지 못한 요청은 UNMAPPED)
+    private String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return pattern != null ? pattern.toString() : UNMAPPED;
+    }
+}
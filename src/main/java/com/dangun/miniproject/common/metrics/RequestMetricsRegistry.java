@@ -0,0 +1,130 @@
+package com.dangun.miniproject.common.metrics;
+
+import com.dangun.miniproject.common.dto.RouteMetricsResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트(METHOD + URI 패턴) 별 요청 지연 시간 / SQL 수 집계
+ * - 지연 시간은 고정 구간 히스토그램으로 기록하고 p50 / p90 / p99 는 구간 상한값으로 추정
+ * - 라우트는 "/boards/{boardId}" 같은 매핑 패턴 단위이므로 개수가 늘어나지 않음
+ */
+@Component
+public class RequestMetricsRegistry {
+
+    // 히스토그램 구간 상한 (ms), 마지막 구간은 그 이상 전부
+    static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000};
+
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    public void record(String route, int status, long elapsedNanos, int statementCount, boolean overBudget) {
+        routes.computeIfAbsent(route, key -> new RouteMetrics())
+                .record(status, elapsedNanos, statementCount, overBudget);
+    }
+
+    // 요청 수가 많은 라우트 순
+    public List<RouteMetricsResponse> snapshot() {
+        return routes.entrySet().stream()
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .sorted(Comparator.comparingLong(RouteMetricsResponse::getCount).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        routes.clear();
+    }
+
+    private static class RouteMetrics {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+
+        private final LongAdder statementCount = new LongAdder();
+        private final LongAccumulator maxStatementCount = new LongAccumulator(Math::max, 0L);
+        private final LongAdder overBudgetCount = new LongAdder();
+
+        RouteMetrics() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(int status, long elapsedNanos, int statements, boolean overBudget) {
+            count.increment();
+            if (status >= 500) {
+                errorCount.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            buckets[bucketOf(elapsedNanos)].increment();
+
+            statementCount.add(statements);
+            maxStatementCount.accumulate(statements);
+            if (overBudget) {
+                overBudgetCount.increment();
+            }
+        }
+
+        RouteMetricsResponse toResponse(String route) {
+            long[] counts = new long[buckets.length];
+            long total = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+            }
+
+            long requests = count.sum();
+            double maxMillis = maxNanos.get() / 1_000_000.0;
+
+            return RouteMetricsResponse.builder()
+                    .route(route)
+                    .count(requests)
+                    .errorCount(errorCount.sum())
+                    .averageMillis(requests == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / requests)
+                    .p50Millis(percentile(counts, total, 0.50, maxMillis))
+                    .p90Millis(percentile(counts, total, 0.90, maxMillis))
+                    .p99Millis(percentile(counts, total, 0.99, maxMillis))
+                    .maxMillis(maxMillis)
+                    .averageStatements(requests == 0 ? 0.0 : (double) statementCount.sum() / requests)
+                    .maxStatements(maxStatementCount.get())
+                    .overBudgetCount(overBudgetCount.sum())
+                    .build();
+        }
+
+        private static int bucketOf(long elapsedNanos) {
+            long millis = elapsedNanos / 1_000_000L;
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                if (millis < BUCKET_BOUNDS_MILLIS[i]) {
+                    return i;
+                }
+            }
+            return BUCKET_BOUNDS_MILLIS.length;
+        }
+
+        // 누적 비율이 percentile 을 넘는 첫 구간의 상한 (마지막 구간이면 최댓값)
+        private static double percentile(long[] counts, long total, double percentile, double maxMillis) {
+            if (total == 0) {
+                return 0.0;
+            }
+
+            long target = (long) Math.ceil(percentile * total);
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target) {
+                    return i < BUCKET_BOUNDS_MILLIS.length ? Math.min(BUCKET_BOUNDS_MILLIS[i], maxMillis) : maxMillis;
+                }
+            }
+            return maxMillis;
+        }
+    }
+}
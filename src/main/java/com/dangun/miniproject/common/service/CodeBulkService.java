@@ -0,0 +1,14 @@
+package com.dangun.miniproject.common.service;
+
+import com.dangun.miniproject.common.dto.CodeImportReport;
+
+import java.io.Reader;
+import java.io.Writer;
+
+public interface CodeBulkService {
+	CodeImportReport importCodes(Reader reader);
+	CodeImportReport importGroupCodes(Reader reader);
+
+	void exportCodes(String groupCode, Writer writer);
+	void exportGroupCodes(Writer writer);
+}
@@ -0,0 +1,299 @@
+package com.dangun.miniproject.common.service;
+
+import com.dangun.miniproject.common.dto.CodeImportReport;
+import com.dangun.miniproject.common.exception.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 코드 / 그룹 코드 CSV 일괄 등록, 내보내기
+ * - 등록: 요청 본문을 한 행씩 읽어 청크 단위 multi-row upsert (청크마다 별도 트랜잭션)
+ *   save() 처럼 행마다 SELECT 후 INSERT / UPDATE 하지 않고 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 반영
+ * - 값이 잘못된 행은 건너뛰고, 반영에 실패한 청크는 롤백 후 다음 청크 계속 진행 (결과에 줄 번호와 함께 기록)
+ * - 내보내기: 정렬 키 기준 keyset 청크로 읽어 응답에 씀 (청크를 읽는 동안만 커넥션 사용, 응답을 쓰는 동안은 반납)
+ *   한 번의 일관된 스냅샷은 아니므로 내보내는 도중의 변경은 이후 청크에만 반영될 수 있음
+ */
+@Slf4j
+@Service
+public class CodeBulkServiceImpl implements CodeBulkService {
+
+	static final List<String> CODE_COLUMNS = List.of("group_code", "code", "code_name", "code_name_brief", "order_no");
+	static final List<String> GROUP_CODE_COLUMNS = List.of("group_code", "group_code_name", "group_code_desc");
+
+	private static final int MAX_VALUE_LENGTH = 255;
+
+	private static final String UPSERT_CODE = """
+			INSERT INTO code (group_code, code, code_name, code_name_brief, order_no) VALUES (?, ?, ?, ?, ?)
+			AS new
+			ON DUPLICATE KEY UPDATE code_name = new.code_name, code_name_brief = new.code_name_brief, order_no = new.order_no
+			""";
+	private static final String UPSERT_GROUP_CODE = """
+			INSERT INTO group_code (group_code, group_code_name, group_code_desc) VALUES (?, ?, ?)
+			AS new
+			ON DUPLICATE KEY UPDATE group_code_name = new.group_code_name, group_code_desc = new.group_code_desc
+			""";
+
+	private static final String SELECT_CODE = "SELECT group_code, code, code_name, code_name_brief, order_no FROM code";
+	private static final String AFTER_CODE = "(group_code > ? OR (group_code = ? AND (order_no > ? OR (order_no = ? AND code > ?))))";
+	private static final String ORDER_CODE = " ORDER BY group_code, order_no, code LIMIT ?";
+	private static final String SELECT_GROUP_CODE = "SELECT group_code, group_code_name, group_code_desc FROM group_code";
+	private static final String ORDER_GROUP_CODE = " ORDER BY group_code LIMIT ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final CodeTableCache codeTableCache;
+	private final int chunkSize;
+
+	public CodeBulkServiceImpl(JdbcTemplate jdbcTemplate,
+							   PlatformTransactionManager transactionManager,
+							   CodeTableCache codeTableCache,
+							   @Value("${code.import.chunk-size:500}") int chunkSize) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.codeTableCache = codeTableCache;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public CodeImportReport importCodes(Reader reader) {
+		return importRows("code", reader, CODE_COLUMNS, UPSERT_CODE, this::toCodeRow);
+	}
+
+	@Override
+	public CodeImportReport importGroupCodes(Reader reader) {
+		return importRows("group_code", reader, GROUP_CODE_COLUMNS, UPSERT_GROUP_CODE, this::toGroupCodeRow);
+	}
+
+	@Override
+	public void exportCodes(String groupCode, Writer writer) {
+		String filter = groupCode == null ? "" : "group_code = ? AND ";
+		Object[] filterArgs = groupCode == null ? new Object[0] : new Object[]{groupCode};
+
+		export(writer, CODE_COLUMNS,
+				SELECT_CODE + (groupCode == null ? "" : " WHERE group_code = ?") + ORDER_CODE,
+				SELECT_CODE + " WHERE " + filter + AFTER_CODE + ORDER_CODE,
+				filterArgs,
+				last -> {
+					int orderNo = Integer.parseInt(last[4]);
+					return new Object[]{last[0], last[0], orderNo, orderNo, last[1]};
+				});
+	}
+
+	@Override
+	public void exportGroupCodes(Writer writer) {
+		export(writer, GROUP_CODE_COLUMNS,
+				SELECT_GROUP_CODE + ORDER_GROUP_CODE,
+				SELECT_GROUP_CODE + " WHERE group_code > ?" + ORDER_GROUP_CODE,
+				new Object[0],
+				last -> new Object[]{last[0]});
+	}
+
+	private CodeImportReport importRows(String table, Reader reader, List<String> columns, String upsertSql,
+										Function<List<String>, Object[]> toRow) {
+		long startedAt = System.nanoTime();
+		CodeImportReport report = new CodeImportReport(table);
+		CodeCsvReader csv = new CodeCsvReader(reader);
+
+		checkHeader(csv, columns);
+
+		List<Object[]> chunk = new ArrayList<>(chunkSize);
+		long firstLine = 0;
+		long lastLine = 0;
+
+		while (true) {
+			List<String> record;
+			try {
+				record = csv.next();
+			} catch (IOException e) {
+				// 본문이 중간에 잘렸거나 형식이 깨진 경우 이미 읽은 행까지만 반영
+				report.reject(csv.getRecordLine(), e.getMessage());
+				break;
+			}
+			if (record == null) {
+				break;
+			}
+
+			Object[] row;
+			try {
+				row = toRow.apply(record);
+			} catch (IllegalArgumentException e) {
+				report.reject(csv.getRecordLine(), e.getMessage());
+				continue;
+			}
+
+			if (chunk.isEmpty()) {
+				firstLine = csv.getRecordLine();
+			}
+			lastLine = csv.getRecordLine();
+			chunk.add(row);
+
+			if (chunk.size() == chunkSize) {
+				flush(report, upsertSql, chunk, firstLine, lastLine);
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			flush(report, upsertSql, chunk, firstLine, lastLine);
+		}
+
+		report.finish(System.nanoTime() - startedAt);
+		if (report.getAppliedRows() > 0) {
+			codeTableCache.reload();
+		}
+
+		log.info("{} import finished: {}", table, report);
+		return report;
+	}
+
+	private void flush(CodeImportReport report, String upsertSql, List<Object[]> chunk, long firstLine, long lastLine) {
+		long startedAt = System.nanoTime();
+		String error = null;
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(upsertSql, chunk));
+		} catch (DataAccessException e) {
+			error = e.getMostSpecificCause().getMessage();
+		}
+
+		report.addChunk(firstLine, lastLine, chunk.size(), System.nanoTime() - startedAt, error);
+		log.info("{} import chunk {}: lines {}-{}, {} rows, {}", report.getTable(), report.getChunks().size(),
+				firstLine, lastLine, chunk.size(), error == null ? "applied" : "failed - " + error);
+	}
+
+	private void checkHeader(CodeCsvReader csv, List<String> columns) {
+		List<String> header;
+		try {
+			header = csv.next();
+		} catch (IOException e) {
+			throw new InvalidInputException("CSV 를 읽을 수 없습니다.");
+		}
+
+		if (header == null || !columns.equals(header.stream().map(value -> value.trim().toLowerCase()).toList())) {
+			throw new InvalidInputException("CSV 헤더는 " + String.join(",", columns) + " 이어야 합니다.");
+		}
+	}
+
+	private Object[] toCodeRow(List<String> record) {
+		checkSize(record, CODE_COLUMNS);
+
+		String orderNo = record.get(4).trim();
+		try {
+			return new Object[]{
+					required(record.get(0), "group_code"),
+					required(record.get(1), "code"),
+					optional(record.get(2), "code_name"),
+					optional(record.get(3), "code_name_brief"),
+					Integer.parseInt(orderNo)
+			};
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("order_no 는 숫자여야 합니다: " + orderNo);
+		}
+	}
+
+	private Object[] toGroupCodeRow(List<String> record) {
+		checkSize(record, GROUP_CODE_COLUMNS);
+
+		return new Object[]{
+				required(record.get(0), "group_code"),
+				optional(record.get(1), "group_code_name"),
+				optional(record.get(2), "group_code_desc")
+		};
+	}
+
+	private void checkSize(List<String> record, List<String> columns) {
+		if (record.size() != columns.size()) {
+			throw new IllegalArgumentException("값의 개수가 " + columns.size() + " 개가 아닙니다: " + record.size());
+		}
+	}
+
+	private String required(String value, String column) {
+		String trimmed = optional(value, column);
+		if (trimmed == null) {
+			throw new IllegalArgumentException(column + " 는 필수입니다.");
+		}
+		return trimmed;
+	}
+
+	// 빈 값은 null 로 저장
+	private String optional(String value, String column) {
+		String trimmed = value.trim();
+		if (trimmed.length() > MAX_VALUE_LENGTH) {
+			throw new IllegalArgumentException(column + " 는 " + MAX_VALUE_LENGTH + " 자를 넘을 수 없습니다.");
+		}
+		return trimmed.isEmpty() ? null : trimmed;
+	}
+
+	// 첫 청크는 firstSql, 이후 청크는 마지막 행의 정렬 키 (afterKey) 로 nextSql 조회, 청크가 덜 차면 끝
+	private void export(Writer writer, List<String> columns, String firstSql, String nextSql, Object[] filterArgs,
+						Function<String[], Object[]> afterKey) {
+		writeLine(writer, columns);
+
+		String[] last = null;
+		while (true) {
+			Object[] key = last == null ? new Object[0] : afterKey.apply(last);
+			Object[] args = new Object[filterArgs.length + key.length + 1];
+			System.arraycopy(filterArgs, 0, args, 0, filterArgs.length);
+			System.arraycopy(key, 0, args, filterArgs.length, key.length);
+			args[args.length - 1] = chunkSize;
+
+			List<String[]> rows = jdbcTemplate.query(last == null ? firstSql : nextSql, (rs, rowNum) -> {
+				String[] values = new String[columns.size()];
+				for (int i = 0; i < values.length; i++) {
+					values[i] = rs.getString(i + 1);
+				}
+				return values;
+			}, args);
+
+			rows.forEach(values -> writeLine(writer, Arrays.asList(values)));
+			if (rows.size() < chunkSize) {
+				break;
+			}
+			last = rows.get(rows.size() - 1);
+		}
+
+		try {
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeLine(Writer writer, List<String> values) {
+		try {
+			for (int i = 0; i < values.size(); i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writer.write(escape(values.get(i)));
+			}
+			writer.write("\r\n");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// 쉼표 / 따옴표 / 줄바꿈이 있는 값만 따옴표로 감쌈, null 은 빈 값
+	private String escape(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.chars().noneMatch(ch -> ch == ',' || ch == '"' || ch == '\n' || ch == '\r')) {
+			return value;
+		}
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+}
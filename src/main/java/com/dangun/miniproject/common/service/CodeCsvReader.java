@@ -0,0 +1,113 @@
+package com.dangun.miniproject.common.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 코드 일괄 등록용 CSV 를 한 행씩 읽는 파서 (RFC 4180)
+ * - 전체를 메모리에 올리지 않고 요청 본문을 그대로 따라가며 읽음
+ * - 큰따옴표로 감싼 값 안의 쉼표 / 줄바꿈 / "" 이스케이프 지원, 빈 줄은 건너뜀
+ */
+public class CodeCsvReader {
+
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+
+    private final BufferedReader reader;
+    private int lineNumber = 1;
+    private long recordLine;
+    private int pending = NONE; // 줄바꿈 처리 중 미리 읽은 다음 행의 첫 문자
+    private boolean started;
+
+    public CodeCsvReader(final Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    // 다음 행의 값 목록, 끝이면 null
+    public List<String> next() throws IOException {
+        int ch = read();
+        while (ch == '\r' || ch == '\n') {
+            ch = newLine(ch);
+        }
+        if (ch == EOF) {
+            return null;
+        }
+
+        recordLine = lineNumber;
+        final List<String> values = new ArrayList<>();
+        final StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (ch == EOF) {
+                    throw new IOException("닫히지 않은 따옴표가 있습니다. (line " + recordLine + ")");
+                }
+                if (ch == '"') {
+                    final int following = read();
+                    if (following == '"') {
+                        value.append('"');
+                    } else {
+                        quoted = false;
+                        ch = following;
+                        continue;
+                    }
+                } else {
+                    if (ch == '\n') {
+                        lineNumber++;
+                    }
+                    value.append((char) ch);
+                }
+            } else if (ch == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (ch == '\r' || ch == '\n' || ch == EOF) {
+                values.add(value.toString());
+                if (ch != EOF) {
+                    pending = newLine(ch);
+                }
+                return values;
+            } else {
+                value.append((char) ch);
+            }
+            ch = read();
+        }
+    }
+
+    // 마지막으로 읽은 행이 시작된 줄 번호 (1부터)
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private int newLine(final int ch) throws IOException {
+        lineNumber++;
+        final int following = read();
+        if (ch == '\r' && following == '\n') {
+            return read();
+        }
+        return following;
+    }
+
+    private int read() throws IOException {
+        if (pending != NONE) {
+            final int ch = pending;
+            pending = NONE;
+            return ch;
+        }
+
+        final int ch = reader.read();
+        // 파일 맨 앞 BOM 은 값이 아니므로 제외
+        if (!started) {
+            started = true;
+            if (ch == '\uFEFF') {
+                return reader.read();
+            }
+        }
+        return ch;
+    }
+}
@@ -5,12 +5,15 @@ import com.dangun.miniproject.common.code.Code;
 import com.dangun.miniproject.common.code.CodeKey;
 import com.dangun.miniproject.common.dto.CodeResultDto;
 
+import java.util.List;
+
 public interface CodeService {
 	CodeResultDto insertCode(Code code);
 	CodeResultDto updateCode(Code code);
 	CodeResultDto deleteCode(CodeKey codeKey);
 	
 	CodeResultDto listCode(String goupCode, int pageNumber, int pageSize);
+	CodeResultDto listCodes(List<String> groupCodes);
 	CodeResultDto countCode();
 	CodeResultDto detailCode(CodeKey codeKey);	
 }
@@ -6,26 +6,33 @@ import com.dangun.miniproject.common.dto.CodeDto;
 import com.dangun.miniproject.common.dto.CodeResultDto;
 import com.dangun.miniproject.common.repository.CodeRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 @Service
 @RequiredArgsConstructor
 public class CodeServiceImpl implements CodeService{
 
+	private static final int MAX_BULK_GROUP_CODES = 50;
+
 	private final CodeRepository codeRepository;
+	private final CodeTableCache codeTableCache;
+
 	@Override
 	public CodeResultDto insertCode(Code code) {
 		CodeResultDto codeResultDto = new CodeResultDto();
 		try {
-			codeRepository.save(code);
+			codeTableCache.putCode(codeRepository.save(code));
 			codeResultDto.setResult("success");
 		}catch(Exception e) {
 			e.printStackTrace();
@@ -39,7 +46,7 @@ public class CodeServiceImpl implements CodeService{
 		CodeResultDto codeResultDto = new CodeResultDto();
 		try {
 			// select 후 update
-			codeRepository.save(code);
+			codeTableCache.putCode(codeRepository.save(code));
 			codeResultDto.setResult("success");
 		}catch(Exception e) {
 			e.printStackTrace();
@@ -53,6 +60,7 @@ public class CodeServiceImpl implements CodeService{
 		CodeResultDto codeResultDto = new CodeResultDto();
 		try {
 			codeRepository.deleteById(codeKey);
+			codeTableCache.removeCode(codeKey);
 			codeResultDto.setResult("success");
 		}catch(Exception e) {
 			e.printStackTrace();
@@ -65,14 +73,14 @@ public class CodeServiceImpl implements CodeService{
 	public CodeResultDto listCode(String groupCode, int pageNumber, int pageSize) {
 		CodeResultDto codeResultDto = new CodeResultDto();
 		try {
+			// 스냅샷에서 orderNo 순으로 정렬된 그룹의 코드 목록을 잘라서 반환
 			Pageable pageable = PageRequest.of(pageNumber, pageSize);
-			Page<Code> page = codeRepository.findByGroupCode(groupCode, pageable);
-			List<CodeDto> codeDtoList = new ArrayList<>();
-			page.toList().forEach( code -> codeDtoList.add(CodeDto.fromCode(code)) );
-			codeResultDto.setCodeDtoList(codeDtoList);
+			List<CodeDto> codes = codeTableCache.codes(groupCode);
+			int from = (int) Math.min(pageable.getOffset(), codes.size());
+			int to = Math.min(from + pageable.getPageSize(), codes.size());
+			codeResultDto.setCodeDtoList(new ArrayList<>(codes.subList(from, to)));
 			
-			Long count = codeRepository.count(); // int -> Long
-			codeResultDto.setCount(count);
+			codeResultDto.setCount(codes.size());
 			
 			codeResultDto.setResult("success");
 		}catch(Exception e) {
@@ -82,21 +90,38 @@ public class CodeServiceImpl implements CodeService{
 		return codeResultDto;
 	}
 
+	@Override
+	public CodeResultDto listCodes(List<String> groupCodes) {
+		CodeResultDto codeResultDto = new CodeResultDto();
+		// 드롭다운 여러 개를 한 번에 채우는 용도, 요청 순서대로 그룹별 전체 코드
+		Set<String> distinctGroupCodes = new LinkedHashSet<>(groupCodes);
+		if (distinctGroupCodes.isEmpty() || distinctGroupCodes.size() > MAX_BULK_GROUP_CODES) {
+			codeResultDto.setResult("fail");
+			return codeResultDto;
+		}
+
+		Map<String, List<CodeDto>> codeDtoListByGroup = new LinkedHashMap<>();
+		distinctGroupCodes.forEach(groupCode -> codeDtoListByGroup.put(groupCode, codeTableCache.codes(groupCode)));
+		codeResultDto.setCodeDtoListByGroup(codeDtoListByGroup);
+		codeResultDto.setCount(codeDtoListByGroup.values().stream().mapToLong(List::size).sum());
+		codeResultDto.setResult("success");
+		return codeResultDto;
+	}
+
 	@Override
 	public CodeResultDto countCode() {
 		CodeResultDto codeResultDto = new CodeResultDto();
-		long count = codeRepository.count();
-		codeResultDto.setCount(count);
+		codeResultDto.setCount(codeTableCache.codeCount());
 		return codeResultDto;
 	}
 
 	@Override
 	public CodeResultDto detailCode(CodeKey codeKey) {
 		CodeResultDto codeResultDto = new CodeResultDto();
-		Optional<Code> optionalCode = codeRepository.findById(codeKey);
+		Optional<CodeDto> optionalCode = codeTableCache.code(codeKey);
 		optionalCode.ifPresentOrElse(
 				code -> {
-					codeResultDto.setCodeDto( CodeDto.fromCode(code));
+					codeResultDto.setCodeDto(code);
 					codeResultDto.setResult("success");
 				},
 				() -> {
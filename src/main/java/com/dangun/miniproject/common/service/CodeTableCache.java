@@ -0,0 +1,242 @@
+package com.dangun.miniproject.common.service;
+
+import com.dangun.miniproject.common.code.Code;
+import com.dangun.miniproject.common.code.CodeKey;
+import com.dangun.miniproject.common.code.GroupCode;
+import com.dangun.miniproject.common.dto.CodeDto;
+import com.dangun.miniproject.common.dto.GroupCodeDto;
+import com.dangun.miniproject.common.repository.CodeRepository;
+import com.dangun.miniproject.common.repository.GroupCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 그룹 코드 / 코드 전체를 메모리에 올려둔 불변 스냅샷
+ * - 기동 시 두 테이블을 한 번에 읽어 그룹별로 orderNo 순 정렬해 둠, 조회는 락 없이 현재 스냅샷의 map 조회
+ * - 코드 / 그룹 코드 저장, 삭제 후에는 변경분을 반영한 새 스냅샷으로 통째로 교체 (copy-on-write)
+ * - 다른 인스턴스에서의 변경은 code.cache.refresh-interval-ms 주기의 전체 재적재로 반영
+ * - 조회 ETag 는 스냅샷 내용의 해시 (이 인스턴스가 실제로 응답하는 내용과 항상 일치, 인스턴스가 달라도 내용이 같으면 같은 값)
+ */
+@Slf4j
+@Component
+public class CodeTableCache {
+
+    private static final Comparator<CodeEntry> CODE_ORDER = Comparator
+            .comparingInt(CodeEntry::orderNo)
+            .thenComparing(CodeEntry::code);
+
+    private final GroupCodeRepository groupCodeRepository;
+    private final CodeRepository codeRepository;
+
+    private volatile Snapshot snapshot;
+
+    public CodeTableCache(final GroupCodeRepository groupCodeRepository, final CodeRepository codeRepository) {
+        this.groupCodeRepository = groupCodeRepository;
+        this.codeRepository = codeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${code.cache.refresh-interval-ms:300000}",
+            fixedDelayString = "${code.cache.refresh-interval-ms:300000}")
+    public synchronized void reload() {
+        final List<GroupCodeEntry> groupCodes = groupCodeRepository.findAll().stream().map(GroupCodeEntry::from).toList();
+        final List<CodeEntry> codes = codeRepository.findAll().stream().map(CodeEntry::from).toList();
+
+        snapshot = Snapshot.of(groupCodes, codes);
+        log.debug("code table cache loaded: {} group codes, {} codes", groupCodes.size(), codes.size());
+    }
+
+    public List<GroupCodeDto> groupCodes() {
+        return snapshot().groupCodes().values().stream().map(GroupCodeEntry::toDto).toList();
+    }
+
+    public Optional<GroupCodeDto> groupCode(final String groupCode) {
+        return Optional.ofNullable(snapshot().groupCodes().get(groupCode)).map(GroupCodeEntry::toDto);
+    }
+
+    public int groupCodeCount() {
+        return snapshot().groupCodes().size();
+    }
+
+    // 그룹 안의 코드 orderNo 순
+    public List<CodeDto> codes(final String groupCode) {
+        return snapshot().codesByGroup().getOrDefault(groupCode, Map.of()).values().stream()
+                .map(CodeEntry::toDto)
+                .toList();
+    }
+
+    public Optional<CodeDto> code(final CodeKey codeKey) {
+        return Optional.ofNullable(snapshot().codesByGroup().get(codeKey.getGroupCode()))
+                .map(codes -> codes.get(codeKey.getCode()))
+                .map(CodeEntry::toDto);
+    }
+
+    public long codeCount() {
+        return snapshot().codeCount();
+    }
+
+    // 그룹 코드 하나와 그 그룹의 코드 내용 버전
+    public String groupVersion(final String groupCode) {
+        return snapshot().groupVersions().getOrDefault(groupCode, Snapshot.EMPTY_VERSION);
+    }
+
+    // 그룹 코드 목록 내용 버전
+    public String groupCodesVersion() {
+        return snapshot().groupCodesVersion();
+    }
+
+    // 그룹 코드 / 코드 전체 내용 버전
+    public String version() {
+        return snapshot().version();
+    }
+
+    public synchronized void putCode(final Code code) {
+        final CodeEntry entry = CodeEntry.from(code);
+        final List<CodeEntry> codes = new ArrayList<>(snapshot().codes());
+        codes.removeIf(existing -> existing.sameKey(entry.groupCode(), entry.code()));
+        codes.add(entry);
+
+        snapshot = Snapshot.of(snapshot.groupCodes().values(), codes);
+    }
+
+    public synchronized void removeCode(final CodeKey codeKey) {
+        final List<CodeEntry> codes = new ArrayList<>(snapshot().codes());
+        codes.removeIf(existing -> existing.sameKey(codeKey.getGroupCode(), codeKey.getCode()));
+
+        snapshot = Snapshot.of(snapshot.groupCodes().values(), codes);
+    }
+
+    public synchronized void putGroupCode(final GroupCode groupCode) {
+        final Map<String, GroupCodeEntry> groupCodes = new TreeMap<>(snapshot().groupCodes());
+        groupCodes.put(groupCode.getGroupCode(), GroupCodeEntry.from(groupCode));
+
+        snapshot = Snapshot.of(groupCodes.values(), snapshot.codes());
+    }
+
+    public synchronized void removeGroupCode(final String groupCode) {
+        final Map<String, GroupCodeEntry> groupCodes = new TreeMap<>(snapshot().groupCodes());
+        groupCodes.remove(groupCode);
+
+        snapshot = Snapshot.of(groupCodes.values(), snapshot.codes());
+    }
+
+    // 기동 이벤트 전에 호출되면 그 자리에서 적재
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<String, GroupCodeEntry> groupCodes,
+                            Map<String, Map<String, CodeEntry>> codesByGroup,
+                            List<CodeEntry> codes,
+                            long codeCount,
+                            Map<String, String> groupVersions,
+                            String groupCodesVersion,
+                            String version) {
+
+        static final String EMPTY_VERSION = "0";
+
+        // 그룹 코드는 groupCode 순, 그룹 내 코드는 orderNo 순으로 고정한 읽기 전용 구조
+        static Snapshot of(final Collection<GroupCodeEntry> groupCodes, final Collection<CodeEntry> codes) {
+            final Map<String, GroupCodeEntry> groupCodeMap = new TreeMap<>(groupCodes.stream()
+                    .collect(Collectors.toMap(GroupCodeEntry::groupCode, Function.identity(), (first, second) -> second)));
+
+            final Map<String, Map<String, CodeEntry>> codesByGroup = codes.stream()
+                    .sorted(CODE_ORDER)
+                    .collect(Collectors.groupingBy(CodeEntry::groupCode, Collectors.toMap(
+                            CodeEntry::code, Function.identity(), (first, second) -> second, LinkedHashMap::new)));
+
+            final Map<String, Map<String, CodeEntry>> frozen = new LinkedHashMap<>();
+            codesByGroup.forEach((groupCode, group) -> frozen.put(groupCode, unmodifiable(group)));
+
+            // 정렬된 구조 기준으로 계산하므로 적재 / 변경 경로에 따른 codes 순서와 무관
+            final Map<String, String> groupVersions = new LinkedHashMap<>();
+            final Set<String> groupKeys = new TreeSet<>(groupCodeMap.keySet());
+            groupKeys.addAll(frozen.keySet());
+            for (final String groupCode : groupKeys) {
+                groupVersions.put(groupCode, digest(Stream.concat(
+                        Stream.ofNullable(groupCodeMap.get(groupCode)).map(GroupCodeEntry::toString),
+                        frozen.getOrDefault(groupCode, Map.of()).values().stream().map(CodeEntry::toString))));
+            }
+            final String groupCodesVersion = digest(groupCodeMap.values().stream().map(GroupCodeEntry::toString));
+            final String version = digest(Stream.concat(Stream.of(groupCodesVersion),
+                    groupVersions.entrySet().stream().map(entry -> entry.getKey() + "=" + entry.getValue())));
+
+            return new Snapshot(unmodifiable(groupCodeMap), unmodifiable(frozen), List.copyOf(codes), codes.size(),
+                    unmodifiable(groupVersions), groupCodesVersion, version);
+        }
+
+        // SHA-256 앞 16자리 (인스턴스 간에도 같은 내용이면 같은 값)
+        private static String digest(final Stream<String> lines) {
+            try {
+                final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+                lines.forEach(line -> messageDigest.update((line + "\n").getBytes(StandardCharsets.UTF_8)));
+                return HexFormat.of().formatHex(messageDigest.digest(), 0, 8);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // Map.copyOf 는 순서를 보장하지 않으므로 정렬된 사본을 감싸서 고정
+        private static <V> Map<String, V> unmodifiable(final Map<String, V> map) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(map));
+        }
+    }
+
+    private record GroupCodeEntry(String groupCode, String groupCodeName, String groupCodeDesc) {
+
+        static GroupCodeEntry from(final GroupCode groupCode) {
+            return new GroupCodeEntry(groupCode.getGroupCode(), groupCode.getGroupCodeName(), groupCode.getGroupCodeDesc());
+        }
+
+        GroupCodeDto toDto() {
+            return new GroupCodeDto(groupCode, groupCodeName, groupCodeDesc);
+        }
+    }
+
+    private record CodeEntry(String groupCode, String code, String codeName, String codeNameBrief, int orderNo) {
+
+        static CodeEntry from(final Code code) {
+            return new CodeEntry(code.getCodeKey().getGroupCode(), code.getCodeKey().getCode(),
+                    code.getCodeName(), code.getCodeNameBrief(), code.getOrderNo());
+        }
+
+        boolean sameKey(final String groupCode, final String code) {
+            return this.groupCode.equals(groupCode) && this.code.equals(code);
+        }
+
+        CodeDto toDto() {
+            return new CodeDto(groupCode, code, codeName, codeNameBrief, orderNo);
+        }
+    }
+}
@@ -5,7 +5,6 @@ import com.dangun.miniproject.common.dto.CodeResultDto;
 import com.dangun.miniproject.common.dto.GroupCodeDto;
 import com.dangun.miniproject.common.repository.GroupCodeRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,12 +19,14 @@ import java.util.Optional;
 public class GroupCodeServiceImpl implements GroupCodeService{
 
 	private final GroupCodeRepository groupCodeRepository;
+	private final CodeTableCache codeTableCache;
+
 	@Override
 	public CodeResultDto insertGroupCode(GroupCode groupCode) {
 		CodeResultDto codeResultDto = new CodeResultDto();
 		System.out.println(groupCode.getGroupCode());
 		try {
-			groupCodeRepository.save(groupCode);
+			codeTableCache.putGroupCode(groupCodeRepository.save(groupCode));
 			codeResultDto.setResult("success");
 		}catch(Exception e) {
 			e.printStackTrace();
@@ -39,7 +40,7 @@ public class GroupCodeServiceImpl implements GroupCodeService{
 		CodeResultDto codeResultDto = new CodeResultDto();
 		try {
 			// select 후 update
-			groupCodeRepository.save(groupCode);
+			codeTableCache.putGroupCode(groupCodeRepository.save(groupCode));
 			codeResultDto.setResult("success");
 		}catch(Exception e) {
 			e.printStackTrace();
@@ -53,6 +54,7 @@ public class GroupCodeServiceImpl implements GroupCodeService{
 		CodeResultDto codeResultDto = new CodeResultDto();
 		try {
 			groupCodeRepository.deleteById(groupCode);
+			codeTableCache.removeGroupCode(groupCode);
 			codeResultDto.setResult("success");
 		}catch(Exception e) {
 			e.printStackTrace();
@@ -66,13 +68,12 @@ public class GroupCodeServiceImpl implements GroupCodeService{
 		CodeResultDto codeResultDto = new CodeResultDto();
 		try {
 			Pageable pageable = PageRequest.of(pageNumber, pageSize);
-			Page<GroupCode> page = groupCodeRepository.findAll(pageable);
-			List<GroupCodeDto> groupCodeDtoList = new ArrayList<>();
-			page.toList().forEach( groupCode -> groupCodeDtoList.add(GroupCodeDto.fromGroupCode(groupCode)) );
-			codeResultDto.setGroupCodeDtoList(groupCodeDtoList);
+			List<GroupCodeDto> groupCodes = codeTableCache.groupCodes();
+			int from = (int) Math.min(pageable.getOffset(), groupCodes.size());
+			int to = Math.min(from + pageable.getPageSize(), groupCodes.size());
+			codeResultDto.setGroupCodeDtoList(new ArrayList<>(groupCodes.subList(from, to)));
 			
-			Long count = groupCodeRepository.count(); // int -> Long
-			codeResultDto.setCount(count);
+			codeResultDto.setCount(codeTableCache.groupCodeCount());
 			
 			codeResultDto.setResult("success");
 		}catch(Exception e) {
@@ -85,18 +86,17 @@ public class GroupCodeServiceImpl implements GroupCodeService{
 	@Override
 	public CodeResultDto countGroupCode() {
 		CodeResultDto codeResultDto = new CodeResultDto();
-		long count = groupCodeRepository.count();
-		codeResultDto.setCount(count);
+		codeResultDto.setCount(codeTableCache.groupCodeCount());
 		return codeResultDto;
 	}
 
 	@Override
 	public CodeResultDto detailGroupCode(String groupCode) {
 		CodeResultDto codeResultDto = new CodeResultDto();
-		Optional<GroupCode> optionalGroupCode = groupCodeRepository.findById(groupCode);
+		Optional<GroupCodeDto> optionalGroupCode = codeTableCache.groupCode(groupCode);
 		optionalGroupCode.ifPresentOrElse(
 				detailGroupCode -> {
-					codeResultDto.setGroupCodeDto( GroupCodeDto.fromGroupCode(detailGroupCode) );
+					codeResultDto.setGroupCodeDto(detailGroupCode);
 					codeResultDto.setResult("success");
 				},
 				() -> {
@@ -0,0 +1,41 @@
+package com.dangun.miniproject.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 시점에 맞춘 캐시 / 색인 반영
+ * - afterCommit : 커밋된 경우에만 실행 (트랜잭션 밖이면 바로 실행)
+ * - nowAndAfterCommit : 바로 실행하고, 트랜잭션 안이라면 커밋 후 한 번 더 실행
+ *   (무효화 직후 커밋 전 데이터를 다시 읽어 캐시에 넣는 경우 대비)
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable task) {
+        if (!register(task)) {
+            task.run();
+        }
+    }
+
+    public static void nowAndAfterCommit(Runnable task) {
+        task.run();
+        register(task);
+    }
+
+    private static boolean register(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+        return true;
+    }
+}
@@ -1,7 +1,10 @@
 package com.dangun.miniproject.member.controller;
 
 import com.dangun.miniproject.common.ApiResponse;
+import com.dangun.miniproject.common.etag.ConditionalGet;
+import com.dangun.miniproject.common.etag.ResourceVersions;
 import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.dto.AccountDeletionReport;
 import com.dangun.miniproject.member.dto.GetAddressDto;
 import com.dangun.miniproject.member.dto.GetMemberDto;
 import com.dangun.miniproject.member.service.MemberService;
@@ -9,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/members")
@@ -16,10 +20,15 @@ import org.springframework.web.bind.annotation.*;
 public class MemberController {
 
     private final MemberService memberService;
+    private final ResourceVersions resourceVersions;
 
     // 다른 회원들의 정보 조회 가능
     @GetMapping("/{memberId}")
-    public ResponseEntity<?> getMember(@PathVariable Long memberId) {
+    public ResponseEntity<?> getMember(@PathVariable Long memberId, WebRequest request) {
+        if (ConditionalGet.notModified(request, ConditionalGet.eTag(ResourceVersions.MEMBERS, memberId, resourceVersions.memberVersion(memberId)))) {
+            return null;
+        }
+
         GetMemberDto getMemberDto = memberService.getMember(memberId);
 
 
@@ -28,7 +37,11 @@ public class MemberController {
 
     // 로그인 한 사용자만 자신의 정보만 조회 가능
     @GetMapping("/my-info")
-    public ResponseEntity<?> getMyInfo(@AuthenticationPrincipal(expression = "member") Member member) {
+    public ResponseEntity<?> getMyInfo(@AuthenticationPrincipal(expression = "member") Member member, WebRequest request) {
+        if (ConditionalGet.notModified(request, ConditionalGet.eTag(ResourceVersions.MEMBERS, member.getId(), resourceVersions.memberVersion(member.getId())))) {
+            return null;
+        }
+
         GetMemberDto getMemberDto = memberService.getMyInfo(member.getId());
 
         // 정상 처리
@@ -62,9 +75,10 @@ public class MemberController {
     @DeleteMapping("/my-info-delete")
     public ResponseEntity<?> deleteMember(
             @AuthenticationPrincipal(expression = "member") Member member) {
-        boolean isDeleted = memberService.deleteMember(member.getId());
+        // 테이블별 삭제 행 수 / 소요 시간
+        AccountDeletionReport report = memberService.deleteMember(member.getId());
 
-        return ApiResponse.ok("MEMBER-S004", null, "회원 탈퇴 성공");
+        return ApiResponse.ok("MEMBER-S004", report, "회원 탈퇴 성공");
     }
 }
 
@@ -7,11 +7,20 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "uk_member_email", columnList = "email", unique = true),
+        @Index(name = "uk_member_nickname", columnList = "nickname", unique = true),
+        @Index(name = "idx_member_updated_at", columnList = "updated_at")
+})
+@EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor
 public class Member {
@@ -26,6 +35,10 @@ public class Member {
 
     private String nickname;
 
+    // 닉네임 / 주소 변경 시각 (조회 ETag, ResourceVersions)
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
     @OneToOne(mappedBy = "member", cascade = CascadeType.ALL)
     private Address address;
 
@@ -42,6 +55,13 @@ public class Member {
         this.password = password;
     }
 
+    // 인증 정보만 담은 참조용 인스턴스 (영속 상태 아님), 연관관계 지정 / 작성자 비교처럼 id 만 필요한 곳에 사용
+    public static Member reference(Long id, String email, String nickname) {
+        Member member = new Member(email, nickname, null);
+        member.id = id;
+        return member;
+    }
+
     public void updateMember(GetMemberDto getMemberDto) {
         this.nickname = getMemberDto.getNickname();
     }
@@ -0,0 +1,41 @@
+package com.dangun.miniproject.member.dto;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 회원 탈퇴 시 테이블별 삭제 행 수 / 소요 시간 (ms), 탈퇴 API 응답으로 반환
+// (board(hidden) 은 실제 삭제 전 삭제 표시한 게시글 수)
+@Getter
+public class AccountDeletionReport {
+    private final Long memberId;
+    private final Map<String, Long> deletedRows = new LinkedHashMap<>();
+    private final Map<String, Long> elapsedMillis = new LinkedHashMap<>();
+    private int batchCount;
+    private long totalMillis;
+
+    public AccountDeletionReport(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    public void add(String table, long rows, long elapsedNanos) {
+        deletedRows.merge(table, rows, Long::sum);
+        elapsedMillis.merge(table, elapsedNanos / 1_000_000L, Long::sum);
+        batchCount++;
+    }
+
+    public long getDeletedRows(String table) {
+        return deletedRows.getOrDefault(table, 0L);
+    }
+
+    public void finish(long totalNanos) {
+        this.totalMillis = totalNanos / 1_000_000L;
+    }
+
+    @Override
+    public String toString() {
+        return "memberId=" + memberId + ", rows=" + deletedRows + ", elapsedMs=" + elapsedMillis
+                + ", batches=" + batchCount + ", totalMs=" + totalMillis;
+    }
+}
@@ -3,7 +3,15 @@ package com.dangun.miniproject.member.repository;
 
 import com.dangun.miniproject.member.domain.Address;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AddressRepository extends JpaRepository<Address, Long> {
     void deleteByMemberId(Long memberId);
-}
\ No newline at end of file
+
+    // 엔티티를 로딩하지 않고 삭제 (Address id = member id)
+    @Modifying
+    @Query("DELETE FROM Address a WHERE a.id = :memberId")
+    int deleteAddressByMemberId(@Param("memberId") Long memberId);
+}
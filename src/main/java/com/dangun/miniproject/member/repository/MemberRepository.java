@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Boolean existsByEmail(String email);
@@ -22,4 +24,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("DELETE FROM Board b WHERE b.member.id = :memberId")
     void deleteBoardsByMemberId(@Param("memberId") Long memberId);
 
+    // 연관 컬렉션(cascade) 을 로딩하지 않고 삭제
+    @Modifying
+    @Query("DELETE FROM Member m WHERE m.id = :memberId")
+    int deleteMemberById(@Param("memberId") Long memberId);
+
+    // 주소 변경처럼 회원 행은 그대로이고 조회 응답만 바뀌는 경우 updated_at 만 갱신
+    @Modifying
+    @Query("UPDATE Member m SET m.updatedAt = :updatedAt WHERE m.id = :memberId")
+    int touch(@Param("memberId") Long memberId, @Param("updatedAt") LocalDateTime updatedAt);
+
 }
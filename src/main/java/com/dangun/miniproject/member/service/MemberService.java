@@ -1,5 +1,6 @@
 package com.dangun.miniproject.member.service;
 
+import com.dangun.miniproject.member.dto.AccountDeletionReport;
 import com.dangun.miniproject.member.dto.GetAddressDto;
 import com.dangun.miniproject.member.dto.GetMemberDto;
 import org.springframework.http.ResponseEntity;
@@ -14,5 +15,5 @@ public interface MemberService {
 
     GetAddressDto updateAddress(GetAddressDto getAddressDto, Long id);
 
-    boolean deleteMember(Long id);
+    AccountDeletionReport deleteMember(Long id);
 }
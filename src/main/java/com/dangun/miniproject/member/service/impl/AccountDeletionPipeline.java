@@ -0,0 +1,131 @@
+package com.dangun.miniproject.member.service.impl;
+
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.BoardSearchEngine;
+import com.dangun.miniproject.board.service.impl.ApproximateBoardCounter;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
+import com.dangun.miniproject.comment.repository.CommentRepository;
+import com.dangun.miniproject.member.dto.AccountDeletionReport;
+import com.dangun.miniproject.member.repository.AddressRepository;
+import com.dangun.miniproject.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 회원 탈퇴 시 연관 데이터 삭제
+ * - 작성 게시글을 먼저 삭제 표시해 목록 / 상세 / 검색에서 바로 제외 (updated_at 도 갱신되어 목록 ETag 변경)
+ * - 이후 FK 순서대로 작성 댓글 -> 작성 게시글에 달린 댓글 -> 작성 게시글 -> 주소 -> 회원 삭제
+ * - 엔티티 / 컬렉션을 로딩하지 않고 id 배치 단위 DELETE, 배치마다 별도 트랜잭션 (긴 잠금 방지)
+ * - 중간에 실패해도 다시 실행하면 남은 데이터부터 이어서 삭제
+ */
+@Slf4j
+@Component
+public class AccountDeletionPipeline {
+
+    static final String BOARD_HIDDEN = "board(hidden)";
+    static final String COMMENT = "comment";
+    static final String BOARD_COMMENT = "comment(board)";
+    static final String BOARD = "board";
+    static final String ADDRESS = "address";
+    static final String MEMBER = "member";
+
+    private final MemberRepository memberRepository;
+    private final AddressRepository addressRepository;
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final BoardSearchEngine boardSearchEngine;
+    private final ApproximateBoardCounter approximateBoardCounter;
+    private final BoardDetailCacheService boardDetailCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public AccountDeletionPipeline(MemberRepository memberRepository,
+                                   AddressRepository addressRepository,
+                                   BoardRepository boardRepository,
+                                   CommentRepository commentRepository,
+                                   BoardSearchEngine boardSearchEngine,
+                                   ApproximateBoardCounter approximateBoardCounter,
+                                   BoardDetailCacheService boardDetailCacheService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${member.deletion.batch-size:1000}") int batchSize) {
+        this.memberRepository = memberRepository;
+        this.addressRepository = addressRepository;
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.boardSearchEngine = boardSearchEngine;
+        this.approximateBoardCounter = approximateBoardCounter;
+        this.boardDetailCacheService = boardDetailCacheService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public AccountDeletionReport delete(Long memberId) {
+        long startedAt = System.nanoTime();
+        AccountDeletionReport report = new AccountDeletionReport(memberId);
+        Pageable batch = PageRequest.of(0, batchSize);
+
+        // 0. 작성한 게시글 삭제 표시 (실제 삭제가 끝나기 전에도 조회되지 않도록)
+        List<Long> activeBoardIds;
+        while (!(activeBoardIds = boardRepository.findActiveIdsByMemberId(memberId, batch)).isEmpty()) {
+            List<Long> ids = activeBoardIds;
+            int hidden = run(report, BOARD_HIDDEN, () -> boardRepository.softDeleteByIds(ids, LocalDateTime.now()));
+            ids.forEach(boardSearchEngine::remove);
+            ids.forEach(boardDetailCacheService::evict);
+            approximateBoardCounter.add(-hidden);
+        }
+
+        // 1. 작성한 댓글 (다른 회원 게시글의 댓글 수도 함께 감소)
+        List<Long> commentIds;
+        while (!(commentIds = commentRepository.findIdsByMemberId(memberId, batch)).isEmpty()) {
+            List<Long> ids = commentIds;
+            run(report, COMMENT, () -> {
+                boardRepository.decreaseCommentCountByCommentIds(ids, LocalDateTime.now());
+                return commentRepository.deleteByIds(ids);
+            });
+        }
+
+        // 2. 작성한 게시글에 달린 다른 회원의 댓글 -> 3. 게시글 (모두 삭제 표시된 상태, 색인 / 개수는 0 단계에서 반영)
+        List<Long> boardIds;
+        while (!(boardIds = boardRepository.findIdsByMemberId(memberId, batchSize)).isEmpty()) {
+            deleteBoardComments(report, boardIds);
+
+            List<Long> ids = boardIds;
+            run(report, BOARD, () -> boardRepository.deleteByIds(ids));
+        }
+
+        // 4. 주소 / 회원
+        run(report, ADDRESS, () -> addressRepository.deleteAddressByMemberId(memberId));
+        run(report, MEMBER, () -> memberRepository.deleteMemberById(memberId));
+
+        report.finish(System.nanoTime() - startedAt);
+        log.info("account deleted: {}", report);
+        return report;
+    }
+
+    private void deleteBoardComments(AccountDeletionReport report, List<Long> boardIds) {
+        List<Long> commentIds;
+        while (!(commentIds = commentRepository.findIdsByBoardIdIn(boardIds, batchSize)).isEmpty()) {
+            List<Long> ids = commentIds;
+            run(report, BOARD_COMMENT, () -> commentRepository.deleteByIds(ids));
+        }
+    }
+
+    // 배치 하나를 별도 트랜잭션으로 실행하고 삭제 행 수 / 시간 기록
+    private int run(AccountDeletionReport report, String table, Supplier<Integer> step) {
+        long startedAt = System.nanoTime();
+        Integer deleted = transactionTemplate.execute(status -> step.get());
+        int rows = deleted == null ? 0 : deleted;
+
+        report.add(table, rows, System.nanoTime() - startedAt);
+        return rows;
+    }
+}
@@ -1,8 +1,11 @@
 package com.dangun.miniproject.member.service.impl;
 
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
 import com.dangun.miniproject.common.exception.InvalidInputException;
 import com.dangun.miniproject.member.domain.Address;
 import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.dto.AccountDeletionReport;
 import com.dangun.miniproject.member.dto.GetAddressDto;
 import com.dangun.miniproject.member.dto.GetMemberDto;
 import com.dangun.miniproject.member.exception.AddressNotFoundException;
@@ -14,6 +17,7 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 
@@ -24,6 +28,9 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final AddressRepository addressRepository;
+    private final PrincipalCacheService principalCacheService;
+    private final BoardDetailCacheService boardDetailCacheService;
+    private final AccountDeletionPipeline accountDeletionPipeline;
 
     @Override
     public GetMemberDto getMember(Long id) {
@@ -71,6 +78,9 @@ public class MemberServiceImpl implements MemberService {
         member.updateMember(getMemberDto);
 
         memberRepository.save(member);
+        principalCacheService.evict(member.getEmail());
+        // 작성한 게시글 / 댓글의 닉네임이 상세 캐시에 남아 있으므로 전체 무효화
+        boardDetailCacheService.evictAll();
 
         return GetMemberDto.builder()
                 .email(member.getEmail())
@@ -96,6 +106,10 @@ public class MemberServiceImpl implements MemberService {
         address.updateAddress(getAddressDto);
 
         addressRepository.save(address);
+        principalCacheService.evict(address.getMember().getEmail());
+        boardDetailCacheService.evictAll();
+        // 주소는 별도 테이블이므로 회원 / 게시글 조회 ETag 가 바뀌도록 회원 updated_at 갱신
+        memberRepository.touch(address.getMember().getId(), LocalDateTime.now());
 
         GetAddressDto updatedAddressDto = GetAddressDto.builder()
                 .street(address.getStreet())
@@ -117,16 +131,17 @@ public class MemberServiceImpl implements MemberService {
                 .build();
     }
 
+    // 연관 데이터는 AccountDeletionPipeline 이 배치마다 별도 트랜잭션으로 삭제하므로 트랜잭션 밖에서 실행
     @Override
-    public boolean deleteMember(Long id) {
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public AccountDeletionReport deleteMember(Long id) {
         Member member = memberRepository.findById(id).orElseThrow(MemberNotFoundException::new);
 
-        memberRepository.deleteCommentsByMemberId(member.getId());
-        memberRepository.deleteBoardsByMemberId(member.getId());
-        addressRepository.delete(member.getAddress());
-        memberRepository.delete(member);
+        AccountDeletionReport report = accountDeletionPipeline.delete(member.getId());
+        principalCacheService.evict(member.getEmail());
+        boardDetailCacheService.evictAll();
 
-        return true;
+        return report;
     }
 
 }
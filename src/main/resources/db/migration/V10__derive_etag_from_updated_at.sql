@@ -0,0 +1,11 @@
+-- 조회 API ETag 를 행의 updated_at 으로 계산 (ResourceVersions)
+-- 쓰기마다 같은 목록 버전 행을 갱신하던 resource_version 테이블은 더 이상 사용하지 않음
+
+DROP TABLE IF EXISTS resource_version;
+
+-- 닉네임 / 주소 변경 시각 (기존 회원은 null)
+ALTER TABLE member ADD COLUMN updated_at DATETIME(6) NULL;
+
+-- 목록 ETag 의 MAX(updated_at) 를 인덱스 끝값으로 조회
+CREATE INDEX idx_board_updated_at ON board (updated_at);
+CREATE INDEX idx_member_updated_at ON member (updated_at);
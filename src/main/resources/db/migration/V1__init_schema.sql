@@ -0,0 +1,60 @@
+-- 초기 스키마 (기존 ddl-auto=update 로 생성되던 테이블)
+-- 이미 테이블이 있는 DB 는 baseline(V1) 으로 처리되어 이 스크립트를 건너뜀
+
+CREATE TABLE IF NOT EXISTS member (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    email    VARCHAR(255),
+    nickname VARCHAR(255),
+    password VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS address (
+    member_id BIGINT       NOT NULL,
+    detail    VARCHAR(255),
+    street    VARCHAR(255),
+    zipcode   VARCHAR(255),
+    PRIMARY KEY (member_id),
+    CONSTRAINT fk_address_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE IF NOT EXISTS board (
+    id               BIGINT                     NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    board_status     ENUM ('판매중', '판매완료'),
+    content          VARCHAR(255),
+    price            INT,
+    title            VARCHAR(255),
+    member_id        BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_board_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE IF NOT EXISTS comment (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    content    VARCHAR(255),
+    board_id   BIGINT,
+    member_id  BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_board FOREIGN KEY (board_id) REFERENCES board (id),
+    CONSTRAINT fk_comment_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE IF NOT EXISTS group_code (
+    group_code      VARCHAR(255) NOT NULL,
+    group_code_desc VARCHAR(255),
+    group_code_name VARCHAR(255),
+    PRIMARY KEY (group_code)
+);
+
+CREATE TABLE IF NOT EXISTS code (
+    code            VARCHAR(255) NOT NULL,
+    group_code      VARCHAR(255) NOT NULL,
+    code_name       VARCHAR(255),
+    code_name_brief VARCHAR(255),
+    order_no        INT          NOT NULL,
+    PRIMARY KEY (code, group_code)
+);
@@ -0,0 +1,19 @@
+-- 목록 / 검색 / 로그인 쿼리용 인덱스
+-- InnoDB 보조 인덱스는 PK(id) 를 포함하므로 (..., created_at) 인덱스로 created_at, id 정렬까지 처리됨
+
+-- 게시글 목록 최신순 / cursor 조회 (ORDER BY created_at DESC, id DESC)
+CREATE INDEX idx_board_created_at_id ON board (created_at, id);
+
+-- 작성 게시글 목록 (WHERE member_id = ? ORDER BY created_at DESC)
+CREATE INDEX idx_board_member_id_created_at ON board (member_id, created_at);
+
+-- 게시글 댓글 목록 / cursor 조회 (WHERE board_id = ? ORDER BY created_at, id)
+CREATE INDEX idx_comment_board_id_created_at ON comment (board_id, created_at);
+
+-- 로그인 / JWTFilter 회원 조회, 회원 가입 중복 검사
+-- 기존 DB 에 같은 email / nickname 회원이 이미 있으면 (가입 중복 검사는 동시 요청을 막지 못했음) 이 마이그레이션은 실패함
+-- 적용 전에 아래로 확인하고, 중복 회원은 게시글 / 댓글을 정리한 뒤 직접 병합 또는 삭제
+--   SELECT email, COUNT(*) FROM member GROUP BY email HAVING COUNT(*) > 1;
+--   SELECT nickname, COUNT(*) FROM member GROUP BY nickname HAVING COUNT(*) > 1;
+CREATE UNIQUE INDEX uk_member_email ON member (email);
+CREATE UNIQUE INDEX uk_member_nickname ON member (nickname);
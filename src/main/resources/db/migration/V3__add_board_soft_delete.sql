@@ -0,0 +1,6 @@
+-- 게시글 삭제는 deleted_at 표시 후 BoardPurger 가 댓글과 함께 배치로 실제 삭제
+
+ALTER TABLE board ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- 삭제 대기 게시글 조회 (WHERE deleted_at < ? ORDER BY id)
+CREATE INDEX idx_board_deleted_at ON board (deleted_at);
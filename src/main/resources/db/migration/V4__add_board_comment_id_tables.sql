@@ -0,0 +1,12 @@
+-- Board / Comment id 를 IDENTITY 대신 pooled-lo 테이블 생성기로 할당 (Hibernate JDBC batch insert 사용 가능)
+-- MySQL 은 시퀀스가 없으므로 Hibernate 가 {entity}_seq 테이블의 next_val 을 allocationSize 만큼 증가시켜 id 범위를 가져감
+
+CREATE TABLE IF NOT EXISTS board_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO board_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM board;
+
+CREATE TABLE IF NOT EXISTS comment_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO comment_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM comment;
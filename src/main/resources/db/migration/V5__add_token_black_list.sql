@@ -0,0 +1,10 @@
+-- 로그아웃 토큰 블랙 리스트 (auth.blacklist.store=jdbc 일 때 여러 인스턴스가 공유)
+-- 기존에는 JdbcTokenBlackListStore 가 기동 시 직접 생성했으므로 이미 있는 DB 는 그대로 둠
+
+CREATE TABLE IF NOT EXISTS token_black_list (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    token_digest VARCHAR(64) NOT NULL,
+    expires_at   BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY (token_digest)
+);
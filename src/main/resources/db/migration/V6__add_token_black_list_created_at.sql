@@ -0,0 +1,6 @@
+-- 다른 인스턴스가 등록 시각(DB 시계) 기준으로 polling 하도록 등록 시각 추가
+-- (id 기준 polling 은 늦게 커밋된 낮은 id 를 놓칠 수 있음)
+
+ALTER TABLE token_black_list
+    ADD COLUMN created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    ADD INDEX idx_token_black_list_created_at (created_at);
@@ -0,0 +1,8 @@
+-- 조회 API ETag 용 리소스 버전 (여러 인스턴스가 공유)
+-- 쓰기 트랜잭션 커밋 직전에 같은 트랜잭션 안에서 증가시키므로 데이터 변경과 버전 증가가 함께 커밋됨
+
+CREATE TABLE IF NOT EXISTS resource_version (
+    resource_key VARCHAR(128) NOT NULL,
+    version      BIGINT       NOT NULL,
+    PRIMARY KEY (resource_key)
+);
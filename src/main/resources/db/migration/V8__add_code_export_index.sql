@@ -0,0 +1,2 @@
+-- 코드 내보내기 keyset 청크 조회 (WHERE (group_code, order_no, code) 이후 ORDER BY group_code, order_no, code LIMIT ?)
+CREATE INDEX idx_code_group_code_order_no ON code (group_code, order_no, code);
@@ -0,0 +1,11 @@
+-- 게시글 댓글 수 / 마지막 댓글 시각 (목록 정렬, 댓글 목록 응답의 전체 수)
+-- 기존 ddl-auto=update DB 는 baseline(V1) 으로 처리되어 V1 을 건너뛰므로 컬럼 추가는 별도 마이그레이션으로 함
+
+ALTER TABLE board
+    ADD COLUMN comment_count    INT DEFAULT 0 NOT NULL,
+    ADD COLUMN last_activity_at DATETIME(6)   NULL;
+
+-- 기존 댓글 기준으로 채움 (이후에는 댓글 작성 / 삭제 시 갱신, BoardCommentSummaryReconciler 가 주기적으로 보정)
+UPDATE board b
+SET b.comment_count    = (SELECT COUNT(*) FROM comment c WHERE c.board_id = b.id),
+    b.last_activity_at = (SELECT MAX(c.created_at) FROM comment c WHERE c.board_id = b.id);
@@ -14,7 +14,7 @@ document.addEventListener('DOMContentLoaded', async function () {
             await loadBoardsByKeyword(keyword);
             document.getElementById('my-board-title').innerHTML = `[<span style="color: #EB9928;">${keyword}</span>]의 검색결과`;
         } else {
-            await loadBoardsByKeyword('');
+            await loadBoardFeed();
             document.getElementById('my-board-title').textContent = '중고거래 매물보기';
         }
     } catch (error) {
@@ -24,7 +24,7 @@ document.addEventListener('DOMContentLoaded', async function () {
 
 async function loadMyBoards(page = 0, size = 9, sort = 'createdAt,desc') {
     try {
-        const response = await fetch(`/boards/my-board?page=${page}&size=${size}&sort=${sort}`, {
+        const response = await fetch(`/boards/my-board?page=${page}&size=${size}&sort=${sort}&count=exact`, {
             method: 'GET',
             headers: putHeadersAccessToken()
         });
@@ -70,7 +70,7 @@ function setupPaginationForMyBoards(currentPage, totalPages) {
 
 async function loadBoardsByKeyword(keyword, page = 0, size = 9, sort = 'createdAt,desc') {
     try {
-        const response = await fetch(`/boards?keyword=${encodeURIComponent(keyword)}&page=${page}&size=${size}&sort=${sort}`, {
+        const response = await fetch(`/boards?keyword=${encodeURIComponent(keyword)}&page=${page}&size=${size}&sort=${sort}&count=exact`, {
             method: 'GET',
             headers: putHeadersAccessToken()
         });
@@ -114,6 +114,53 @@ function setupPaginationForKeywordOrAllBoards(currentPage, totalPages, keyword)
     }
 }
 
+// 전체 매물은 cursor 기반으로 이어서 불러오기 (깊은 페이지도 조회 비용 일정)
+async function loadBoardFeed(cursor = '', size = 9) {
+    try {
+        const response = await fetch(`/boards?cursor=${encodeURIComponent(cursor)}&size=${size}`, {
+            method: 'GET',
+            headers: putHeadersAccessToken()
+        });
+
+        if (!response.ok) {
+            throw new Error('Failed to fetch boards');
+        }
+
+        const boardData = await response.json();
+        const cardWrap = document.querySelector('.card-wrap');
+        if (!cursor) {
+            cardWrap.innerHTML = '';
+        }
+
+        boardData.data.content.forEach(board => {
+            const card = createBoardCard(board);
+            cardWrap.appendChild(card);
+        });
+
+        setupLoadMoreForBoardFeed(boardData.data.hasNext, boardData.data.nextCursor);
+
+    } catch (error) {
+        console.error('Error fetching or displaying boards:', error);
+    }
+}
+
+function setupLoadMoreForBoardFeed(hasNext, nextCursor) {
+    const paginationWrap = document.querySelector('.pagination-wrap');
+    paginationWrap.innerHTML = '';
+
+    if (!hasNext) {
+        return;
+    }
+
+    const moreButton = document.createElement('button');
+    moreButton.textContent = '더보기';
+    moreButton.classList.add('page-button');
+    moreButton.addEventListener('click', function () {
+        loadBoardFeed(nextCursor);
+    });
+    paginationWrap.appendChild(moreButton);
+}
+
 function createBoardCard(board) {
     const card = document.createElement('div');
     card.classList.add('card');
@@ -138,8 +185,13 @@ function createBoardCard(board) {
     cardDate.classList.add('card-date');
     cardDate.textContent = new Date(board.createdAt).toLocaleDateString();  // 작성일자
 
+    const cardComments = document.createElement('p');
+    cardComments.classList.add('card-comments');
+    cardComments.textContent = `댓글 ${board.commentCount ?? 0}`;
+
     cardInfo.appendChild(cardWriter);
     cardInfo.appendChild(cardDate);
+    cardInfo.appendChild(cardComments);
     card.appendChild(cardInfo);
 
     const cardPrice = document.createElement('p');
@@ -0,0 +1,276 @@
+package com.dangun.miniproject;
+
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.comment.repository.CommentRepository;
+import com.dangun.miniproject.common.metrics.QueryCountInspector;
+import com.dangun.miniproject.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+/**
+ * Repository 메서드가 실제로 실행하는 SQL (Hibernate 생성, @SQLRestriction 포함) 을 가로채 EXPLAIN 으로 인덱스 사용 검증 (로컬 MySQL 필요)
+ * - ./gradlew loadTest 로 실행 (일반 test 에서는 제외)
+ * - 행이 적으면 옵티마이저가 전체 스캔을 고르므로, 실행 전 회원 / 게시글 / 댓글을 충분히 넣고 ANALYZE TABLE 로 통계 갱신
+ * - 넣은 데이터는 커밋되므로 (ANALYZE TABLE 은 암묵적 커밋) 테스트가 끝나면 직접 삭제
+ */
+@Tag("load")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.dangun.miniproject.QueryIndexExplainTest$CapturingInspector")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class QueryIndexExplainTest {
+
+    private static final int MEMBERS = 200;
+    private static final int BOARDS_PER_MEMBER = 25;
+    private static final int COMMENTS_PER_BOARD = 4;
+    private static final String PREFIX = "explain" + System.nanoTime();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Long memberId;
+    private Long boardId;
+
+    @BeforeAll
+    void seed() {
+        final LocalDateTime base = LocalDateTime.now().minusDays(30);
+
+        final List<Object[]> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Object[]{PREFIX + i + "@test.com", PREFIX + i, "password"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (email, nickname, password) VALUES (?, ?, ?)", members);
+        final List<Long> memberIds = jdbcTemplate.queryForList(
+                "SELECT id FROM member WHERE email LIKE ? ORDER BY id", Long.class, PREFIX + "%");
+
+        final List<Object[]> boards = new ArrayList<>();
+        for (int i = 0; i < MEMBERS * BOARDS_PER_MEMBER; i++) {
+            final Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(i));
+            boards.add(new Object[]{createdAt, createdAt, "title" + i, "content" + i, memberIds.get(i % MEMBERS)});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO board (created_at, updated_at, board_status, comment_count, price, title, content, member_id)
+                VALUES (?, ?, '판매중', 0, 1000, ?, ?, ?)
+                """, boards);
+        final List<Long> boardIds = jdbcTemplate.queryForList("""
+                SELECT b.id FROM board b JOIN member m ON m.id = b.member_id WHERE m.email LIKE ? ORDER BY b.id
+                """, Long.class, PREFIX + "%");
+
+        final List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < boardIds.size() * COMMENTS_PER_BOARD; i++) {
+            final Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(i));
+            comments.add(new Object[]{createdAt, createdAt, "comment" + i, boardIds.get(i % boardIds.size()),
+                    memberIds.get(i % MEMBERS)});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comment (created_at, updated_at, content, board_id, member_id) VALUES (?, ?, ?, ?, ?)",
+                comments);
+
+        jdbcTemplate.execute("ANALYZE TABLE member, board, comment");
+
+        memberId = memberIds.get(MEMBERS / 2);
+        boardId = boardIds.get(boardIds.size() / 2);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("""
+                DELETE c FROM comment c JOIN board b ON b.id = c.board_id JOIN member m ON m.id = b.member_id
+                 WHERE m.email LIKE ?
+                """, PREFIX + "%");
+        jdbcTemplate.update("DELETE b FROM board b JOIN member m ON m.id = b.member_id WHERE m.email LIKE ?", PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM member WHERE email LIKE ?", PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 목록 최신순 조회는 인덱스를 사용한다.")
+    void findSliceWithMember_usesIndex() {
+        // when -- 테스트하고자 하는 행동
+        final String sql = capture(() -> boardRepository.findSliceWithMember(PageRequest.of(0, 10)));
+        final Map<String, Object> plan = explain(sql, "board", 11);
+
+        // then -- 예상되는 변화 및 결과
+        assertUsesIndex(plan);
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 목록 cursor 조회는 인덱스를 사용한다.")
+    void findSliceWithMemberBefore_usesIndex() {
+        // given -- 테스트의 상태 설정
+        final LocalDateTime createdAt = LocalDateTime.now().minusDays(20);
+
+        // when -- 테스트하고자 하는 행동
+        final String sql = capture(() -> boardRepository.findSliceWithMemberBefore(createdAt, boardId, PageRequest.of(0, 10)));
+        final Map<String, Object> plan = explain(sql, "board", createdAt, createdAt, boardId, 11);
+
+        // then -- 예상되는 변화 및 결과
+        assertUsesIndex(plan);
+    }
+
+    @Test
+    @DisplayName("[성공] 작성 게시글 목록 조회는 member_id 인덱스를 사용한다.")
+    void findSliceByMyBoard_usesIndex() {
+        // when -- 테스트하고자 하는 행동
+        final String sql = capture(() -> boardRepository.findSliceByMyBoard(memberId, PageRequest.of(0, 10)));
+        final Map<String, Object> plan = explain(sql, "board", memberId, 11);
+
+        // then -- 예상되는 변화 및 결과
+        assertUsesIndex(plan);
+        assertSoftly(softAssertions -> softAssertions.assertThat(String.valueOf(plan.get("possible_keys")))
+                .contains("idx_board_member_id_created_at"));
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 댓글 목록 조회는 board_id 인덱스를 사용한다.")
+    void findSliceByBoardId_usesIndex() {
+        // when -- 테스트하고자 하는 행동
+        final String sql = capture(() -> commentRepository.findSliceByBoardId(boardId, PageRequest.of(0, 20)));
+        final Map<String, Object> plan = explain(sql, "comment", boardId, 21);
+
+        // then -- 예상되는 변화 및 결과
+        assertUsesIndex(plan);
+        assertSoftly(softAssertions -> softAssertions.assertThat(String.valueOf(plan.get("possible_keys")))
+                .contains("idx_comment_board_id_created_at"));
+    }
+
+    @Test
+    @DisplayName("[성공] 이메일로 회원 조회 시 unique 인덱스를 사용한다.")
+    void findByEmail_usesUniqueIndex() {
+        // given -- 테스트의 상태 설정
+        final String email = PREFIX + "0@test.com";
+
+        // when -- 테스트하고자 하는 행동
+        final String sql = capture(() -> memberRepository.findByEmail(email));
+        final Map<String, Object> plan = explain(sql, "member", email);
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(plan.get("key")).isEqualTo("uk_member_email");
+            softAssertions.assertThat(plan.get("type")).isEqualTo("const");
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 닉네임 중복 검사는 unique 인덱스를 사용한다.")
+    void existsByNickname_usesUniqueIndex() {
+        // given -- 테스트의 상태 설정
+        final String nickname = PREFIX + "0";
+
+        // when -- 테스트하고자 하는 행동
+        final String sql = capture(() -> memberRepository.existsByNickname(nickname));
+        final Map<String, Object> plan = explain(sql, "member", nickname, 1);
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> softAssertions.assertThat(plan.get("key")).isEqualTo("uk_member_nickname"));
+    }
+
+    // Repository 호출 중 Hibernate 가 실행한 SELECT 문 (한 문장만 실행되어야 함)
+    private String capture(final Runnable call) {
+        CapturingInspector.start();
+        try {
+            call.run();
+        } finally {
+            CapturingInspector.finish();
+        }
+
+        final List<String> selects = CapturingInspector.captured().stream()
+                .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+                .toList();
+        if (selects.size() != 1) {
+            throw new AssertionError("SELECT 문이 하나가 아닙니다: " + selects);
+        }
+        return selects.get(0);
+    }
+
+    // 캡처한 SQL 의 바인딩 값을 순서대로 넣어 EXPLAIN, 대상 테이블(의 alias) 실행 계획 반환
+    private Map<String, Object> explain(final String sql, final String table, final Object... args) {
+        final long placeholders = sql.chars().filter(ch -> ch == '?').count();
+        if (placeholders != args.length) {
+            throw new AssertionError("바인딩 값 수(" + args.length + ") 가 SQL 과 다릅니다: " + sql);
+        }
+
+        final String alias = aliasOf(sql, table);
+        final List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+
+        return rows.stream()
+                .filter(row -> alias.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("EXPLAIN 결과에 " + table + " 이 없습니다: " + rows));
+    }
+
+    private String aliasOf(final String sql, final String table) {
+        final Matcher matcher = Pattern.compile("\\b" + table + "\\s+(?:as\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE)
+                .matcher(sql);
+
+        return matcher.find() ? matcher.group(1) : table;
+    }
+
+    // 전체 스캔(ALL) 이 아니고 인덱스를 사용
+    private void assertUsesIndex(final Map<String, Object> plan) {
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(plan.get("type")).isNotEqualTo("ALL");
+            softAssertions.assertThat(plan.get("key")).isNotNull();
+        });
+    }
+
+    // SQL 수 집계는 그대로 두고, capture 구간에서 실행된 SQL 문을 모아 둠
+    public static class CapturingInspector extends QueryCountInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+        private static final ThreadLocal<List<String>> LAST = ThreadLocal.withInitial(List::of);
+
+        @Override
+        public String inspect(final String sql) {
+            final List<String> captured = CAPTURED.get();
+            if (captured != null) {
+                captured.add(sql);
+            }
+            return super.inspect(sql);
+        }
+
+        static void start() {
+            CAPTURED.set(new ArrayList<>());
+        }
+
+        static void finish() {
+            LAST.set(List.copyOf(CAPTURED.get()));
+            CAPTURED.remove();
+        }
+
+        static List<String> captured() {
+            return LAST.get();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.dangun.miniproject;
+
+import com.dangun.miniproject.auth.jwt.JWTUtil;
+import com.dangun.miniproject.load.LatencyRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드의 게시글 목록 / 상세 처리량, p99 비교 (로컬 MySQL 필요)
+ * - ./gradlew loadTest 로 실행 (일반 test 에서는 제외)
+ * - 모드마다 애플리케이션을 임의 포트로 띄우고 동시 사용자 수만큼 요청을 반복
+ * - 상세 조회 캐시는 꺼서(ttl 0) 두 엔드포인트 모두 JDBC 를 거치도록 함
+ * - 동시 사용자 수 / 측정 시간은 -Dloadtest.concurrency, -Dloadtest.duration-seconds 로 조정
+ */
+@Tag("load")
+public class ThreadModeLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 400);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 10L));
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final int BOARD_IDS = 40;
+
+    private static final String EMAIL = "jeongdong@google.com";
+    private static final String NICKNAME = "jeongdong";
+
+    @Test
+    @DisplayName("플랫폼 스레드 / 가상 스레드 모드의 게시글 목록 / 상세 처리량 비교")
+    void compareThreadModes() throws Exception {
+        Map<String, Result> results = new LinkedHashMap<>();
+
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual " : "platform";
+
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                String authorization = "Bearer " + context.getBean(JWTUtil.class)
+                        .createJwtAccess("accessToken", EMAIL, NICKNAME, 60 * 60 * 1000L);
+
+                results.put(mode + "  GET /boards", run(i -> baseUrl + "/boards?page=" + (i % 5) + "&size=10", authorization));
+                results.put(mode + "  GET /boards/{id}", run(i -> baseUrl + "/boards/" + (i % BOARD_IDS + 1), authorization));
+            }
+        }
+
+        System.out.printf("%n%-28s %10s %8s %12s %10s %10s%n", "mode / endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)");
+        results.forEach((name, result) -> System.out.printf("%-28s %10d %8d %12.1f %10.2f %10.2f%n",
+                name, result.requests(), result.errors(), result.throughput(), result.p50Millis(), result.p99Millis()));
+
+        results.values().forEach(result -> assertTrue(result.requests() > 0));
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(MiniprojectApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "board.detail-cache.ttl-seconds=0")
+                .run();
+    }
+
+    private Result run(IntFunction<String> url, String authorization) throws Exception {
+        try (HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build()) {
+
+            load(client, url, authorization, WARMUP);
+            return load(client, url, authorization, DURATION);
+        }
+    }
+
+    private Result load(HttpClient client, IntFunction<String> url, String authorization, Duration duration) throws Exception {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + duration.toNanos();
+        List<Future<LatencyRecorder>> futures = new ArrayList<>();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < CONCURRENCY; u++) {
+                final int user = u;
+                futures.add(users.submit(() -> {
+                    // 사용자(스레드) 마다 따로 기록하고 끝나면 합침
+                    LatencyRecorder worker = new LatencyRecorder();
+                    for (int i = user; System.nanoTime() < deadline; i += CONCURRENCY) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(url.apply(i)))
+                                .header("Authorization", authorization)
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+
+                        long sentAt = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            worker.record(System.nanoTime() - sentAt, response.statusCode() == 200);
+                        } catch (Exception e) {
+                            worker.record(System.nanoTime() - sentAt, false);
+                        }
+                    }
+                    return worker;
+                }));
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        return Result.of(futures, elapsedSeconds);
+    }
+
+    private record Result(long requests, long errors, double throughput, double p50Millis, double p99Millis) {
+
+        static Result of(List<Future<LatencyRecorder>> futures, double elapsedSeconds) throws Exception {
+            LatencyRecorder all = new LatencyRecorder();
+            for (Future<LatencyRecorder> future : futures) {
+                all.merge(future.get());
+            }
+
+            LatencyRecorder.Percentiles percentiles = all.percentiles();
+            return new Result(all.count(), all.errors(), all.count() / elapsedSeconds, percentiles.millis(0.50), percentiles.millis(0.99));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.dangun.miniproject.auth.controller;
 
+import com.dangun.miniproject.auth.exception.PasswordHashingBusyException;
 import com.dangun.miniproject.common.exception.DuplicateException;
 import com.dangun.miniproject.common.exception.InvalidInputException;
 import com.dangun.miniproject.member.dto.GetAddressRequest;
@@ -17,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -138,4 +140,31 @@ public class GlobalExceptionTest {
                 .andExpect(jsonPath("$.message").value("이미 존재하는 닉네임 입니다."))
                 .andExpect(jsonPath("$.code").value("AUTH-F002"));
     }
+
+    @Test
+    @DisplayName("PasswordHashingBusyException 처리")
+    void testHandlePasswordHashingBusyException() throws Exception {
+        // Given
+        GetMemberRequest memberRequest = GetMemberRequest.builder()
+                .email("test@test.com")
+                .nickname("nickname")
+                .password("password")
+                .address(GetAddressRequest.builder()
+                        .street("street")
+                        .detail("detail")
+                        .zipcode("zipcode")
+                        .build())
+                .build();
+
+        doThrow(new PasswordHashingBusyException(3))
+                .when(authController).signupMember(any(GetMemberRequest.class));
+
+        // When & Then
+        mockMvc.perform(post("/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(memberRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "3"))
+                .andExpect(jsonPath("$.code").value("AUTH-F503"));
+    }
 }
@@ -62,4 +62,20 @@ public class UserDetailsDtoTest {
         assertEquals(1, authorities.size());
         assertTrue(authorities.contains(new SimpleGrantedAuthority("ROLE_USER")));
     }
+
+    @Test
+    @DisplayName("캐시된 principal 로 생성 시 요청마다 새 참조용 Member 사용")
+    void testFromPrincipalSnapshot() {
+        PrincipalSnapshot principal = new PrincipalSnapshot(1L, "test@test.com", "tester");
+
+        UserDetailsDto first = new UserDetailsDto(principal);
+        UserDetailsDto second = new UserDetailsDto(principal);
+
+        assertEquals("test@test.com", first.getUsername());
+        assertEquals("tester", first.getNickname());
+        assertNull(first.getPassword());
+        assertEquals(1L, first.getMember().getId());
+        assertSame(first.getMember(), first.getMember());
+        assertNotSame(first.getMember(), second.getMember());
+    }
 }
@@ -1,9 +1,10 @@
 package com.dangun.miniproject.auth.filter;
 
 import com.dangun.miniproject.auth.exception.ReissueAccessTokenException;
+import com.dangun.miniproject.auth.jwt.JWTClaims;
 import com.dangun.miniproject.auth.jwt.JWTUtil;
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
 import com.dangun.miniproject.auth.service.impl.TokenBlackListService;
-import com.dangun.miniproject.member.repository.MemberRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -37,7 +38,7 @@ public class JWTFilterFailedTest {
     private TokenBlackListService tokenBlackListService;
 
     @Mock
-    private MemberRepository memberRepository;
+    private PrincipalCacheService principalCacheService;
 
     @InjectMocks
     private JWTFilter jwtFilter;
@@ -52,7 +53,7 @@ public class JWTFilterFailedTest {
         String dummyToken = "dummyToken";
         request.addHeader("Authorization", "Bearer " + dummyToken);
 
-        when(jwtUtil.isExpiredTokenAccess(dummyToken)).thenThrow(new SignatureException("Invalid signature"));
+        when(jwtUtil.parseToken(dummyToken)).thenThrow(new SignatureException("Invalid signature"));
 
         FilterChain emptyFilterChain = (servletRequest, servletResponse) -> {
         };
@@ -80,7 +81,7 @@ public class JWTFilterFailedTest {
         String dummyToken = "dummyToken";
         request.addHeader("Authorization", "Bearer " + dummyToken);
 
-        when(jwtUtil.isExpiredTokenAccess(dummyToken)).thenThrow(new JwtException("유효하지 않은 JWT 토큰입니다."));
+        when(jwtUtil.parseToken(dummyToken)).thenThrow(new JwtException("유효하지 않은 JWT 토큰입니다."));
 
         FilterChain emptyFilterChain = (servletRequest, servletResponse) -> {
         };
@@ -108,7 +109,7 @@ public class JWTFilterFailedTest {
         String dummyToken = "dummyToken";
         request.addHeader("Authorization", "Bearer " + dummyToken);
 
-        when(jwtUtil.isExpiredTokenAccess(dummyToken)).thenThrow(new RuntimeException("JWT 요청 처리 중 에러가 발생했습니다.")); // Mocking
+        when(jwtUtil.parseToken(dummyToken)).thenThrow(new RuntimeException("JWT 요청 처리 중 에러가 발생했습니다.")); // Mocking
 
         FilterChain emptyFilterChain = (servletRequest, servletResponse) -> {
         };
@@ -139,7 +140,7 @@ public class JWTFilterFailedTest {
         String dummyToken = "dummyToken";
         request.addHeader("Authorization", "Bearer " + dummyToken);
 
-        when(jwtUtil.isExpiredTokenAccess(dummyToken)).thenThrow(mock(ExpiredJwtException.class)); // Mocking
+        when(jwtUtil.parseToken(dummyToken)).thenThrow(mock(ExpiredJwtException.class)); // Mocking
 
         FilterChain emptyFilterChain = (servletRequest, servletResponse) -> {};
 
@@ -271,7 +272,9 @@ public class JWTFilterFailedTest {
         String invalidAccessToken = "invalidAccessToken";
         request.addHeader("Authorization", "Bearer " + invalidAccessToken);
 
-        when(jwtUtil.getJwtCategory(invalidAccessToken)).thenReturn("NotAccess");
+        when(jwtUtil.parseToken(invalidAccessToken)).thenReturn(JWTClaims.builder()
+                .category("NotAccess")
+                .build());
 
         FilterChain mockFilterChain = mock(FilterChain.class);
 
@@ -295,9 +298,11 @@ public class JWTFilterFailedTest {
         request.addHeader("Authorization", "Bearer " + accessToken);
 
         String email = "test@naver.com";
-        when(jwtUtil.getJwtCategory(accessToken)).thenReturn("accessToken");
-        when(jwtUtil.getMemberEmail(accessToken)).thenReturn(email);
-        when(memberRepository.findByEmail(email)).thenReturn(null);
+        when(jwtUtil.parseToken(accessToken)).thenReturn(JWTClaims.builder()
+                .category("accessToken")
+                .email(email)
+                .build());
+        when(principalCacheService.getPrincipal(email)).thenReturn(null);
         FilterChain mockFilterChain = mock(FilterChain.class);
 
         // When
@@ -327,8 +332,14 @@ public class JWTFilterFailedTest {
         Cookie cookie = new Cookie("refreshToken", expireRefreshToken);
         request.setCookies(cookie);
 
-        when(jwtUtil.isExpiredTokenAccess(expireAccessToken)).thenReturn(true);
-        when(jwtUtil.isExpiredTokenRefresh(expireRefreshToken)).thenReturn(true);
+        when(jwtUtil.parseToken(expireAccessToken)).thenReturn(JWTClaims.builder()
+                .category("accessToken")
+                .expired(true)
+                .build());
+        when(jwtUtil.parseToken(expireRefreshToken)).thenReturn(JWTClaims.builder()
+                .category("refreshToken")
+                .expired(true)
+                .build());
 
         FilterChain mockFilterChain = mock(FilterChain.class);
 
@@ -382,8 +393,11 @@ public class JWTFilterFailedTest {
         request.setCookies(cookie);
 
         String email = "test@test.com";
-        when(jwtUtil.getMemberEmail(refreshToken)).thenReturn(email);
-        when(memberRepository.findByEmail(email)).thenReturn(null);
+        when(jwtUtil.parseToken(refreshToken)).thenReturn(JWTClaims.builder()
+                .category("refreshToken")
+                .email(email)
+                .build());
+        when(principalCacheService.getPrincipal(email)).thenReturn(null);
 
         FilterChain mockFilterChain = mock(FilterChain.class);
 
@@ -1,9 +1,10 @@
 package com.dangun.miniproject.auth.filter;
 
+import com.dangun.miniproject.auth.dto.PrincipalSnapshot;
+import com.dangun.miniproject.auth.jwt.JWTClaims;
 import com.dangun.miniproject.auth.jwt.JWTUtil;
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
 import com.dangun.miniproject.auth.service.impl.TokenBlackListService;
-import com.dangun.miniproject.member.domain.Member;
-import com.dangun.miniproject.member.repository.MemberRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -34,7 +35,7 @@ public class JWTFilterSuccessTest {
     private JWTUtil jwtUtil;
 
     @Mock
-    private MemberRepository memberRepository;
+    private PrincipalCacheService principalCacheService;
 
     @Mock
     private TokenBlackListService tokenBlackListService;
@@ -56,25 +57,23 @@ public class JWTFilterSuccessTest {
         String token = request.getHeader("Authorization").split(" ")[1];
         String email = "test@gmail.com";
 
-        when(jwtUtil.getJwtCategory(token)).thenReturn("accessToken");
-        when(jwtUtil.isExpiredTokenAccess(token)).thenReturn(false);
+        JWTClaims claims = JWTClaims.builder()
+                .category("accessToken")
+                .email(email)
+                .build();
+
         when(tokenBlackListService.isBlackListToken(token)).thenReturn(false);
-        when(jwtUtil.getMemberEmail(token)).thenReturn(email);
+        when(jwtUtil.parseToken(token)).thenReturn(claims);
 
-        Member member = Member.builder()
-                        .email(email)
-                        .build();
-        when(memberRepository.findByEmail(email)).thenReturn(member);
+        when(principalCacheService.getPrincipal(email)).thenReturn(new PrincipalSnapshot(1L, email, "nickname"));
 
         // When
         jwtFilter.doFilterInternal(request, response, filterChain);
 
         // Then
         assertEquals(200, response.getStatus());
-        verify(jwtUtil).getJwtCategory(token);
-        verify(jwtUtil).isExpiredTokenAccess(token);
-        verify(jwtUtil).getMemberEmail(token);
-        verify(memberRepository).findByEmail(email);
+        verify(jwtUtil, times(1)).parseToken(token);
+        verify(principalCacheService).getPrincipal(email);
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
@@ -93,21 +92,21 @@ public class JWTFilterSuccessTest {
         Cookie refreshTokenCookie = new Cookie("refreshToken", validRefreshToken);
         request.setCookies(refreshTokenCookie);
 
-        when(jwtUtil.isExpiredTokenAccess(expiredAccessToken)).thenReturn(true);
-        when(jwtUtil.isExpiredTokenRefresh(validRefreshToken)).thenReturn(false);
-
         String email = "test@gamil.com";
-        when(jwtUtil.getMemberEmail(validRefreshToken)).thenReturn(email);
+
+        when(jwtUtil.parseToken(expiredAccessToken)).thenReturn(JWTClaims.builder()
+                .category("accessToken")
+                .expired(true)
+                .build());
+        when(jwtUtil.parseToken(validRefreshToken)).thenReturn(JWTClaims.builder()
+                .category("refreshToken")
+                .email(email)
+                .build());
 
         String newAccessToken = "newAccessToken";
         when(jwtUtil.createJwtAccess("accessToken", email, "nickname", 60 * 60 * 1000L)).thenReturn(newAccessToken);
 
-        Member member = Member.builder()
-                .email(email)
-                .nickname("nickname")
-                .build();
-
-        when(memberRepository.findByEmail(email)).thenReturn(member);
+        when(principalCacheService.getPrincipal(email)).thenReturn(new PrincipalSnapshot(1L, email, "nickname"));
 
         FilterChain mockFilterChain = mock(FilterChain.class);
 
@@ -129,7 +128,10 @@ public class JWTFilterSuccessTest {
             "/resources/",
             "/images/",
             "/css/",
-            "/favicon.ico"
+            "/favicon.ico",
+            "/index.html",
+            "/html/boardList.html",
+            "/assets/js/script.f357793d1a55.js"
     })
     void testJwtFilter_URIPass(String uri) throws IOException, ServletException {
         // Given
@@ -141,18 +143,28 @@ public class JWTFilterSuccessTest {
         jwtFilter.doFilter(request, response, mockFilterChain);
 
         // Then
-        boolean shouldPass = uri.startsWith("/auth/") ||
-                uri.equals("/") ||
-                uri.startsWith("/static/") ||
-                uri.startsWith("/resources/") ||
-                uri.matches(".*\\.(html|css|js|png|jpg|jpeg|ico)$");
-
-        if (shouldPass) {
-            verify(mockFilterChain, times(1)).doFilter(request, response);
-            assertEquals(200, response.getStatus());
-        } else {
-            assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
-            verify(mockFilterChain, never()).doFilter(any(ServletRequest.class), any(ServletResponse.class));
-        }
+        verify(mockFilterChain, times(1)).doFilter(request, response);
+        assertEquals(200, response.getStatus());
+    }
+
+    @ParameterizedTest
+    @DisplayName("JwtFilter URI 확장자만 같은 API 경로는 통과하지 않음")
+    @ValueSource(strings = {
+            "/boards/1.js",
+            "/members/my-info.html",
+            "/authx/login"
+    })
+    void testJwtFilter_URINotPass(String uri) throws IOException, ServletException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain mockFilterChain = mock(FilterChain.class);
+
+        // When
+        jwtFilter.doFilter(request, response, mockFilterChain);
+
+        // Then
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+        verify(mockFilterChain, never()).doFilter(any(ServletRequest.class), any(ServletResponse.class));
     }
 }
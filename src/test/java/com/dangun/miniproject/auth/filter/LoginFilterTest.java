@@ -1,6 +1,7 @@
 package com.dangun.miniproject.auth.filter;
 
 import com.dangun.miniproject.auth.dto.UserDetailsDto;
+import com.dangun.miniproject.auth.exception.PasswordHashingBusyException;
 import com.dangun.miniproject.auth.jwt.JWTUtil;
 import com.dangun.miniproject.member.domain.Member;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,8 +11,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,9 +28,12 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.io.IOException;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -43,6 +49,9 @@ public class LoginFilterTest {
     @Mock
     private JWTUtil jwtUtil;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private LoginFilter loginFilter;
 
@@ -84,7 +93,9 @@ public class LoginFilterTest {
                         .content(new ObjectMapper().writeValueAsString(Collections.singletonMap("email", email))))
                 .andExpect(status().isOk())
                 .andExpect(header().string("Authorization", "Bearer " + token))
-                .andExpect(cookie().exists("refreshToken"));
+                .andExpect(cookie().exists("refreshToken"))
+                .andExpect(jsonPath("$.accessToken").value(token))
+                .andExpect(jsonPath("$.code").doesNotExist());
     }
 
     @Test
@@ -103,6 +114,59 @@ public class LoginFilterTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("추가 필드가 있어도 email / password 만 읽어 인증 요청")
+    void testLoginAuthentication_ReadOnlyCredentials() throws Exception {
+        // Given
+        String body = "{\"device\":{\"os\":\"ios\",\"tags\":[1,2]},\"email\":\"dummy@naver.com\",\"password\":\"password1\"}";
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new BadCredentialsException("Authentication failed"));
+
+        // When
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("AUTH_F000"))
+                .andExpect(jsonPath("$.accessToken").doesNotExist());
+
+        // Then
+        ArgumentCaptor<UsernamePasswordAuthenticationToken> captor = ArgumentCaptor.forClass(UsernamePasswordAuthenticationToken.class);
+        verify(authenticationManager).authenticate(captor.capture());
+        assertEquals("dummy@naver.com", captor.getValue().getPrincipal());
+        assertEquals("password1", captor.getValue().getCredentials());
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 아닌 요청은 400 응답")
+    void testLoginAuthentication_NotJsonObject() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"dummy@naver.com\"]"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증 풀이 가득 차면 503 + Retry-After 응답")
+    void testLoginAuthentication_PasswordHashingBusy() throws Exception {
+        // Given
+        String email = "dummy@naver.com";
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new PasswordHashingBusyException(1));
+
+        // When & Then
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(Collections.singletonMap("email", email))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("AUTH_F503"));
+    }
+
     @Test
     @DisplayName("입출력 오류 시 BadCredentialsException 테스트")
     void testLoginAuthentication_FailedDueToIOException() throws Exception {
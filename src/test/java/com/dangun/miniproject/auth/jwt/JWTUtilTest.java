@@ -121,4 +121,44 @@ public class JWTUtilTest {
         // Then
         assertFalse(isExpired);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("JWT 한 번의 파싱으로 claim 추출")
+    void testParseToken() {
+        // Given
+        String accessToken = jwtUtil.createJwtAccess("accessToken", "test@test.com", "tester", 10000L);
+
+        // When
+        JWTClaims claims = jwtUtil.parseToken(accessToken);
+
+        // Then
+        assertEquals("accessToken", claims.getCategory());
+        assertEquals("test@test.com", claims.getEmail());
+        assertEquals("tester", claims.getNickname());
+        assertNotNull(claims.getExpiration());
+        assertTrue(claims.isAccessToken());
+        assertFalse(claims.isExpired());
+    }
+
+    @Test
+    @DisplayName("만료된 JWT 파싱 시 claim 과 만료 여부 반환")
+    void testParseExpiredToken() {
+        // Given
+        String expiredRefreshToken = jwtUtil.createJwtRefresh("refreshToken", "test@test.com", -1000L);
+
+        // When
+        JWTClaims claims = jwtUtil.parseToken(expiredRefreshToken);
+
+        // Then
+        assertTrue(claims.isExpired());
+        assertFalse(claims.isAccessToken());
+        assertEquals("test@test.com", claims.getEmail());
+    }
+
+    @Test
+    @DisplayName("잘못된 JWT 파싱 예외 처리")
+    void testParseInvalidToken() {
+        // When & Then
+        assertThrows(JwtException.class, () -> jwtUtil.parseToken("invalidToken"));
+    }
+}
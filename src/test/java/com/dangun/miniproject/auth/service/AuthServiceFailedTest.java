@@ -70,7 +70,7 @@ public class AuthServiceFailedTest {
         request.addHeader("Authorization", "Bearer " + invalidToken);
 
         doThrow(new JwtException("accessToken invalid"))
-                .when(jwtUtil).isExpiredTokenAccess(invalidToken);
+                .when(jwtUtil).parseToken(invalidToken);
 
         // When
         authService.logoutMember(request, response);
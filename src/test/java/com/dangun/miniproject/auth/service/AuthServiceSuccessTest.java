@@ -1,6 +1,7 @@
 package com.dangun.miniproject.auth.service;
 
 
+import com.dangun.miniproject.auth.jwt.JWTClaims;
 import com.dangun.miniproject.auth.jwt.JWTUtil;
 import com.dangun.miniproject.auth.service.impl.AuthServiceImpl;
 import com.dangun.miniproject.auth.service.impl.TokenBlackListService;
@@ -19,7 +20,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -33,7 +36,7 @@ public class AuthServiceSuccessTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private PasswordEncoder passwordEncoder;
 
     @Mock
     private JWTUtil jwtUtil;
@@ -58,7 +61,7 @@ public class AuthServiceSuccessTest {
         member.addAddress(address);
 
         doNothing().when(signupValidator).validateMember(memberRequest);
-        when(bCryptPasswordEncoder.encode(member.getPassword())).thenReturn("encodedPassword");
+        when(passwordEncoder.encode(member.getPassword())).thenReturn("encodedPassword");
 
         // When
         Member result = authService.signupMember(memberRequest);
@@ -79,14 +82,19 @@ public class AuthServiceSuccessTest {
         String accessToken = "accessToken";
         request.addHeader("Authorization", "Bearer " + accessToken);
 
-        when(jwtUtil.isExpiredTokenAccess(accessToken)).thenReturn(false);
-        doNothing().when(tokenBlackListService).addBlackListToken(accessToken);
+        Date expiration = new Date(System.currentTimeMillis() + 10000L);
+
+        when(jwtUtil.parseToken(accessToken)).thenReturn(JWTClaims.builder()
+                .category("accessToken")
+                .expiration(expiration)
+                .build());
+        doNothing().when(tokenBlackListService).addBlackListToken(accessToken, expiration);
 
         // When
         authService.logoutMember(request, response);
 
         // Then
         assertEquals(200, response.getStatus());
-        verify(tokenBlackListService).addBlackListToken(accessToken);
+        verify(tokenBlackListService).addBlackListToken(accessToken, expiration);
     }
 }
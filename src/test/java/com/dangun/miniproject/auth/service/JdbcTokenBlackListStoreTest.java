@@ -0,0 +1,100 @@
+package com.dangun.miniproject.auth.service;
+
+import com.dangun.miniproject.auth.service.impl.JdbcTokenBlackListStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+public class JdbcTokenBlackListStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcTokenBlackListStore nodeA;
+    private JdbcTokenBlackListStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new JdbcTokenBlackListStore(jdbcTemplate, 10_000L);
+        nodeA.init();
+        nodeB = new JdbcTokenBlackListStore(jdbcTemplate, 10_000L);
+        nodeB.init();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 등록한 토큰을 polling 후 조회")
+    void testPollFromOtherNode() {
+        // Given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        nodeA.add("digest-node-a", expiresAt);
+
+        // When
+        boolean beforePoll = nodeB.contains("digest-node-a");
+        nodeB.poll();
+
+        // Then
+        assertFalse(beforePoll);
+        assertTrue(nodeB.contains("digest-node-a"));
+        assertTrue(nodeA.contains("digest-node-a"));
+    }
+
+    @Test
+    @DisplayName("이미 등록된 토큰 중복 등록")
+    void testAddDuplicate() {
+        // Given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+
+        // When
+        boolean first = nodeA.add("digest-duplicate", expiresAt);
+        boolean second = nodeB.add("digest-duplicate", expiresAt);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 제거 후 로컬 조회에서도 제외")
+    void testRemoveExpired() {
+        // Given
+        long now = System.currentTimeMillis();
+        nodeA.add("digest-expired", now - 1000L);
+        nodeA.add("digest-valid", now + 60_000L);
+
+        // When
+        nodeA.removeExpired(now);
+
+        // Then
+        assertFalse(nodeA.contains("digest-expired"));
+        assertTrue(nodeA.contains("digest-valid"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM token_black_list WHERE token_digest = 'digest-expired'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("polling 범위보다 늦게 커밋된 토큰은 만료 정리 시 전체 재조회로 반영")
+    void testLateCommittedRow() {
+        // Given
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        jdbcTemplate.update("INSERT INTO token_black_list (token_digest, expires_at, created_at) VALUES (?, ?, NOW(6) - INTERVAL 1 HOUR)",
+                "digest-late", expiresAt);
+
+        // When
+        nodeB.poll();
+        boolean afterPoll = nodeB.contains("digest-late");
+        nodeB.removeExpired(System.currentTimeMillis());
+
+        // Then
+        assertFalse(afterPoll);
+        assertTrue(nodeB.contains("digest-late"));
+    }
+}
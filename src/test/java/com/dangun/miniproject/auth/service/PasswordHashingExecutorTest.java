@@ -0,0 +1,139 @@
+package com.dangun.miniproject.auth.service;
+
+import com.dangun.miniproject.auth.exception.PasswordHashingBusyException;
+import com.dangun.miniproject.auth.service.impl.BoundedPasswordEncoder;
+import com.dangun.miniproject.auth.service.impl.PasswordHashingExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("BCrypt 해싱 / 검증이 전용 풀에서 실행되고 지표가 기록됨")
+    void testEncodeAndMatches() {
+        // Given
+        executor = new PasswordHashingExecutor(2, 4, 5000, 1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor);
+
+        // When
+        String encoded = encoder.encode("password");
+
+        // Then
+        assertTrue(encoder.matches("password", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertEquals(3, executor.getCompletedCount());
+        assertTrue(executor.getAverageHashingMillis() > 0.0);
+        assertEquals(0, executor.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("풀과 큐가 가득 차면 바로 PasswordHashingBusyException")
+    void testRejectWhenFull() throws Exception {
+        // Given
+        executor = new PasswordHashingExecutor(1, 1, 5000, 2);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "queued"));
+        waitForQueueDepth(1);
+
+        // When
+        PasswordHashingBusyException exception = assertThrows(PasswordHashingBusyException.class,
+                () -> executor.execute(() -> "rejected"));
+
+        // Then
+        assertEquals(2, exception.getRetryAfterSeconds());
+        assertEquals(1, executor.getRejectedCount());
+
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되면 PasswordHashingBusyException")
+    void testTimeout() {
+        // Given
+        executor = new PasswordHashingExecutor(1, 1, 50, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When & Then
+        assertThrows(PasswordHashingBusyException.class, () -> executor.execute(() -> {
+            await(release);
+            return "slow";
+        }));
+        assertEquals(1, executor.getRejectedCount());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("큐에서 기다리다 시간이 초과된 작업은 나중에 풀이 비어도 실행하지 않음")
+    void testTimedOutTaskNotStarted() throws Exception {
+        // Given
+        executor = new PasswordHashingExecutor(1, 1, 100, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger queuedRuns = new AtomicInteger();
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        // When
+        assertThrows(PasswordHashingBusyException.class, () -> executor.execute(queuedRuns::incrementAndGet));
+        release.countDown();
+
+        // Then
+        assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000L;
+        while ((executor.getCompletedCount() < 1 || executor.getQueueDepth() > 0) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        Thread.sleep(100L); // 큐에서 꺼낸 작업이 실행될 시간
+        assertEquals(0, queuedRuns.get());
+        assertEquals(1, executor.getCompletedCount());
+    }
+
+    private void waitForQueueDepth(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (executor.getQueueDepth() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expected, executor.getQueueDepth());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.dangun.miniproject.auth.service;
+
+import com.dangun.miniproject.auth.dto.PrincipalSnapshot;
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
+import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.dto.GetMemberDto;
+import com.dangun.miniproject.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PrincipalCacheServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private PrincipalCacheService principalCacheService;
+
+    @BeforeEach
+    void setUp() {
+        principalCacheService = new PrincipalCacheService(memberRepository, 2, 300);
+    }
+
+    @Test
+    @DisplayName("같은 email 재조회 시 캐시에서 반환")
+    void testGetMember_CacheHit() {
+        // Given
+        String email = "test@test.com";
+        Member member = Member.builder().email(email).build();
+        when(memberRepository.findByEmail(email)).thenReturn(member);
+
+        // When
+        PrincipalSnapshot first = principalCacheService.getPrincipal(email);
+        PrincipalSnapshot second = principalCacheService.getPrincipal(email);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, principalCacheService.getHitCount());
+        assertEquals(1, principalCacheService.getMissCount());
+        verify(memberRepository, times(1)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 캐시하지 않음")
+    void testGetMember_NotFound() {
+        // Given
+        String email = "none@test.com";
+        when(memberRepository.findByEmail(email)).thenReturn(null);
+
+        // When
+        principalCacheService.getPrincipal(email);
+        PrincipalSnapshot result = principalCacheService.getPrincipal(email);
+
+        // Then
+        assertNull(result);
+        assertEquals(0, principalCacheService.size());
+        verify(memberRepository, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("무효화 후 재조회 시 DB 조회")
+    void testEvict() {
+        // Given
+        String email = "test@test.com";
+        when(memberRepository.findByEmail(email)).thenReturn(Member.builder().email(email).build());
+        principalCacheService.getPrincipal(email);
+
+        // When
+        principalCacheService.evict(email);
+        principalCacheService.getPrincipal(email);
+
+        // Then
+        assertEquals(2, principalCacheService.getMissCount());
+        verify(memberRepository, times(2)).findByEmail(email);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않음")
+    void testMaxSize() {
+        // Given
+        when(memberRepository.findByEmail(anyString()))
+                .thenAnswer(invocation -> Member.builder().email(invocation.getArgument(0)).build());
+
+        // When
+        principalCacheService.getPrincipal("a@test.com");
+        principalCacheService.getPrincipal("b@test.com");
+        principalCacheService.getPrincipal("c@test.com");
+
+        // Then
+        assertEquals(2, principalCacheService.size());
+    }
+
+    @Test
+    @DisplayName("조회한 엔티티가 이후 변경되어도 캐시된 principal 은 바뀌지 않음")
+    void testGetPrincipal_Snapshot() {
+        // Given
+        String email = "test@test.com";
+        Member member = Member.builder().email(email).nickname("before").password("password").build();
+        when(memberRepository.findByEmail(email)).thenReturn(member);
+        principalCacheService.getPrincipal(email);
+
+        // When
+        member.updateMember(GetMemberDto.builder().nickname("after").build());
+        PrincipalSnapshot cached = principalCacheService.getPrincipal(email);
+
+        // Then
+        assertEquals(email, cached.email());
+        assertEquals("before", cached.nickname());
+        verify(memberRepository, times(1)).findByEmail(email);
+    }
+}
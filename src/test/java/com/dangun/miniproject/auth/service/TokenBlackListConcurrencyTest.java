@@ -0,0 +1,159 @@
+package com.dangun.miniproject.auth.service;
+
+import com.dangun.miniproject.auth.dto.PrincipalSnapshot;
+import com.dangun.miniproject.auth.filter.JWTFilter;
+import com.dangun.miniproject.auth.jwt.JWTUtil;
+import com.dangun.miniproject.auth.service.impl.AuthServiceImpl;
+import com.dangun.miniproject.auth.service.impl.InMemoryTokenBlackListStore;
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
+import com.dangun.miniproject.auth.service.impl.TokenBlackListService;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 로그아웃(블랙 리스트 등록)과 JWTFilter 조회가 동시에 일어나는 상황 검증
+public class TokenBlackListConcurrencyTest {
+
+    private static final int WRITER_THREADS = 4;
+    private static final int READER_THREADS = 8;
+    private static final int ITERATIONS = 500;
+
+    private final String secretKey = "dpfwnldbfpzkrkqhwkrndpfwnldbfpzkrkqhwkrndpfwnldbfpzkrkqhwkrn";
+
+    private JWTUtil jwtUtil;
+    private TokenBlackListService tokenBlackListService;
+    private AuthServiceImpl authService;
+    private JWTFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JWTUtil(secretKey);
+        tokenBlackListService = new TokenBlackListService(new InMemoryTokenBlackListStore());
+        authService = new AuthServiceImpl(null, null, null, tokenBlackListService, jwtUtil);
+
+        PrincipalCacheService principalCacheService = mock(PrincipalCacheService.class);
+        when(principalCacheService.getPrincipal(anyString())).thenReturn(new PrincipalSnapshot(1L, "test@test.com", "test"));
+        jwtFilter = new JWTFilter(jwtUtil, principalCacheService, tokenBlackListService);
+    }
+
+    @Test
+    @DisplayName("로그아웃과 필터 요청이 섞여도 블랙 리스트 결과가 일관됨")
+    void testLogoutAndFilterConcurrently() throws Exception {
+        // Given
+        List<String> activeTokens = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            activeTokens.add(jwtUtil.createJwtAccess("accessToken", "active" + i + "@test.com", "active" + i, 60_000L));
+        }
+
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_THREADS + READER_THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < WRITER_THREADS; t++) {
+            final int writer = t;
+            futures.add(executor.submit(() -> {
+                await(start);
+                for (int i = 0; i < ITERATIONS; i++) {
+                    String token = jwtUtil.createJwtAccess("accessToken", "writer" + writer + "-" + i + "@test.com", "writer", 60_000L);
+
+                    if (filter(token) != 200) {
+                        failures.incrementAndGet();
+                    }
+
+                    MockHttpServletRequest logoutRequest = new MockHttpServletRequest("POST", "/auth/logout");
+                    logoutRequest.addHeader("Authorization", "Bearer " + token);
+                    MockHttpServletResponse logoutResponse = new MockHttpServletResponse();
+                    authService.logoutMember(logoutRequest, logoutResponse);
+
+                    if (logoutResponse.getStatus() != 200 || filter(token) != 401) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        for (int t = 0; t < READER_THREADS; t++) {
+            final int reader = t;
+            futures.add(executor.submit(() -> {
+                await(start);
+                for (int i = 0; i < ITERATIONS; i++) {
+                    String token = activeTokens.get((reader + i) % activeTokens.size());
+                    if (filter(token) != 200) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(0, failures.get());
+        assertEquals(WRITER_THREADS * ITERATIONS, tokenBlackListService.size());
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 블랙 리스트 항목은 정리되어 메모리가 유지됨")
+    void testSweepKeepsBlackListFlat() throws Exception {
+        // Given
+        for (int i = 0; i < 1000; i++) {
+            String token = jwtUtil.createJwtAccess("accessToken", "user" + i + "@test.com", "user", 200L);
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/logout");
+            request.addHeader("Authorization", "Bearer " + token);
+            authService.logoutMember(request, new MockHttpServletResponse());
+        }
+        assertTrue(tokenBlackListService.size() > 0);
+
+        // When
+        Thread.sleep(1100L);
+        tokenBlackListService.removeExpiredTokens();
+
+        // Then
+        assertEquals(0, tokenBlackListService.size());
+    }
+
+    private int filter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = (req, res) -> {
+        };
+
+        jwtFilter.doFilter(request, response, filterChain);
+        return response.getStatus();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
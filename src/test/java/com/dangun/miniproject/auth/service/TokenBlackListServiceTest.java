@@ -1,28 +1,33 @@
 package com.dangun.miniproject.auth.service;
 
+import com.dangun.miniproject.auth.service.impl.InMemoryTokenBlackListStore;
 import com.dangun.miniproject.auth.service.impl.TokenBlackListService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@ExtendWith(MockitoExtension.class)
 public class TokenBlackListServiceTest {
 
-    @InjectMocks
     private TokenBlackListService tokenBlackListService;
 
+    @BeforeEach
+    void setUp() {
+        tokenBlackListService = new TokenBlackListService(new InMemoryTokenBlackListStore());
+    }
+
     @Test
     @DisplayName("토큰 블랙 리스트에 등록")
     void testAddBlackListToken() {
         // Given
         String accessToken = "accessToken";
+        Date expiration = new Date(System.currentTimeMillis() + 10000L);
 
         // When && Then
-        tokenBlackListService.addBlackListToken(accessToken);
+        tokenBlackListService.addBlackListToken(accessToken, expiration);
     }
 
     @Test
@@ -30,12 +35,13 @@ public class TokenBlackListServiceTest {
     void testIsBlackListTokenTrue() {
         // Given
         String accessToken = "accessToken";
+        Date expiration = new Date(System.currentTimeMillis() + 10000L);
 
         // When
-        tokenBlackListService.addBlackListToken(accessToken);
+        tokenBlackListService.addBlackListToken(accessToken, expiration);
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            tokenBlackListService.addBlackListToken(accessToken);
+            tokenBlackListService.addBlackListToken(accessToken, expiration);
         });
 
         // Then
@@ -53,4 +59,20 @@ public class TokenBlackListServiceTest {
 
         assertFalse(isBlackListToken);
     }
+
+    @Test
+    @DisplayName("만료된 블랙 리스트 토큰 제거")
+    void testRemoveExpiredTokens() {
+        // Given
+        tokenBlackListService.addBlackListToken("expiredToken", new Date(System.currentTimeMillis() - 1000L));
+        tokenBlackListService.addBlackListToken("validToken", new Date(System.currentTimeMillis() + 10000L));
+
+        // When
+        tokenBlackListService.removeExpiredTokens();
+
+        // Then
+        assertFalse(tokenBlackListService.isBlackListToken("expiredToken"));
+        assertTrue(tokenBlackListService.isBlackListToken("validToken"));
+        assertEquals(1, tokenBlackListService.size());
+    }
 }
@@ -4,6 +4,8 @@ import com.dangun.miniproject.auth.dto.UserDetailsDto;
 import com.dangun.miniproject.board.domain.Board;
 import com.dangun.miniproject.board.dto.*;
 import com.dangun.miniproject.board.service.BoardService;
+import com.dangun.miniproject.common.etag.ResourceVersions;
+import com.dangun.miniproject.common.etag.Versioned;
 import com.dangun.miniproject.fixture.BoardFixture;
 import com.dangun.miniproject.member.domain.Address;
 import com.dangun.miniproject.member.domain.Member;
@@ -20,6 +22,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
@@ -41,6 +45,8 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = BoardController.class)
@@ -56,6 +62,9 @@ class BoardControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @MockBean
+    private ResourceVersions resourceVersions;
+
     @Nested
     @DisplayName("게시글 상세 조회")
     class getBoardDetail {
@@ -72,7 +81,7 @@ class BoardControllerTest {
             when(address.getStreet()).thenReturn("test Street");
             final GetBoardDetailResponse response = GetBoardDetailResponse.from(board);
 
-            given(boardService.getBoardDetail(any())).willReturn(response);
+            given(boardService.getBoardDetail(any(), any())).willReturn(new Versioned<>(response, "0.0"));
 
             // when -- 테스트하고자 하는 행동
             final ResultActions result = mockMvc.perform(
@@ -81,7 +90,57 @@ class BoardControllerTest {
                             .contentType(APPLICATION_JSON));
 
             // then -- 예상되는 변화 및 결과
-            result.andExpect(status().isOk());
+            // If-None-Match 가 없으면 버전을 따로 읽지 않고 조회 결과의 버전으로 ETag 설정
+            result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "W/\"boards-1-0.0\""));
+            verify(boardService).getBoardDetail(1L, null);
+            verifyNoInteractions(resourceVersions);
+        }
+
+        @Test
+        @DisplayName("[성공] If-None-Match 가 현재 ETag 와 같으면 게시글을 조회하지 않고 304 를 반환한다.")
+        void getBoardDetail_notModified_success() throws Exception {
+            // given -- 테스트의 상태 설정
+            final String eTag = "W/\"boards-1-0.0\"";
+            given(resourceVersions.boardVersion(1L)).willReturn("0.0");
+
+            // when -- 테스트하고자 하는 행동
+            final ResultActions result = mockMvc.perform(
+                    get("/boards/{boardId}", 1L)
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                            .accept(APPLICATION_JSON));
+
+            // then -- 예상되는 변화 및 결과
+            result.andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(content().string(""));
+            verify(boardService, never()).getBoardDetail(any(), any());
+        }
+
+        @Test
+        @DisplayName("[성공] 게시글이 변경되면 이전 ETag 로 요청해도 본문을 반환한다.")
+        void getBoardDetail_modified_success() throws Exception {
+            // given -- 테스트의 상태 설정
+            final String eTag = "W/\"boards-1-0.0\"";
+            final String currentETag = "W/\"boards-1-0.1\"";
+            given(resourceVersions.boardVersion(1L)).willReturn("0.1");
+
+            final Member member = mock(Member.class);
+            final Address address = mock(Address.class);
+            when(member.getAddress()).thenReturn(address);
+            // 이미 읽은 현재 버전을 넘겨 캐시 항목의 버전과 비교
+            given(boardService.getBoardDetail(1L, "0.1"))
+                    .willReturn(new Versioned<>(GetBoardDetailResponse.from(BoardFixture.instanceOf(member)), "0.1"));
+
+            // when -- 테스트하고자 하는 행동
+            final ResultActions result = mockMvc.perform(
+                    get("/boards/{boardId}", 1L)
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                            .accept(APPLICATION_JSON));
+
+            // then -- 예상되는 변화 및 결과
+            result.andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, currentETag));
         }
 
     }
@@ -112,6 +171,7 @@ class BoardControllerTest {
             // when -- 테스트하고자 하는 행동
             final ResultActions result = mockMvc.perform(
                     get("/boards")
+                            .param("count", "exact")
                             .accept(APPLICATION_JSON)
                             .contentType(APPLICATION_JSON));
 
@@ -141,6 +201,7 @@ class BoardControllerTest {
             // when -- 테스트하고자 하는 행동
             final ResultActions result = mockMvc.perform(
                     get("/boards?keyword=", " ")
+                            .param("count", "exact")
                             .accept(APPLICATION_JSON)
                             .contentType(APPLICATION_JSON));
 
@@ -168,6 +229,71 @@ class BoardControllerTest {
 
             given(boardService.getBoardList(any(), any())).willReturn(response);
 
+            // when -- 테스트하고자 하는 행동
+            final ResultActions result = mockMvc.perform(
+                    get("/boards")
+                            .param("keyword", "Test")
+                            .param("count", "exact")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON));
+
+            // then -- 예상되는 변화 및 결과
+            result.andExpect(status().isOk());
+        }
+    }
+
+
+    @Nested
+    @DisplayName("게시글 목록 COUNT 없는 조회")
+    class GetBoardSlice {
+
+        @Test
+        @DisplayName("[성공] count 파라미터가 없으면 COUNT 없이 다음 페이지 여부만 조회된다.")
+        void getBoardSlice_noCount_success() throws Exception {
+            // given -- 테스트의 상태 설정
+            final GetBoardSliceResponse response = sliceResponse(null);
+
+            given(boardService.getBoardSlice(any(Pageable.class), eq(false))).willReturn(response);
+
+            // when -- 테스트하고자 하는 행동
+            final ResultActions result = mockMvc.perform(
+                    get("/boards")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON));
+
+            // then -- 예상되는 변화 및 결과
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.hasNext").value(true))
+                    .andExpect(jsonPath("$.data.approximateTotal").doesNotExist());
+            verify(boardService, never()).getBoardList(any());
+        }
+
+        @Test
+        @DisplayName("[성공] count=approx 이면 대략적인 전체 개수가 함께 조회된다.")
+        void getBoardSlice_approxCount_success() throws Exception {
+            // given -- 테스트의 상태 설정
+            final GetBoardSliceResponse response = sliceResponse(100L);
+
+            given(boardService.getBoardSlice(any(Pageable.class), eq(true))).willReturn(response);
+
+            // when -- 테스트하고자 하는 행동
+            final ResultActions result = mockMvc.perform(
+                    get("/boards")
+                            .param("count", "approx")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON));
+
+            // then -- 예상되는 변화 및 결과
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.approximateTotal").value(100));
+        }
+
+        @Test
+        @DisplayName("[성공] 키워드 검색도 count 파라미터가 없으면 COUNT 없이 조회된다.")
+        void searchBoardSlice_success() throws Exception {
+            // given -- 테스트의 상태 설정
+            given(boardService.searchBoardSlice(eq("Test"), any(Pageable.class))).willReturn(sliceResponse(null));
+
             // when -- 테스트하고자 하는 행동
             final ResultActions result = mockMvc.perform(
                     get("/boards")
@@ -177,9 +303,49 @@ class BoardControllerTest {
 
             // then -- 예상되는 변화 및 결과
             result.andExpect(status().isOk());
+            verify(boardService).searchBoardSlice(eq("Test"), any(Pageable.class));
+            verify(boardService, never()).getBoardList(any(), any());
+        }
+
+        private GetBoardSliceResponse sliceResponse(final Long approximateTotal) {
+            final Member member = mock(Member.class);
+            final List<GetBoardResponse> boardList = List.of(GetBoardResponse.from(BoardFixture.instanceOf(member)));
+
+            return GetBoardSliceResponse.from(new SliceImpl<>(boardList, PageRequest.of(0, 1), true), approximateTotal);
         }
     }
 
+    @Nested
+    @DisplayName("게시글 목록 cursor 조회")
+    class GetBoardListByCursor {
+
+        @Test
+        @DisplayName("[성공] cursor 파라미터가 있을 경우, cursor 기반으로 게시글 목록이 조회된다.")
+        void getBoardListByCursor_success() throws Exception {
+            // given -- 테스트의 상태 설정
+            final Member member = mock(Member.class);
+            final Board board = BoardFixture.instanceOf(member);
+
+            final List<GetBoardResponse> boardList = List.of(GetBoardResponse.from(board));
+            final GetBoardCursorResponse response = GetBoardCursorResponse.from(
+                    new SliceImpl<>(boardList, PageRequest.of(0, 9), false));
+
+            given(boardService.getBoardListByCursor(eq(""), eq(9))).willReturn(response);
+
+            // when -- 테스트하고자 하는 행동
+            final ResultActions result = mockMvc.perform(
+                    get("/boards")
+                            .param("cursor", "")
+                            .param("size", "9")
+                            .accept(APPLICATION_JSON)
+                            .contentType(APPLICATION_JSON));
+
+            // then -- 예상되는 변화 및 결과
+            result.andExpect(status().isOk());
+            verify(boardService).getBoardListByCursor("", 9);
+            verify(boardService, never()).getBoardList(any());
+        }
+    }
 
     @Nested
     @DisplayName("작성 게시글 목록 조회")
@@ -211,6 +377,7 @@ class BoardControllerTest {
             // when -- 테스트하고자 하는 행동
             final ResultActions result = mockMvc.perform(
                     get("/boards/my-board")
+                            .param("count", "exact")
                             .accept(APPLICATION_JSON)
                             .contentType(APPLICATION_JSON)
                             .with(authentication(UsernamePasswordAuthenticationToken.authenticated(userDetails, null, userDetails.getAuthorities())))
@@ -4,6 +4,9 @@ import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.SoftAssertions.*;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.dangun.miniproject.board.domain.Board;
 import com.dangun.miniproject.member.domain.Member;
@@ -30,22 +34,32 @@ public class BoardRepositoryTest {
 	private EntityManager em;
 
 	@Test
-	@DisplayName("[성공] 게시글 작성자 정보와 댓글이 최신순으로 상세 조회된다.")
-	void getBoardDetail_withMemberAndComments_success() {
+	@DisplayName("[성공] 게시글과 작성자 주소가 DTO로 상세 조회된다.")
+	void getBoardDetail_withWriterAddress_success() {
 	    // given -- 테스트의 상태 설정
 		final Board board = em.find(Board.class, 1L);
 
 	    // when -- 테스트하고자 하는 행동
-		final GetBoardDetailResponse result = boardRepository.findBoardById(1L);
+		final GetBoardDetailResponse result = boardRepository.findBoardDetailById(1L).orElseThrow();
 
 	    // then -- 예상되는 변화 및 결과
 		assertSoftly(softAssertions -> {
 			softAssertions.assertThat(result.getTitle()).isEqualTo(board.getTitle());
-			softAssertions.assertThat(result.getComments()).isSortedAccordingTo(
-				(c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()));
+			softAssertions.assertThat(result.getWriter()).isEqualTo(board.getMember().getNickname());
+			softAssertions.assertThat(result.getComments()).isEmpty();
 		});
 	}
 
+	@Test
+	@DisplayName("[성공] 존재하지 않는 게시글은 빈 결과로 조회된다.")
+	void getBoardDetail_notFound_empty() {
+	    // when -- 테스트하고자 하는 행동
+		final boolean present = boardRepository.findBoardDetailById(Long.MAX_VALUE).isPresent();
+
+	    // then -- 예상되는 변화 및 결과
+		assertThat(present).isFalse();
+	}
+
 	@Test
 	@DisplayName("[성공] 작성자 정보가 포함된 게시글이 정상적으로 조회된다.")
 	void getBoardList_withMember_success() {
@@ -62,6 +76,27 @@ public class BoardRepositoryTest {
 		});
 	}
 
+	@Test
+	@DisplayName("[성공] cursor 이후의 게시글이 중복 없이 최신순으로 이어서 조회된다.")
+	void getBoardListByCursor_keyset_success() {
+	    // given -- 테스트의 상태 설정
+		final Pageable pageable = PageRequest.of(0, 2);
+		final Slice<Board> firstPage = boardRepository.findSliceWithMember(pageable);
+		final Board last = firstPage.getContent().get(firstPage.getNumberOfElements() - 1);
+
+	    // when -- 테스트하고자 하는 행동
+		final Slice<Board> nextPage = boardRepository.findSliceWithMemberBefore(last.getCreatedAt(), last.getId(), pageable);
+
+	    // then -- 예상되는 변화 및 결과
+		assertSoftly(softAssertions -> {
+			softAssertions.assertThat(nextPage.getContent())
+				.doesNotContainAnyElementsOf(firstPage.getContent());
+			softAssertions.assertThat(nextPage.getContent()).allSatisfy(board ->
+				assertThat(board.getCreatedAt().isBefore(last.getCreatedAt())
+					|| (board.getCreatedAt().isEqual(last.getCreatedAt()) && board.getId() < last.getId())).isTrue());
+		});
+	}
+
 	@Test
 	@DisplayName("[성공] 키워드로 검색시 정상적으로 해당 게시글이 조회된다.")
 	void getBoardList_searchByKeyword_success() {
@@ -93,4 +128,113 @@ public class BoardRepositoryTest {
 			softAssertions.assertThat(result.getSize()).isEqualTo(member.getBoards().size());
 		});
 	}
+
+	@Test
+	@DisplayName("[성공] 실제 댓글 수와 다른 게시글의 댓글 수가 보정된다.")
+	void reconcileCommentSummary_success() {
+	    // given -- 테스트의 상태 설정
+		em.createNativeQuery("UPDATE board SET comment_count = comment_count + 5, last_activity_at = NULL WHERE id = 1")
+			.executeUpdate();
+		final Number actual = (Number) em.createNativeQuery("SELECT COUNT(*) FROM comment WHERE board_id = 1")
+			.getSingleResult();
+
+	    // when -- 테스트하고자 하는 행동
+		final LocalDateTime now = LocalDateTime.of(2030, 1, 1, 0, 0);
+		final int repaired = boardRepository.reconcileCommentSummary(1L, 10L, now);
+		em.clear();
+
+	    // then -- 예상되는 변화 및 결과
+		final Board board = em.find(Board.class, 1L);
+		assertSoftly(softAssertions -> {
+			softAssertions.assertThat(repaired).isGreaterThanOrEqualTo(1);
+			softAssertions.assertThat(board.getCommentCount()).isEqualTo(actual.intValue());
+			softAssertions.assertThat(board.getUpdatedAt()).isEqualTo(now);
+			softAssertions.assertThat(boardRepository.reconcileCommentSummary(1L, 10L, now.plusDays(1))).isZero();
+		});
+	}
+
+	@Test
+	@DisplayName("[성공] 가장 최근 댓글을 삭제하면 마지막 활동 시각이 남은 댓글 중 가장 최근 작성 시각이 된다.")
+	void decreaseCommentCount_recomputesLastActivity_success() {
+	    // given -- 테스트의 상태 설정
+		final Board before = em.find(Board.class, 1L);
+		final int commentCount = before.getCommentCount();
+		final Long latestId = em.createQuery(
+				"SELECT c.id FROM Comment c WHERE c.board.id = 1 ORDER BY c.createdAt DESC, c.id DESC", Long.class)
+			.setMaxResults(1)
+			.getSingleResult();
+		final LocalDateTime expected = em.createQuery(
+				"SELECT MAX(c.createdAt) FROM Comment c WHERE c.board.id = 1 AND c.id <> :id", LocalDateTime.class)
+			.setParameter("id", latestId)
+			.getSingleResult();
+
+	    // when -- 테스트하고자 하는 행동
+		final LocalDateTime now = LocalDateTime.of(2030, 1, 1, 0, 0);
+		boardRepository.decreaseCommentCount(1L, latestId, now);
+		em.clear();
+
+	    // then -- 예상되는 변화 및 결과
+		final Board board = em.find(Board.class, 1L);
+		assertSoftly(softAssertions -> {
+			softAssertions.assertThat(board.getCommentCount()).isEqualTo(commentCount - 1);
+			softAssertions.assertThat(board.getLastActivityAt()).isEqualTo(expected);
+			softAssertions.assertThat(board.getUpdatedAt()).isEqualTo(now);
+		});
+	}
+
+	@Test
+	@DisplayName("[성공] 삭제 표시된 게시글은 조회에서 제외되고 실제 삭제 대상으로 조회된다.")
+	void softDeletedBoard_hiddenFromQueries_success() {
+	    // given -- 테스트의 상태 설정
+		final Board board = em.find(Board.class, 1L);
+		final Long boardId = board.getId();
+		final long before = boardRepository.count();
+
+	    // when -- 테스트하고자 하는 행동
+		board.softDelete();
+		em.flush();
+		em.clear();
+
+		// then -- 예상되는 변화 및 결과
+		assertSoftly(softAssertions -> {
+			softAssertions.assertThat(boardRepository.findById(boardId)).isEmpty();
+			softAssertions.assertThat(boardRepository.findBoardDetailById(boardId)).isEmpty();
+			softAssertions.assertThat(boardRepository.count()).isEqualTo(before - 1);
+			softAssertions.assertThat(boardRepository.findSliceWithMember(PageRequest.of(0, 1000)).getContent())
+				.extracting(Board::getId)
+				.doesNotContain(boardId);
+			softAssertions.assertThat(boardRepository.findSoftDeletedIds(LocalDateTime.now().plusSeconds(1), 10))
+				.contains(boardId);
+		});
+	}
+
+	@Test
+	@DisplayName("[성공] 회원 게시글을 id 로 삭제 표시하면 updated_at 이 갱신되고 다시 조회되지 않는다.")
+	void softDeleteByIds_hidesMemberBoards_success() {
+	    // given -- 테스트의 상태 설정
+		final Long memberId = em.find(Board.class, 1L).getMember().getId();
+		final List<Long> activeIds = boardRepository.findActiveIdsByMemberId(memberId, PageRequest.of(0, 1000));
+		final LocalDateTime now = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+	    // when -- 테스트하고자 하는 행동
+		final int hidden = boardRepository.softDeleteByIds(activeIds, now);
+		final int again = boardRepository.softDeleteByIds(activeIds, now.plusDays(1));
+		em.clear();
+		final Number touched = (Number) em.createNativeQuery(
+				"SELECT COUNT(*) FROM board b WHERE b.id IN (:ids) AND b.updated_at = :now AND b.deleted_at = :now")
+			.setParameter("ids", activeIds)
+			.setParameter("now", now)
+			.getSingleResult();
+
+	    // then -- 예상되는 변화 및 결과
+		assertSoftly(softAssertions -> {
+			softAssertions.assertThat(activeIds).isNotEmpty();
+			softAssertions.assertThat(hidden).isEqualTo(activeIds.size());
+			softAssertions.assertThat(again).isZero();
+			softAssertions.assertThat(touched.intValue()).isEqualTo(activeIds.size());
+			softAssertions.assertThat(boardRepository.findActiveIdsByMemberId(memberId, PageRequest.of(0, 1000))).isEmpty();
+			softAssertions.assertThat(boardRepository.findIdsByMemberId(memberId, 1000)).containsAll(activeIds);
+			softAssertions.assertThat(boardRepository.findSoftDeletedIds(now.plusSeconds(1), 1000)).containsAll(activeIds);
+		});
+	}
 }
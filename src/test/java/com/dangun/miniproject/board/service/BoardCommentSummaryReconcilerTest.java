@@ -0,0 +1,65 @@
+package com.dangun.miniproject.board.service;
+
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.impl.BoardCommentSummaryReconciler;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardCommentSummaryReconcilerTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private BoardDetailCacheService boardDetailCacheService;
+
+    private BoardCommentSummaryReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new BoardCommentSummaryReconciler(boardRepository, boardDetailCacheService, 100);
+    }
+
+    @Test
+    @DisplayName("[성공] id 범위를 배치 크기로 나눠 보정하고, 보정된 게시글이 있으면 상세 캐시를 비운다.")
+    void reconcile_inBatches_success() {
+        // given -- 테스트의 상태 설정
+        given(boardRepository.findMaxId()).willReturn(250L);
+        given(boardRepository.reconcileCommentSummary(eq(1L), eq(100L), any(LocalDateTime.class))).willReturn(0);
+        given(boardRepository.reconcileCommentSummary(eq(101L), eq(200L), any(LocalDateTime.class))).willReturn(2);
+        given(boardRepository.reconcileCommentSummary(eq(201L), eq(300L), any(LocalDateTime.class))).willReturn(1);
+
+        // when -- 테스트하고자 하는 행동
+        final int repaired = reconciler.reconcile();
+
+        // then -- 예상되는 변화 및 결과
+        assertEquals(3, repaired);
+        verify(boardDetailCacheService).evictAll();
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글이 없으면 아무것도 하지 않는다.")
+    void reconcile_empty_success() {
+        // given -- 테스트의 상태 설정
+        given(boardRepository.findMaxId()).willReturn(null);
+
+        // when -- 테스트하고자 하는 행동
+        final int repaired = reconciler.reconcile();
+
+        // then -- 예상되는 변화 및 결과
+        assertEquals(0, repaired);
+        verify(boardRepository, never()).reconcileCommentSummary(any(), any(), any());
+        verifyNoInteractions(boardDetailCacheService);
+    }
+}
@@ -0,0 +1,163 @@
+package com.dangun.miniproject.board.service;
+
+import com.dangun.miniproject.board.domain.BoardStatus;
+import com.dangun.miniproject.board.dto.GetBoardDetailResponse;
+import com.dangun.miniproject.board.exception.BoardNotFoundException;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
+import com.dangun.miniproject.common.etag.Versioned;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardDetailCacheServiceTest {
+
+    private BoardDetailCacheService boardDetailCacheService;
+    private AtomicInteger loads;
+    private String version;
+
+    @BeforeEach
+    void setUp() {
+        boardDetailCacheService = new BoardDetailCacheService(2, 60);
+        loads = new AtomicInteger();
+        version = "v1";
+    }
+
+    @Test
+    @DisplayName("같은 게시글 재조회 시 캐시에서 반환")
+    void testGet_CacheHit() {
+        // When
+        Versioned<GetBoardDetailResponse> first = boardDetailCacheService.get(1L, null, this::load);
+        Versioned<GetBoardDetailResponse> second = boardDetailCacheService.get(1L, null, this::load);
+
+        // Then
+        assertSame(first, second);
+        assertEquals("v1", second.version());
+        assertEquals(1, loads.get());
+        assertEquals(1, boardDetailCacheService.getHitCount());
+        assertEquals(1, boardDetailCacheService.getMissCount());
+        assertEquals(0.5, boardDetailCacheService.getHitRatio());
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 다시 조회")
+    void testEvict() {
+        // Given
+        boardDetailCacheService.get(1L, null, this::load);
+
+        // When
+        boardDetailCacheService.evict(1L);
+        boardDetailCacheService.get(1L, null, this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(1, boardDetailCacheService.getInvalidationCount());
+    }
+
+    @Test
+    @DisplayName("호출한 쪽이 읽은 현재 버전과 캐시 항목의 버전이 다르면 다시 조회")
+    void testGet_VersionChanged() {
+        // Given
+        Versioned<GetBoardDetailResponse> first = boardDetailCacheService.get(1L, null, this::load);
+
+        // When
+        version = "v2";
+        Versioned<GetBoardDetailResponse> second = boardDetailCacheService.get(1L, "v2", this::load);
+        Versioned<GetBoardDetailResponse> third = boardDetailCacheService.get(1L, "v2", this::load);
+        Versioned<GetBoardDetailResponse> fourth = boardDetailCacheService.get(1L, null, this::load);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals("v2", second.version());
+        assertSame(second, third);
+        assertSame(second, fourth);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 만료가 가까운 항목부터 제거")
+    void testEvictIfFull() {
+        // When
+        boardDetailCacheService.get(1L, null, this::load);
+        boardDetailCacheService.get(2L, null, this::load);
+        boardDetailCacheService.get(3L, null, this::load);
+
+        // Then
+        assertEquals(2, boardDetailCacheService.size());
+        assertEquals(1, boardDetailCacheService.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않고 예외를 그대로 전달")
+    void testGet_LoaderFails() {
+        // When & Then
+        assertThrows(BoardNotFoundException.class, () -> boardDetailCacheService.get(1L, null, id -> {
+            throw new BoardNotFoundException();
+        }));
+        assertEquals(0, boardDetailCacheService.size());
+    }
+
+    @Test
+    @DisplayName("동시에 캐시 미스가 나도 DB 조회는 한 번만 실행")
+    void testGet_SingleLoaderPerKey() throws Exception {
+        // Given
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Versioned<GetBoardDetailResponse>>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return boardDetailCacheService.get(1L, null, id -> {
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return load(id);
+                });
+            }));
+        }
+
+        start.countDown();
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200L); // 나머지 요청이 조회 중인 loader 를 기다리도록
+        releaseLoader.countDown();
+
+        Versioned<GetBoardDetailResponse> expected = futures.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Versioned<GetBoardDetailResponse>> future : futures) {
+            assertSame(expected, future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(1, boardDetailCacheService.getLoadCount());
+    }
+
+    private Versioned<GetBoardDetailResponse> load(Long boardId) {
+        loads.incrementAndGet();
+        return new Versioned<>(
+                new GetBoardDetailResponse(boardId, "title", "content", "writer", "street", 1000, BoardStatus.판매중, null, 0),
+                version);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.dangun.miniproject.board.service;
+
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.impl.BoardPurger;
+import com.dangun.miniproject.comment.repository.CommentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoardPurgerTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        purger = new BoardPurger(boardRepository, commentRepository, transactionManager, 2, 60);
+    }
+
+    @Test
+    @DisplayName("[성공] 삭제 표시된 게시글의 댓글을 배치로 지운 뒤 게시글을 삭제한다.")
+    void purge_commentsBeforeBoards_success() {
+        // given -- 테스트의 상태 설정
+        given(boardRepository.findSoftDeletedIds(any(LocalDateTime.class), eq(2)))
+                .willReturn(List.of(1L, 2L), List.of());
+        given(commentRepository.findIdsByBoardIdIn(List.of(1L, 2L), 2))
+                .willReturn(List.of(10L, 11L), List.of(12L), List.of());
+        given(commentRepository.deleteByIds(List.of(10L, 11L))).willReturn(2);
+        given(commentRepository.deleteByIds(List.of(12L))).willReturn(1);
+        given(boardRepository.deleteByIds(List.of(1L, 2L))).willReturn(2);
+
+        // when -- 테스트하고자 하는 행동
+        final int purged = purger.purge();
+
+        // then -- 예상되는 변화 및 결과
+        assertEquals(2, purged);
+
+        final InOrder inOrder = inOrder(commentRepository, boardRepository);
+        inOrder.verify(commentRepository).deleteByIds(List.of(10L, 11L));
+        inOrder.verify(commentRepository).deleteByIds(List.of(12L));
+        inOrder.verify(boardRepository).deleteByIds(List.of(1L, 2L));
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("[성공] 유예 시간이 지나지 않은 게시글은 삭제하지 않는다.")
+    void purge_onlyAfterGracePeriod_success() {
+        // given -- 테스트의 상태 설정
+        final LocalDateTime before = LocalDateTime.now().minusSeconds(60);
+        given(boardRepository.findSoftDeletedIds(any(LocalDateTime.class), eq(2))).willReturn(List.of());
+
+        // when -- 테스트하고자 하는 행동
+        final int purged = purger.purge();
+
+        // then -- 예상되는 변화 및 결과
+        assertEquals(0, purged);
+        verify(boardRepository).findSoftDeletedIds(argThat(deletedBefore -> !deletedBefore.isBefore(before)
+                && deletedBefore.isBefore(LocalDateTime.now().minusSeconds(59))), eq(2));
+        verify(boardRepository, never()).deleteByIds(any());
+    }
+}
@@ -5,8 +5,16 @@ import com.dangun.miniproject.board.domain.BoardStatus;
 import com.dangun.miniproject.board.dto.*;
 import com.dangun.miniproject.board.exception.BoardNotFoundException;
 import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.impl.ApproximateBoardCounter;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
 import com.dangun.miniproject.board.service.impl.BoardServiceImpl;
 import com.dangun.miniproject.comment.domain.Comment;
+import com.dangun.miniproject.comment.dto.GetCommentResponse;
+import com.dangun.miniproject.comment.repository.CommentRepository;
+import com.dangun.miniproject.common.dto.BulkImportResponse;
+import com.dangun.miniproject.common.dto.KeysetCursor;
+import com.dangun.miniproject.common.exception.InvalidInputException;
+import com.dangun.miniproject.common.etag.ResourceVersions;
 import com.dangun.miniproject.fixture.BoardFixture;
 import com.dangun.miniproject.fixture.CommentFixture;
 import com.dangun.miniproject.member.domain.Address;
@@ -18,14 +26,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +62,21 @@ class BoardServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private BoardSearchEngine boardSearchEngine;
+
+    @Mock
+    private ApproximateBoardCounter approximateBoardCounter;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @Spy
+    private BoardDetailCacheService boardDetailCacheService = new BoardDetailCacheService(100, 60);
+
     @Nested
     @DisplayName("게시글 상세 조회")
     class GetBoardDetail {
@@ -63,18 +89,16 @@ class BoardServiceTest {
             final Address address = mock(Address.class);
             final Board board = BoardFixture.instanceOf(member);
 
-            board.getComments().addAll(new ArrayList<>());
-
-            given(boardRepository.findById(any())).willReturn(Optional.of(board));
             given(member.getAddress()).willReturn(address);
             given(address.getStreet()).willReturn("test Street");
 
             final GetBoardDetailResponse response = GetBoardDetailResponse.from(board);
 
-            given(boardRepository.findBoardById(any())).willReturn(response);
+            given(boardRepository.findBoardDetailById(any())).willReturn(Optional.of(response));
+            given(commentRepository.findSliceByBoardId(any(), any())).willReturn(new SliceImpl<>(List.of()));
 
             // when -- 테스트하고자 하는 행동
-            final GetBoardDetailResponse result = boardServiceImpl.getBoardDetail(1L);
+            final GetBoardDetailResponse result = boardServiceImpl.getBoardDetail(1L, null).body();
 
             // then -- 예상되는 변화 및 결과
             assertSoftly(softAssertions -> {
@@ -86,7 +110,7 @@ class BoardServiceTest {
         }
 
         @Test
-        @DisplayName("[성공] 게시글 작성자 정보와 함께 댓글 목록이 최신순으로 조회된다.")
+        @DisplayName("[성공] 게시글 작성자 정보와 함께 댓글 목록이 작성순으로 조회된다.")
         void getBoardDetail_commentsAndWriterInfo_success() {
             // given -- 테스트의 상태 설정
             final Member member = mock(Member.class);
@@ -95,20 +119,22 @@ class BoardServiceTest {
             final Comment comment1 = CommentFixture.instanceOf(member, board);
             final Comment comment2 = CommentFixture.instanceOf(member, board);
 
-            when(board.getComments()).thenReturn(List.of(comment1, comment2));
             when(member.getId()).thenReturn(1L);
             when(board.getMember()).thenReturn(member);
-
-            given(boardRepository.findById(any())).willReturn(Optional.of(board));
             when(member.getAddress()).thenReturn(address);
             when(address.getStreet()).thenReturn("test Street");
 
             final GetBoardDetailResponse response = GetBoardDetailResponse.from(board);
+            final List<GetCommentResponse> comments = List.of(
+                    GetCommentResponse.from(comment1, true),
+                    GetCommentResponse.from(comment2, true)
+            );
 
-            given(boardRepository.findBoardById(any())).willReturn(response);
+            given(boardRepository.findBoardDetailById(any())).willReturn(Optional.of(response));
+            given(commentRepository.findSliceByBoardId(any(), any())).willReturn(new SliceImpl<>(comments));
 
             // when -- 테스트하고자 하는 행동
-            final GetBoardDetailResponse result = boardServiceImpl.getBoardDetail(1L);
+            final GetBoardDetailResponse result = boardServiceImpl.getBoardDetail(1L, null).body();
 
             // then -- 예상되는 변화 및 결과
             assertSoftly(softAssertions -> {
@@ -126,6 +152,39 @@ class BoardServiceTest {
                 softAssertions.assertThat(result.getComments().get(0).getCreatedAt()).isEqualTo(comment1.getCreatedAt());
             });
         }
+
+        @Test
+        @DisplayName("[성공] 같은 게시글을 다시 조회하면 캐시에서 반환된다.")
+        void getBoardDetail_cacheHit_success() {
+            // given -- 테스트의 상태 설정
+            final GetBoardDetailResponse response = new GetBoardDetailResponse(
+                    1L, "title", "content", "writer", "street", 1000, BoardStatus.판매중, null, 0);
+
+            given(boardRepository.findBoardDetailById(1L)).willReturn(Optional.of(response));
+            given(commentRepository.findSliceByBoardId(eq(1L), any())).willReturn(new SliceImpl<>(List.of()));
+
+            // when -- 테스트하고자 하는 행동
+            final GetBoardDetailResponse first = boardServiceImpl.getBoardDetail(1L, null).body();
+            final GetBoardDetailResponse second = boardServiceImpl.getBoardDetail(1L, null).body();
+
+            // then -- 예상되는 변화 및 결과
+            assertSame(first, second);
+            verify(boardRepository, times(1)).findBoardDetailById(1L);
+            // 캐시 히트는 버전도 캐시 항목의 값을 쓰므로 DB 를 조회하지 않음
+            verify(resourceVersions, times(1)).boardVersion(1L);
+            assertEquals(1, boardDetailCacheService.getHitCount());
+        }
+
+        @Test
+        @DisplayName("[실패] 존재하지 않는 게시글을 조회하면 예외가 발생한다.")
+        void getBoardDetail_notFound_fail() {
+            // given -- 테스트의 상태 설정
+            given(boardRepository.findBoardDetailById(any())).willReturn(Optional.empty());
+
+            // when & then
+            assertThrows(BoardNotFoundException.class, () -> boardServiceImpl.getBoardDetail(1L, null));
+            verifyNoInteractions(commentRepository);
+        }
     }
 
     @Nested
@@ -182,7 +241,7 @@ class BoardServiceTest {
 
             final PageImpl<Board> response = new PageImpl<>(searchBoardList);
 
-            given(boardRepository.searchBoardsByKeyword(eq("키워드"), any())).willReturn(response);
+            given(boardSearchEngine.search(eq("키워드"), any())).willReturn(response);
 
             // when -- 테스트하고자 하는 행동
             final Page<GetBoardResponse> result = boardServiceImpl.getBoardList("키워드", pageRequest);
@@ -195,6 +254,129 @@ class BoardServiceTest {
             });
         }
 
+        @Test
+        @DisplayName("[성공] COUNT 없이 게시글 목록과 다음 페이지 여부가 조회된다.")
+        void getBoardSlice_success() {
+            // given -- 테스트의 상태 설정
+            final Member member = mock(Member.class);
+            final PageRequest pageRequest = PageRequest.of(0, 2, by(Direction.ASC, "title"));
+            final SliceImpl<Board> response = new SliceImpl<>(
+                    List.of(BoardFixture.instanceOf(member), BoardFixture.instanceOf(member)), PageRequest.of(0, 2), true);
+
+            given(boardRepository.findSliceWithMember(PageRequest.of(0, 2))).willReturn(response);
+
+            // when -- 테스트하고자 하는 행동
+            final GetBoardSliceResponse result = boardServiceImpl.getBoardSlice(pageRequest, false);
+
+            // then -- 예상되는 변화 및 결과
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.getContent().size()).isEqualTo(2);
+                softAssertions.assertThat(result.isHasNext()).isTrue();
+                softAssertions.assertThat(result.getApproximateTotal()).isNull();
+            });
+            verify(boardRepository, never()).findAllWithMember(any());
+            verify(approximateBoardCounter, never()).getApproximateTotal();
+        }
+
+        @Test
+        @DisplayName("[성공] 대략적인 전체 개수를 요청하면 집계된 값이 함께 조회된다.")
+        void getBoardSlice_approximateTotal_success() {
+            // given -- 테스트의 상태 설정
+            given(boardRepository.findSliceWithMember(any())).willReturn(new SliceImpl<>(List.of()));
+            given(approximateBoardCounter.getApproximateTotal()).willReturn(42L);
+
+            // when -- 테스트하고자 하는 행동
+            final GetBoardSliceResponse result = boardServiceImpl.getBoardSlice(PageRequest.of(0, 10), true);
+
+            // then -- 예상되는 변화 및 결과
+            assertEquals(42L, result.getApproximateTotal());
+            assertFalse(result.isHasNext());
+        }
+
+        @Test
+        @DisplayName("[성공] 키워드 검색도 COUNT 없이 조회된다.")
+        void searchBoardSlice_success() {
+            // given -- 테스트의 상태 설정
+            final Member member = mock(Member.class);
+            final SliceImpl<Board> response = new SliceImpl<>(List.of(BoardFixture.instanceOf(member)), PageRequest.of(0, 1), true);
+
+            given(boardSearchEngine.searchSlice(eq("Test"), any())).willReturn(response);
+
+            // when -- 테스트하고자 하는 행동
+            final GetBoardSliceResponse result = boardServiceImpl.searchBoardSlice("Test", PageRequest.of(0, 1));
+
+            // then -- 예상되는 변화 및 결과
+            assertTrue(result.isHasNext());
+            verify(boardSearchEngine, never()).search(any(), any());
+        }
+
+        @Test
+        @DisplayName("[성공] cursor 없이 조회하면 첫 페이지와 다음 cursor가 반환된다.")
+        void getBoardListByCursor_firstPage_success() {
+            // given -- 테스트의 상태 설정
+            final Member member = mock(Member.class);
+            final Board board1 = BoardFixture.instanceOf(member);
+            final Board board2 = BoardFixture.instanceOf(member);
+            final LocalDateTime createdAt = LocalDateTime.of(2024, 9, 1, 12, 0, 0);
+
+            ReflectionTestUtils.setField(board1, "id", 2L);
+            ReflectionTestUtils.setField(board1, "createdAt", createdAt);
+            ReflectionTestUtils.setField(board2, "id", 1L);
+            ReflectionTestUtils.setField(board2, "createdAt", createdAt);
+
+            final SliceImpl<Board> response = new SliceImpl<>(List.of(board1, board2), PageRequest.of(0, 2), true);
+
+            given(boardRepository.findSliceWithMember(any())).willReturn(response);
+
+            // when -- 테스트하고자 하는 행동
+            final GetBoardCursorResponse result = boardServiceImpl.getBoardListByCursor(null, 2);
+
+            // then -- 예상되는 변화 및 결과
+            final KeysetCursor nextCursor = KeysetCursor.decode(result.getNextCursor());
+
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.getContent().size()).isEqualTo(2);
+                softAssertions.assertThat(result.isHasNext()).isTrue();
+                softAssertions.assertThat(nextCursor.getId()).isEqualTo(1L);
+                softAssertions.assertThat(nextCursor.getCreatedAt()).isEqualTo(createdAt);
+            });
+            verify(boardRepository, never()).findSliceWithMemberBefore(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("[성공] cursor 이후의 게시글 목록이 조회되고, 마지막 페이지면 다음 cursor가 없다.")
+        void getBoardListByCursor_nextPage_success() {
+            // given -- 테스트의 상태 설정
+            final Member member = mock(Member.class);
+            final Board board = BoardFixture.instanceOf(member);
+            final LocalDateTime createdAt = LocalDateTime.of(2024, 9, 1, 12, 0, 0);
+
+            ReflectionTestUtils.setField(board, "id", 3L);
+            ReflectionTestUtils.setField(board, "createdAt", createdAt);
+
+            final String cursor = KeysetCursor.of(createdAt, 3L).encode();
+            final SliceImpl<Board> response = new SliceImpl<>(List.of(board), PageRequest.of(0, 2), false);
+
+            given(boardRepository.findSliceWithMemberBefore(eq(createdAt), eq(3L), any())).willReturn(response);
+
+            // when -- 테스트하고자 하는 행동
+            final GetBoardCursorResponse result = boardServiceImpl.getBoardListByCursor(cursor, 2);
+
+            // then -- 예상되는 변화 및 결과
+            assertSoftly(softAssertions -> {
+                softAssertions.assertThat(result.getContent().size()).isEqualTo(1);
+                softAssertions.assertThat(result.isHasNext()).isFalse();
+                softAssertions.assertThat(result.getNextCursor()).isNull();
+            });
+        }
+
+        @Test
+        @DisplayName("[실패] 잘못된 cursor로 조회하면 예외가 발생한다.")
+        void getBoardListByCursor_invalidCursor_fail() {
+            // when & then
+            assertThrows(InvalidInputException.class, () -> boardServiceImpl.getBoardListByCursor("invalid-cursor", 10));
+        }
+
         @Nested
         @DisplayName("작성 게시글 목록 조회")
         class GetMyBoardList {
@@ -263,6 +445,57 @@ class BoardServiceTest {
 
         verify(memberRepository).findById(memberId);
         verify(boardRepository).save(any(Board.class));
+        verify(boardSearchEngine).index(board);
+        verify(approximateBoardCounter).increment();
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 생성")
+    public void testImportBoards() {
+        // Given
+        Long memberId = 1L;
+
+        Member member = new Member();
+        ReflectionTestUtils.setField(member, "id", memberId);
+
+        List<WriteBoardRequest> requests = List.of(
+                new WriteBoardRequest("제목1", "내용1", 1000),
+                new WriteBoardRequest("제목2", "내용2", 2000)
+        );
+
+        when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+        when(boardRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Board> boards = invocation.getArgument(0);
+            for (int i = 0; i < boards.size(); i++) {
+                ReflectionTestUtils.setField(boards.get(i), "id", 100L + i);
+            }
+            return boards;
+        });
+
+        // When
+        BulkImportResponse response = boardService.importBoards(requests, memberId);
+
+        // Then
+        assertEquals(2, response.getCount());
+        assertEquals(List.of(100L, 101L), response.getIds());
+
+        verify(boardRepository).saveAll(anyList());
+        verify(boardRepository, never()).save(any(Board.class));
+        verify(boardSearchEngine, times(2)).index(any(Board.class));
+        verify(approximateBoardCounter).add(2);
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 생성 시 건수가 비어 있거나 최대 건수를 넘으면 예외")
+    public void testImportBoardsWithInvalidSize() {
+        // Given
+        Long memberId = 1L;
+        List<WriteBoardRequest> tooMany = Collections.nCopies(1001, new WriteBoardRequest("제목", "내용", 1000));
+
+        // When & Then
+        assertThrows(InvalidInputException.class, () -> boardService.importBoards(List.of(), memberId));
+        assertThrows(InvalidInputException.class, () -> boardService.importBoards(tooMany, memberId));
+        verify(boardRepository, never()).saveAll(anyList());
     }
 
     @Test
@@ -319,6 +552,8 @@ class BoardServiceTest {
         assertEquals(BoardStatus.판매중, existingBoard.getBoardStatus());
 
         verify(boardRepository, times(1)).findById(boardId);
+        verify(boardSearchEngine).index(existingBoard);
+        verify(boardDetailCacheService).evict(boardId);
         verifyNoInteractions(memberRepository);
     }
 
@@ -467,7 +702,11 @@ class BoardServiceTest {
 
         // Then
         verify(boardRepository).findById(boardId);
-        verify(boardRepository).delete(board);
+        verify(boardRepository, never()).delete(any(Board.class));
+        assertTrue(board.isDeleted());
+        verify(boardSearchEngine).remove(boardId);
+        verify(approximateBoardCounter).decrement();
+        verify(boardDetailCacheService).evict(boardId);
 
         assertNotNull(response);
         assertEquals("BOARD-S004", response.getCode());
@@ -502,5 +741,6 @@ class BoardServiceTest {
 
         verify(boardRepository).findById(boardId);
         verify(boardRepository, never()).delete(any(Board.class));
+        assertFalse(board.isDeleted());
     }
 }
\ No newline at end of file
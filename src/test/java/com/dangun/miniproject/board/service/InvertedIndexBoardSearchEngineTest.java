@@ -0,0 +1,190 @@
+package com.dangun.miniproject.board.service;
+
+import com.dangun.miniproject.board.domain.Board;
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.impl.InvertedIndexBoardSearchEngine;
+import com.dangun.miniproject.fixture.BoardFixture;
+import com.dangun.miniproject.member.domain.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvertedIndexBoardSearchEngineTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    private InvertedIndexBoardSearchEngine searchEngine;
+
+    private Board iphone;
+    private Board galaxy;
+    private Board bicycle;
+
+    @BeforeEach
+    void setUp() {
+        final Member member = mock(Member.class);
+
+        iphone = board(member, 1L, "아이폰15 팝니다", "케이스 포함, 배터리 효율 90%", 1);
+        galaxy = board(member, 2L, "갤럭시 S24", "케이 이스트 충전기는 따로 팝니다", 2);
+        bicycle = board(member, 3L, "자전거 판매", "Road Bike 상태 좋아요", 3);
+
+        searchEngine = new InvertedIndexBoardSearchEngine(boardRepository);
+
+        given(boardRepository.findSliceWithMember(any()))
+                .willReturn(new SliceImpl<>(List.of(bicycle, galaxy, iphone), PageRequest.of(0, 1000), false));
+        searchEngine.rebuild();
+    }
+
+    @Test
+    @DisplayName("[성공] 한글 키워드의 일부만으로도 게시글이 검색된다.")
+    void search_korean_partial_success() {
+        // given -- 테스트의 상태 설정
+        stubLoad();
+
+        // when -- 테스트하고자 하는 행동
+        final Page<Board> result = searchEngine.search("폰15", PageRequest.of(0, 10));
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.getTotalElements()).isEqualTo(1);
+            softAssertions.assertThat(result.getContent()).containsExactly(iphone);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] n-gram이 모두 있어도 원문에 키워드가 없으면 검색되지 않는다.")
+    void search_verifyOriginalText_success() {
+        // given -- 테스트의 상태 설정
+        stubLoad();
+
+        // when -- 테스트하고자 하는 행동
+        final Page<Board> result = searchEngine.search("케이스", PageRequest.of(0, 10));
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.getTotalElements()).isEqualTo(1);
+            softAssertions.assertThat(result.getContent()).containsExactly(iphone);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 검색 결과가 최신순으로 페이지 단위로 반환된다.")
+    void search_paging_success() {
+        // given -- 테스트의 상태 설정
+        stubLoad();
+
+        // when -- 테스트하고자 하는 행동
+        final Page<Board> first = searchEngine.search("팝니다", PageRequest.of(0, 1));
+        final Page<Board> second = searchEngine.search("팝니다", PageRequest.of(1, 1));
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(first.getTotalElements()).isEqualTo(2);
+            softAssertions.assertThat(first.getContent()).containsExactly(galaxy);
+            softAssertions.assertThat(second.getContent()).containsExactly(iphone);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] Slice 검색은 전체 개수 없이 다음 페이지 여부만 반환된다.")
+    void searchSlice_hasNext_success() {
+        // given -- 테스트의 상태 설정
+        stubLoad();
+
+        // when -- 테스트하고자 하는 행동
+        final Slice<Board> first = searchEngine.searchSlice("팝니다", PageRequest.of(0, 1));
+        final Slice<Board> second = searchEngine.searchSlice("팝니다", PageRequest.of(1, 1));
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(first.getContent()).containsExactly(galaxy);
+            softAssertions.assertThat(first.hasNext()).isTrue();
+            softAssertions.assertThat(second.getContent()).containsExactly(iphone);
+            softAssertions.assertThat(second.hasNext()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 영문은 대소문자 구분 없이 검색된다.")
+    void search_ignoreCase_success() {
+        // given -- 테스트의 상태 설정
+        stubLoad();
+
+        // when -- 테스트하고자 하는 행동
+        final Page<Board> result = searchEngine.search("road bike", PageRequest.of(0, 10));
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> softAssertions.assertThat(result.getContent()).containsExactly(bicycle));
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 수정 / 삭제가 색인에 반영된다.")
+    void index_updateAndRemove_success() {
+        // given -- 테스트의 상태 설정
+        stubLoad();
+        bicycle.updateDetails("MTB 판매", "산악 자전거", 100000, bicycle.getBoardStatus());
+
+        // when -- 테스트하고자 하는 행동
+        searchEngine.index(bicycle);
+        searchEngine.remove(galaxy.getId());
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(searchEngine.search("road", PageRequest.of(0, 10)).getContent()).isEmpty();
+            softAssertions.assertThat(searchEngine.search("산악", PageRequest.of(0, 10)).getContent()).containsExactly(bicycle);
+            softAssertions.assertThat(searchEngine.search("갤럭시", PageRequest.of(0, 10)).getContent()).isEmpty();
+            softAssertions.assertThat(searchEngine.size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 토큰이 없는 키워드는 LIKE 검색으로 대체된다.")
+    void search_noToken_fallbackToLike() {
+        // given -- 테스트의 상태 설정
+        final PageRequest pageRequest = PageRequest.of(0, 10);
+        given(boardRepository.searchBoardsByKeyword("%", pageRequest)).willReturn(new PageImpl<>(List.of(iphone)));
+
+        // when -- 테스트하고자 하는 행동
+        final Page<Board> result = searchEngine.search("%", pageRequest);
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> softAssertions.assertThat(result.getContent()).containsExactly(iphone));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLoad() {
+        lenient().when(boardRepository.findAllWithMemberByIdIn(any())).thenAnswer(invocation -> {
+            final Collection<Long> ids = invocation.getArgument(0, Collection.class);
+
+            return List.of(iphone, galaxy, bicycle).stream()
+                    .filter(board -> ids.contains(board.getId()))
+                    .toList();
+        });
+    }
+
+    private Board board(final Member member, final Long id, final String title, final String content, final int day) {
+        final Board board = BoardFixture.instanceOf(member, title, content);
+
+        ReflectionTestUtils.setField(board, "id", id);
+        ReflectionTestUtils.setField(board, "createdAt", LocalDateTime.of(2024, 9, day, 0, 0));
+
+        return board;
+    }
+}
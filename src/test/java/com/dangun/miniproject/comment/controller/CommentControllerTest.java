@@ -1,6 +1,8 @@
 package com.dangun.miniproject.comment.controller;
 
 import com.dangun.miniproject.auth.dto.UserDetailsDto;
+import com.dangun.miniproject.comment.dto.GetCommentCursorResponse;
+import com.dangun.miniproject.comment.dto.GetCommentResponse;
 import com.dangun.miniproject.comment.dto.UpdateCommentRequest;
 import com.dangun.miniproject.comment.dto.UpdateCommentResponse;
 import com.dangun.miniproject.comment.dto.WriteCommentRequest;
@@ -14,6 +16,7 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,12 +25,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -42,6 +48,34 @@ public class CommentControllerTest {
     @MockBean
     private CommentService commentService;
 
+    @Nested
+    class getCommentList {
+
+        @Test
+        void 댓글_목록_cursor_조회_성공_200() throws Exception {
+            // given
+            Long boardId = 1L;
+            GetCommentCursorResponse response = GetCommentCursorResponse.from(new SliceImpl<>(List.of(
+                    new GetCommentResponse(1L, "테스트댓글", 1L, "writer", true, LocalDateTime.now()))));
+
+            when(commentService.getCommentList(boardId, "next", 10)).thenReturn(response);
+
+            // when
+            ResultActions result = mockMvc.perform(get("/boards/{boardId}/comments", boardId)
+                    .param("cursor", "next")
+                    .param("size", "10")
+                    .with(user("user")));
+
+            // then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].content").value("테스트댓글"))
+                    .andExpect(jsonPath("$.data.hasNext").value(false))
+                    .andDo(print());
+
+            verify(commentService).getCommentList(boardId, "next", 10);
+        }
+    }
+
     @Nested
     class writeComment {
 
@@ -2,6 +2,7 @@ package com.dangun.miniproject.comment.repository;
 
 import com.dangun.miniproject.board.domain.Board;
 import com.dangun.miniproject.comment.domain.Comment;
+import com.dangun.miniproject.comment.dto.GetCommentResponse;
 import com.dangun.miniproject.common.config.JpaAuditingConfig;
 import com.dangun.miniproject.member.domain.Member;
 import jakarta.persistence.EntityManager;
@@ -12,8 +13,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.util.Comparator;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
@@ -60,4 +66,50 @@ public class CommentRepositoryTest {
         assertThat(comment.getCreatedAt()).isNotNull();
         assertThat(comment.getUpdatedAt()).isNotNull();
     }
+
+    @Test
+    void 게시글_댓글을_작성자_여부와_함께_작성순으로_조회() {
+        // given
+        Member boardWriter = board.getMember();
+        commentRepository.save(Comment.builder().member(member).board(board).content("다른 회원 댓글").build());
+        commentRepository.save(Comment.builder().member(boardWriter).board(board).content("작성자 댓글").build());
+        em.flush();
+        em.clear();
+
+        // when
+        List<GetCommentResponse> comments = commentRepository.findSliceByBoardId(1L, PageRequest.of(0, 100)).getContent();
+
+        // then
+        assertThat(comments).isNotEmpty();
+        assertThat(comments).isSortedAccordingTo(Comparator.comparing(GetCommentResponse::getCreatedAt).thenComparing(GetCommentResponse::getId));
+        assertThat(comments).allSatisfy(comment ->
+                assertThat(comment.isBoardWriter()).isEqualTo(comment.getWriterId().equals(boardWriter.getId())));
+        assertThat(comments).anySatisfy(comment -> assertThat(comment.isBoardWriter()).isTrue());
+    }
+
+    @Test
+    void 댓글_cursor_이후_페이지를_중복_없이_조회() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(Comment.builder().member(member).board(board).content("댓글 " + i).build());
+        }
+        em.flush();
+        em.clear();
+
+        Slice<GetCommentResponse> firstPage = commentRepository.findSliceByBoardId(1L, PageRequest.of(0, 2));
+        GetCommentResponse last = firstPage.getContent().get(firstPage.getNumberOfElements() - 1);
+
+        // when
+        Slice<GetCommentResponse> nextPage = commentRepository.findSliceByBoardIdAfter(1L, last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(nextPage.getContent()).isNotEmpty();
+        assertThat(nextPage.getContent())
+                .extracting(GetCommentResponse::getId)
+                .doesNotContainAnyElementsOf(firstPage.getContent().stream().map(GetCommentResponse::getId).toList());
+        assertThat(nextPage.getContent()).allSatisfy(comment ->
+                assertThat(comment.getCreatedAt().isAfter(last.getCreatedAt())
+                        || (comment.getCreatedAt().isEqual(last.getCreatedAt()) && comment.getId() > last.getId())).isTrue());
+    }
 }
@@ -4,7 +4,10 @@ import com.dangun.miniproject.board.domain.Board;
 import com.dangun.miniproject.board.domain.BoardStatus;
 import com.dangun.miniproject.board.exception.BoardNotFoundException;
 import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
 import com.dangun.miniproject.comment.domain.Comment;
+import com.dangun.miniproject.comment.dto.GetCommentCursorResponse;
+import com.dangun.miniproject.comment.dto.GetCommentResponse;
 import com.dangun.miniproject.comment.dto.UpdateCommentRequest;
 import com.dangun.miniproject.comment.dto.UpdateCommentResponse;
 import com.dangun.miniproject.comment.dto.WriteCommentRequest;
@@ -12,6 +15,9 @@ import com.dangun.miniproject.comment.dto.WriteCommentResponse;
 import com.dangun.miniproject.comment.exception.CommentNotFoundException;
 import com.dangun.miniproject.comment.repository.CommentRepository;
 import com.dangun.miniproject.comment.service.impl.CommentServiceImpl;
+import com.dangun.miniproject.common.dto.BulkImportResponse;
+import com.dangun.miniproject.common.dto.KeysetCursor;
+import com.dangun.miniproject.common.exception.InvalidInputException;
 import com.dangun.miniproject.member.domain.Member;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,8 +25,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +49,70 @@ public class CommentServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private BoardDetailCacheService boardDetailCacheService;
+
+    @Nested
+    class getCommentList {
+
+        @Test
+        void cursor_없이_댓글_첫_페이지와_다음_cursor를_조회한다() {
+            // given
+            Long boardId = 1L;
+            LocalDateTime createdAt = LocalDateTime.of(2024, 9, 20, 14, 0, 0);
+            List<GetCommentResponse> comments = List.of(
+                    new GetCommentResponse(1L, "댓글1", 1L, "writer", true, createdAt),
+                    new GetCommentResponse(2L, "댓글2", 2L, "other", false, createdAt)
+            );
+
+            when(boardRepository.existsById(boardId)).thenReturn(true);
+            when(commentRepository.findSliceByBoardId(eq(boardId), any()))
+                    .thenReturn(new SliceImpl<>(comments, PageRequest.of(0, 2), true));
+
+            // when
+            GetCommentCursorResponse response = commentService.getCommentList(boardId, null, 2);
+
+            // then
+            KeysetCursor nextCursor = KeysetCursor.decode(response.getNextCursor());
+            assertThat(response.getContent()).hasSize(2);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(nextCursor.getId()).isEqualTo(2L);
+            assertThat(nextCursor.getCreatedAt()).isEqualTo(createdAt);
+        }
+
+        @Test
+        void cursor_이후의_댓글을_조회한다() {
+            // given
+            Long boardId = 1L;
+            LocalDateTime createdAt = LocalDateTime.of(2024, 9, 20, 14, 0, 0);
+            GetCommentResponse last = new GetCommentResponse(2L, "댓글2", 2L, "other", false, createdAt);
+            String cursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+
+            when(boardRepository.existsById(boardId)).thenReturn(true);
+            when(commentRepository.findSliceByBoardIdAfter(eq(boardId), eq(createdAt), eq(2L), any()))
+                    .thenReturn(new SliceImpl<>(List.of(new GetCommentResponse(3L, "댓글3", 1L, "writer", true, createdAt))));
+
+            // when
+            GetCommentCursorResponse response = commentService.getCommentList(boardId, cursor, 20);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+        }
+
+        @Test
+        void 존재하지_않는_게시글의_댓글_조회_시도() {
+            // given
+            when(boardRepository.existsById(0L)).thenReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> commentService.getCommentList(0L, null, 20))
+                    .isInstanceOf(BoardNotFoundException.class);
+            verifyNoInteractions(commentRepository);
+        }
+    }
+
     @Nested
     class writeComment {
 
@@ -71,10 +145,68 @@ public class CommentServiceTest {
 
             // then
             verify(commentRepository).save(any(Comment.class));
+            verify(boardRepository).increaseCommentCount(eq(1L), any(LocalDateTime.class));
+            verify(boardDetailCacheService).evict(1L);
             assertThat(response).isNotNull();
             assertThat(response.getContent()).isEqualTo(comment.getContent()).isEqualTo("댓글 테스트");
         }
 
+        @Test
+        void 댓글을_일괄_등록하면_한_번에_저장하고_댓글_수를_한_번만_증가시킨다() {
+            // given
+            Member member = Member.builder()
+                    .email("asdf@asdf.com")
+                    .nickname("test")
+                    .password("asdf")
+                    .build();
+            Board board = Board.builder()
+                    .title("test")
+                    .boardStatus(BoardStatus.판매중)
+                    .member(member)
+                    .price(10000)
+                    .content("팝니다")
+                    .build();
+
+            WriteCommentRequest first = mock(WriteCommentRequest.class);
+            WriteCommentRequest second = mock(WriteCommentRequest.class);
+            Comment firstComment = mock(Comment.class);
+            Comment secondComment = mock(Comment.class);
+
+            when(first.getContent()).thenReturn("댓글 1");
+            when(second.getContent()).thenReturn("댓글 2");
+            when(first.toEntity(member, board)).thenReturn(firstComment);
+            when(second.toEntity(member, board)).thenReturn(secondComment);
+            when(firstComment.getId()).thenReturn(10L);
+            when(secondComment.getId()).thenReturn(11L);
+            when(firstComment.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 9, 1, 10, 5));
+            when(secondComment.getCreatedAt()).thenReturn(LocalDateTime.of(2024, 9, 1, 10, 0));
+            when(boardRepository.findById(1L)).thenReturn(Optional.of(board));
+            when(commentRepository.saveAll(List.of(firstComment, secondComment))).thenReturn(List.of(firstComment, secondComment));
+
+            // when
+            BulkImportResponse response = commentService.importComments(member, 1L, List.of(first, second));
+
+            // then
+            verify(commentRepository, never()).save(any(Comment.class));
+            verify(boardRepository).increaseCommentCountBy(1L, 2, LocalDateTime.of(2024, 9, 1, 10, 5));
+            verify(boardDetailCacheService).evict(1L);
+            assertThat(response.getCount()).isEqualTo(2);
+            assertThat(response.getIds()).containsExactly(10L, 11L);
+        }
+
+        @Test
+        void 내용이_비어_있는_댓글이_있으면_일괄_등록하지_않는다() {
+            // given
+            Member member = mock(Member.class);
+            WriteCommentRequest blank = mock(WriteCommentRequest.class);
+            when(blank.getContent()).thenReturn(" ");
+
+            // when & then
+            assertThatThrownBy(() -> commentService.importComments(member, 1L, List.of(blank)))
+                    .isInstanceOf(InvalidInputException.class);
+            verify(commentRepository, never()).saveAll(anyList());
+        }
+
         @Test
         void 존재하지_않는_게시글에_댓글_작성_시도() {
             // given
@@ -117,6 +249,7 @@ public class CommentServiceTest {
 
             // then
             assertThat(response.getContent()).isEqualTo(updatedContent);
+            verify(boardRepository).touch(eq(boardId), any(LocalDateTime.class));
         }
 
         @Test
@@ -210,6 +343,8 @@ public class CommentServiceTest {
 
             // then
             verify(commentRepository).delete(comment);
+            verify(boardRepository).decreaseCommentCount(eq(boardId), eq(commentId), any(LocalDateTime.class));
+            verify(boardDetailCacheService).evict(boardId);
         }
 
         @Test
@@ -0,0 +1,71 @@
+package com.dangun.miniproject.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ExpiringCacheTest {
+
+    @Test
+    @DisplayName("[성공] 최대 크기를 넘으면 가장 먼저 저장한 항목부터 제거한다.")
+    void put_overMaxSize_evictsEldest() {
+        // given -- 테스트의 상태 설정
+        final ExpiringCache<String, Integer> cache = new ExpiringCache<>(2, 60_000L);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("a", 10);
+
+        // when -- 테스트하고자 하는 행동
+        cache.put("c", 3);
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(cache.get("a")).isEqualTo(10);
+            softAssertions.assertThat(cache.get("b")).isNull();
+            softAssertions.assertThat(cache.get("c")).isEqualTo(3);
+            softAssertions.assertThat(cache.size()).isEqualTo(2);
+            softAssertions.assertThat(cache.getEvictionCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 만료된 항목은 조회되지 않고 다음 저장 시 제거된다.")
+    void get_expired_returnsNull() {
+        // given -- 테스트의 상태 설정
+        final ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, 0L);
+        cache.put("a", 1);
+
+        // when -- 테스트하고자 하는 행동
+        final Integer value = cache.get("a");
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(value).isNull();
+            softAssertions.assertThat(cache.size()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 삭제 / 전체 삭제 시 제거 여부와 제거한 수를 반환한다.")
+    void removeAndClear_success() {
+        // given -- 테스트의 상태 설정
+        final ExpiringCache<String, Integer> cache = new ExpiringCache<>(10, 60_000L);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        // when -- 테스트하고자 하는 행동
+        final boolean removed = cache.remove("a");
+        final boolean removedAgain = cache.remove("a");
+        final int cleared = cache.clear();
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(removed).isTrue();
+            softAssertions.assertThat(removedAgain).isFalse();
+            softAssertions.assertThat(cleared).isEqualTo(2);
+            softAssertions.assertThat(cache.size()).isZero();
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.dangun.miniproject.common.etag;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+// 테스트 데이터(data.sql) 의 게시글 / 회원 updated_at 을 바꿔 가며 확인, 변경은 테스트마다 롤백
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class ResourceVersionsTest {
+
+    private static final LocalDateTime LATER = LocalDateTime.of(2099, 1, 1, 0, 0, 0, 123_000);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ResourceVersions resourceVersions;
+
+    @BeforeEach
+    void setUp() {
+        resourceVersions = new ResourceVersions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("[성공] 게시글 updated_at 이 바뀌면 해당 게시글과 목록의 버전만 바뀐다.")
+    void boardVersion_updatedAt_success() {
+        // given -- 테스트의 상태 설정
+        final String board1 = resourceVersions.boardVersion(1L);
+        final String board2 = resourceVersions.boardVersion(2L);
+        final String list = resourceVersions.boardListVersion();
+        final String member1 = resourceVersions.memberVersion(1L);
+
+        // when -- 테스트하고자 하는 행동
+        jdbcTemplate.update("UPDATE board SET updated_at = ? WHERE id = 1", LATER);
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(resourceVersions.boardVersion(1L)).isNotEqualTo(board1);
+            softAssertions.assertThat(resourceVersions.boardVersion(2L)).isEqualTo(board2);
+            softAssertions.assertThat(resourceVersions.boardListVersion()).isNotEqualTo(list);
+            softAssertions.assertThat(resourceVersions.memberVersion(1L)).isEqualTo(member1);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 회원 updated_at 이 바뀌면 회원 버전과 닉네임이 노출되는 게시글 상세 / 목록 버전이 바뀐다.")
+    void memberVersion_updatedAt_success() {
+        // given -- 테스트의 상태 설정
+        final String board1 = resourceVersions.boardVersion(1L);
+        final String list = resourceVersions.boardListVersion();
+        final String member1 = resourceVersions.memberVersion(1L);
+        final String member2 = resourceVersions.memberVersion(2L);
+
+        // when -- 테스트하고자 하는 행동
+        jdbcTemplate.update("UPDATE member SET updated_at = ? WHERE id = 1", LATER);
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(resourceVersions.memberVersion(1L)).isNotEqualTo(member1);
+            softAssertions.assertThat(resourceVersions.memberVersion(2L)).isEqualTo(member2);
+            softAssertions.assertThat(resourceVersions.boardVersion(1L)).isNotEqualTo(board1);
+            softAssertions.assertThat(resourceVersions.boardListVersion()).isNotEqualTo(list);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 없는 게시글 / 회원의 버전은 0 이고, 버전은 ETag 에 그대로 쓸 수 있는 문자만 포함한다.")
+    void version_notFound_success() {
+        // when -- 테스트하고자 하는 행동
+        final String board = resourceVersions.boardVersion(Long.MAX_VALUE);
+        final String member = resourceVersions.memberVersion(Long.MAX_VALUE);
+        final String list = resourceVersions.boardListVersion();
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(board).isEqualTo("0");
+            softAssertions.assertThat(member).isEqualTo("0");
+            softAssertions.assertThat(list).matches("[a-z0-9.-]+");
+            softAssertions.assertThat(ConditionalGet.eTag(ResourceVersions.BOARDS, "*", list))
+                    .isEqualTo("W/\"boards-*-" + list + "\"");
+        });
+    }
+}
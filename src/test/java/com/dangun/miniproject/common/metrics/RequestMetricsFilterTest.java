@@ -0,0 +1,92 @@
+package com.dangun.miniproject.common.metrics;
+
+import com.dangun.miniproject.common.dto.RouteMetricsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestMetricsFilterTest {
+
+    private RequestMetricsRegistry registry;
+    private RequestMetricsFilter filter;
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @BeforeEach
+    void setUp() {
+        registry = new RequestMetricsRegistry();
+        filter = new RequestMetricsFilter(registry, 2);
+    }
+
+    @Test
+    @DisplayName("요청이 URI 패턴 단위로 집계되고 요청 중 실행된 SQL 수가 기록됨")
+    void testRecordByRoutePattern() throws Exception {
+        // Given
+        long totalBefore = QueryCountInspector.getTotalCount();
+
+        // When
+        for (long boardId = 1; boardId <= 3; boardId++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/" + boardId);
+            filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/boards/{boardId}");
+                inspector.inspect("select * from board where id = ?");
+                inspector.inspect("select * from comment where board_id = ?");
+            });
+        }
+
+        // Then
+        List<RouteMetricsResponse> routes = registry.snapshot();
+        assertEquals(1, routes.size());
+
+        RouteMetricsResponse route = routes.get(0);
+        assertEquals("GET /boards/{boardId}", route.getRoute());
+        assertEquals(3, route.getCount());
+        assertEquals(2.0, route.getAverageStatements());
+        assertEquals(2, route.getMaxStatements());
+        assertEquals(0, route.getOverBudgetCount());
+        assertTrue(route.getP99Millis() <= route.getMaxMillis());
+        assertEquals(6, QueryCountInspector.getTotalCount() - totalBefore);
+    }
+
+    @Test
+    @DisplayName("SQL 수가 budget 을 넘은 요청이 기록되고 요청이 끝나면 집계가 초기화됨")
+    void testOverBudget() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/boards");
+            for (int i = 0; i < 3; i++) {
+                inspector.inspect("select * from member where id = ?");
+            }
+        });
+
+        // Then
+        RouteMetricsResponse route = registry.snapshot().get(0);
+        assertEquals(1, route.getOverBudgetCount());
+        assertEquals(3, route.getMaxStatements());
+        assertEquals(0, QueryCountInspector.current());
+    }
+
+    @Test
+    @DisplayName("컨트롤러까지 가지 못한 요청은 UNMAPPED 로, 5xx 응답은 오류로 집계됨")
+    void testUnmappedAndError() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/unknown/123");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> ((MockHttpServletResponse) res).setStatus(503));
+
+        // Then
+        RouteMetricsResponse route = registry.snapshot().get(0);
+        assertEquals("POST " + RequestMetricsFilter.UNMAPPED, route.getRoute());
+        assertEquals(1, route.getErrorCount());
+    }
+}
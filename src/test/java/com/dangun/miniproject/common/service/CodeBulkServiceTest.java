@@ -0,0 +1,155 @@
+package com.dangun.miniproject.common.service;
+
+import com.dangun.miniproject.common.dto.CodeImportReport;
+import com.dangun.miniproject.common.exception.InvalidInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CodeBulkServiceTest {
+
+    private static final String HEADER = "group_code,code,code_name,code_name_brief,order_no\n";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CodeTableCache codeTableCache;
+
+    private CodeBulkServiceImpl codeBulkService;
+
+    @BeforeEach
+    void setUp() {
+        codeBulkService = new CodeBulkServiceImpl(jdbcTemplate, transactionManager, codeTableCache, 2);
+    }
+
+    @Test
+    @DisplayName("[성공] CSV 를 청크 단위로 upsert 하고 잘못된 행은 건너뛴다.")
+    @SuppressWarnings("unchecked")
+    void importCodes_chunked_success() {
+        // given -- 테스트의 상태 설정
+        final String csv = HEADER
+                + "010,001,\"일반, 회원\",일반,1\r\n"
+                + "010,002,\"\"\"우수\"\" 회원\",우수,2\n"
+                + "\n"
+                + "010,003,잘못된 순서,,abc\n"
+                + "010,004,VIP,,4\n";
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[0]);
+
+        // when -- 테스트하고자 하는 행동
+        final CodeImportReport report = codeBulkService.importCodes(new StringReader(csv));
+
+        // then -- 예상되는 변화 및 결과
+        final ArgumentCaptor<List<Object[]>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(contains("ON DUPLICATE KEY UPDATE"), chunks.capture());
+        verify(transactionManager, times(2)).commit(any());
+        verify(codeTableCache).reload();
+
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(chunks.getAllValues().get(0)).hasSize(2);
+            softAssertions.assertThat(chunks.getAllValues().get(0).get(0)).containsExactly("010", "001", "일반, 회원", "일반", 1);
+            softAssertions.assertThat(chunks.getAllValues().get(0).get(1)[2]).isEqualTo("\"우수\" 회원");
+            softAssertions.assertThat(chunks.getAllValues().get(1).get(0)).containsExactly("010", "004", "VIP", null, 4);
+            softAssertions.assertThat(report.getTotalRows()).isEqualTo(4);
+            softAssertions.assertThat(report.getAppliedRows()).isEqualTo(3);
+            softAssertions.assertThat(report.getRejectedRows()).isEqualTo(1);
+            softAssertions.assertThat(report.getErrors()).extracting(CodeImportReport.RowError::line).containsExactly(5L);
+            softAssertions.assertThat(report.getChunks()).extracting(CodeImportReport.Chunk::firstLine).containsExactly(2L, 6L);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 반영에 실패한 청크는 기록하고 다음 청크를 계속 반영한다.")
+    void importCodes_failedChunk_continue() {
+        // given -- 테스트의 상태 설정
+        final String csv = HEADER + "010,001,a,,1\n010,002,b,,2\n010,003,c,,3\n";
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataIntegrityViolationException("Data too long"))
+                .willReturn(new int[0]);
+
+        // when -- 테스트하고자 하는 행동
+        final CodeImportReport report = codeBulkService.importCodes(new StringReader(csv));
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(report.getFailedRows()).isEqualTo(2);
+            softAssertions.assertThat(report.getAppliedRows()).isEqualTo(1);
+            softAssertions.assertThat(report.getChunks()).extracting(CodeImportReport.Chunk::applied).containsExactly(false, true);
+            softAssertions.assertThat(report.isSuccess()).isFalse();
+        });
+        verify(transactionManager).rollback(any());
+        verify(codeTableCache).reload();
+    }
+
+    @Test
+    @DisplayName("[실패] 헤더가 다르면 등록하지 않는다.")
+    void importCodes_invalidHeader_fail() {
+        // when -- 테스트하고자 하는 행동
+        assertThrows(InvalidInputException.class,
+                () -> codeBulkService.importCodes(new StringReader("code,group_code\n001,010\n")));
+
+        // then -- 예상되는 변화 및 결과
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(codeTableCache, never()).reload();
+    }
+
+    @Test
+    @DisplayName("[성공] 그룹 코드 CSV 는 BOM 이 있어도 헤더를 인식한다.")
+    void importGroupCodes_bom_success() {
+        // given -- 테스트의 상태 설정
+        final String csv = "\uFEFFgroup_code,group_code_name,group_code_desc\n010,회원 등급,\n";
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[0]);
+
+        // when -- 테스트하고자 하는 행동
+        final CodeImportReport report = codeBulkService.importGroupCodes(new StringReader(csv));
+
+        // then -- 예상되는 변화 및 결과
+        assertThat(report.getAppliedRows()).isEqualTo(1);
+        verify(jdbcTemplate).batchUpdate(contains("INSERT INTO group_code"), anyList());
+    }
+
+    @Test
+    @DisplayName("[성공] 코드 내보내기는 마지막 행의 정렬 키 이후를 청크 단위로 조회한다.")
+    @SuppressWarnings("unchecked")
+    void exportCodes_keysetChunks_success() {
+        // given -- 테스트의 상태 설정
+        final StringWriter writer = new StringWriter();
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).willReturn(
+                List.of(new String[]{"010", "001", "일반, 회원", null, "1"}, new String[]{"010", "002", "우수", "우수", "2"}),
+                List.of(new String[]{"020", "001", "판매중", null, "1"}));
+
+        // when -- 테스트하고자 하는 행동
+        codeBulkService.exportCodes(null, writer);
+
+        // then -- 예상되는 변화 및 결과
+        verify(jdbcTemplate).query(contains("ORDER BY group_code, order_no, code LIMIT ?"), any(RowMapper.class),
+                aryEq(new Object[]{2}));
+        verify(jdbcTemplate).query(contains("group_code > ?"), any(RowMapper.class),
+                aryEq(new Object[]{"010", "010", 2, 2, "002", 2}));
+        assertThat(writer.toString()).isEqualTo(HEADER.replace("\n", "\r\n")
+                + "010,001,\"일반, 회원\",,1\r\n"
+                + "010,002,우수,우수,2\r\n"
+                + "020,001,판매중,,1\r\n");
+    }
+}
@@ -0,0 +1,91 @@
+package com.dangun.miniproject.common.service;
+
+import com.dangun.miniproject.common.dto.CodeDto;
+import com.dangun.miniproject.common.dto.CodeResultDto;
+import com.dangun.miniproject.common.repository.CodeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CodeServiceTest {
+
+    @InjectMocks
+    private CodeServiceImpl codeService;
+
+    @Mock
+    private CodeRepository codeRepository;
+
+    @Mock
+    private CodeTableCache codeTableCache;
+
+    @Test
+    @DisplayName("[성공] 코드 목록의 count 는 해당 그룹의 코드 수이다.")
+    void listCode_countByGroup_success() {
+        // given -- 테스트의 상태 설정
+        given(codeTableCache.codes("010")).willReturn(List.of(
+                codeDto("010", "001", 1), codeDto("010", "002", 2), codeDto("010", "003", 3)));
+
+        // when -- 테스트하고자 하는 행동
+        final CodeResultDto result = codeService.listCode("010", 0, 2);
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.getResult()).isEqualTo("success");
+            softAssertions.assertThat(result.getCodeDtoList()).extracting(CodeDto::getCode).containsExactly("001", "002");
+            softAssertions.assertThat(result.getCount()).isEqualTo(3);
+        });
+        verify(codeRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("[성공] 여러 그룹의 코드를 요청 순서대로 한 번에 조회한다.")
+    void listCodes_success() {
+        // given -- 테스트의 상태 설정
+        given(codeTableCache.codes("020")).willReturn(List.of(codeDto("020", "001", 1)));
+        given(codeTableCache.codes("010")).willReturn(List.of(codeDto("010", "001", 1), codeDto("010", "002", 2)));
+
+        // when -- 테스트하고자 하는 행동
+        final CodeResultDto result = codeService.listCodes(List.of("020", "010", "020"));
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.getResult()).isEqualTo("success");
+            softAssertions.assertThat(result.getCodeDtoListByGroup()).containsOnlyKeys("020", "010");
+            softAssertions.assertThat(result.getCodeDtoListByGroup().keySet()).containsExactly("020", "010");
+            softAssertions.assertThat(result.getCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("[실패] 한 번에 조회할 수 있는 그룹 수를 넘으면 실패한다.")
+    void listCodes_tooManyGroups_fail() {
+        // given -- 테스트의 상태 설정
+        final List<String> groupCodes = IntStream.rangeClosed(1, 51)
+                .mapToObj(i -> String.format("%03d", i))
+                .toList();
+
+        // when -- 테스트하고자 하는 행동
+        final CodeResultDto result = codeService.listCodes(groupCodes);
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(result.getResult()).isEqualTo("fail");
+            softAssertions.assertThat(result.getCodeDtoListByGroup()).isNull();
+        });
+        verify(codeTableCache, never()).codes(anyString());
+    }
+
+    private CodeDto codeDto(final String groupCode, final String code, final int order) {
+        return new CodeDto(groupCode, code, "이름" + code, "약칭" + code, order);
+    }
+}
@@ -0,0 +1,133 @@
+package com.dangun.miniproject.common.service;
+
+import com.dangun.miniproject.common.code.Code;
+import com.dangun.miniproject.common.code.CodeKey;
+import com.dangun.miniproject.common.code.GroupCode;
+import com.dangun.miniproject.common.dto.CodeDto;
+import com.dangun.miniproject.common.repository.CodeRepository;
+import com.dangun.miniproject.common.repository.GroupCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CodeTableCacheTest {
+
+    @Mock
+    private GroupCodeRepository groupCodeRepository;
+
+    @Mock
+    private CodeRepository codeRepository;
+
+    private CodeTableCache codeTableCache;
+
+    @BeforeEach
+    void setUp() {
+        codeTableCache = new CodeTableCache(groupCodeRepository, codeRepository);
+
+        given(groupCodeRepository.findAll()).willReturn(List.of(
+                new GroupCode("020", "상품 상태", "판매 상태"),
+                new GroupCode("010", "회원 등급", "등급")));
+        given(codeRepository.findAll()).willReturn(List.of(
+                code("010", "003", 3),
+                code("010", "001", 1),
+                code("020", "001", 1),
+                code("010", "002", 2)));
+    }
+
+    @Test
+    @DisplayName("[성공] 기동 시 적재한 코드를 그룹별 orderNo 순으로 조회한다.")
+    void reload_sortedByOrderNo_success() {
+        // when -- 테스트하고자 하는 행동
+        codeTableCache.reload();
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(codeTableCache.codes("010")).extracting(CodeDto::getCode)
+                    .containsExactly("001", "002", "003");
+            softAssertions.assertThat(codeTableCache.codes("999")).isEmpty();
+            softAssertions.assertThat(codeTableCache.code(new CodeKey("020", "001"))).isPresent();
+            softAssertions.assertThat(codeTableCache.groupCodes()).extracting("groupCode")
+                    .containsExactly("010", "020");
+            softAssertions.assertThat(codeTableCache.codeCount()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 코드 저장 / 삭제 시 DB 재조회 없이 새 스냅샷으로 교체한다.")
+    void putAndRemoveCode_swapsSnapshot_success() {
+        // given -- 테스트의 상태 설정
+        codeTableCache.reload();
+        final List<CodeDto> before = codeTableCache.codes("010");
+        final String group010 = codeTableCache.groupVersion("010");
+        final String group020 = codeTableCache.groupVersion("020");
+        final String groupCodes = codeTableCache.groupCodesVersion();
+        final String all = codeTableCache.version();
+
+        // when -- 테스트하고자 하는 행동
+        codeTableCache.putCode(code("010", "003", 0));
+        codeTableCache.removeCode(new CodeKey("010", "002"));
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(codeTableCache.codes("010")).extracting(CodeDto::getCode)
+                    .containsExactly("003", "001");
+            softAssertions.assertThat(before).extracting(CodeDto::getCode)
+                    .containsExactly("001", "002", "003");
+            softAssertions.assertThat(codeTableCache.codeCount()).isEqualTo(3);
+            softAssertions.assertThat(codeTableCache.groupVersion("010")).isNotEqualTo(group010);
+            softAssertions.assertThat(codeTableCache.groupVersion("020")).isEqualTo(group020);
+            softAssertions.assertThat(codeTableCache.groupCodesVersion()).isEqualTo(groupCodes);
+            softAssertions.assertThat(codeTableCache.version()).isNotEqualTo(all);
+        });
+        verify(codeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 내용을 다시 적재하면 순서가 달라도 버전이 그대로다.")
+    void reload_sameContent_sameVersion_success() {
+        // given -- 테스트의 상태 설정
+        codeTableCache.reload();
+        final String group010 = codeTableCache.groupVersion("010");
+        final String all = codeTableCache.version();
+        given(codeRepository.findAll()).willReturn(List.of(
+                code("010", "002", 2),
+                code("020", "001", 1),
+                code("010", "001", 1),
+                code("010", "003", 3)));
+
+        // when -- 테스트하고자 하는 행동
+        codeTableCache.reload();
+
+        // then -- 예상되는 변화 및 결과
+        assertSoftly(softAssertions -> {
+            softAssertions.assertThat(codeTableCache.groupVersion("010")).isEqualTo(group010);
+            softAssertions.assertThat(codeTableCache.version()).isEqualTo(all);
+            softAssertions.assertThat(codeTableCache.groupVersion("999")).isNotEqualTo(group010);
+        });
+    }
+
+    @Test
+    @DisplayName("[성공] 기동 전 조회 시 그 자리에서 한 번만 적재한다.")
+    void lazyLoad_once_success() {
+        // when -- 테스트하고자 하는 행동
+        codeTableCache.codes("010");
+        codeTableCache.groupCode("020");
+
+        // then -- 예상되는 변화 및 결과
+        verify(groupCodeRepository, times(1)).findAll();
+        verify(codeRepository, times(1)).findAll();
+    }
+
+    private Code code(final String groupCode, final String code, final int orderNo) {
+        return new Code(new CodeKey(groupCode, code), "이름" + code, "약칭" + code, orderNo);
+    }
+}
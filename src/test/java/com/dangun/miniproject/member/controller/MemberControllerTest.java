@@ -2,7 +2,9 @@ package com.dangun.miniproject.member.controller;
 
 
 import com.dangun.miniproject.auth.dto.UserDetailsDto;
+import com.dangun.miniproject.common.etag.ResourceVersions;
 import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.dto.AccountDeletionReport;
 import com.dangun.miniproject.member.dto.GetAddressDto;
 import com.dangun.miniproject.member.dto.GetMemberDto;
 import com.dangun.miniproject.member.exception.AddressNotFoundException;
@@ -43,6 +45,9 @@ public class MemberControllerTest {
     @MockBean
     private MemberService memberService;
 
+    @MockBean
+    private ResourceVersions resourceVersions;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -181,7 +186,9 @@ public class MemberControllerTest {
                 .nickname("tester")
                 .build();
 
-        when(memberService.deleteMember(member.getId())).thenReturn(true);
+        AccountDeletionReport report = new AccountDeletionReport(1L);
+        report.add("member", 1, 0);
+        when(memberService.deleteMember(member.getId())).thenReturn(report);
 
         // When & Then: DELETE 요청을 MockMvc를 사용하여 전송
         mockMvc.perform(delete("/members/my-info-delete")
@@ -189,7 +196,9 @@ public class MemberControllerTest {
                         .with(authentication(UsernamePasswordAuthenticationToken.authenticated(userDetails, updatedMemberDto, userDetails.getAuthorities()))).with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("MEMBER-S004"))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("회원 탈퇴 성공"));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("회원 탈퇴 성공"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.memberId").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.deletedRows.member").value(1));
     }
 
     @Test
@@ -0,0 +1,136 @@
+package com.dangun.miniproject.member.service;
+
+import com.dangun.miniproject.board.repository.BoardRepository;
+import com.dangun.miniproject.board.service.BoardSearchEngine;
+import com.dangun.miniproject.board.service.impl.ApproximateBoardCounter;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
+import com.dangun.miniproject.comment.repository.CommentRepository;
+import com.dangun.miniproject.member.dto.AccountDeletionReport;
+import com.dangun.miniproject.member.repository.AddressRepository;
+import com.dangun.miniproject.member.repository.MemberRepository;
+import com.dangun.miniproject.member.service.impl.AccountDeletionPipeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountDeletionPipelineTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private BoardSearchEngine boardSearchEngine;
+
+    @Mock
+    private ApproximateBoardCounter approximateBoardCounter;
+
+    @Mock
+    private BoardDetailCacheService boardDetailCacheService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccountDeletionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new AccountDeletionPipeline(memberRepository, addressRepository, boardRepository, commentRepository,
+                boardSearchEngine, approximateBoardCounter, boardDetailCacheService, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 표시 후 작성 댓글 -> 게시글 댓글 -> 게시글(삭제 표시 포함) -> 주소 -> 회원 순으로 배치 삭제하고 테이블별 행 수를 기록")
+    void testDeleteInForeignKeyOrder() {
+        // Given
+        // 101 은 이미 삭제 표시된 게시글
+        when(boardRepository.findActiveIdsByMemberId(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(100L), List.of());
+        when(boardRepository.softDeleteByIds(eq(List.of(100L)), any(LocalDateTime.class))).thenReturn(1);
+        when(commentRepository.findIdsByMemberId(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(10L, 11L), List.of(12L), List.of());
+        when(boardRepository.findIdsByMemberId(1L, 2))
+                .thenReturn(List.of(100L, 101L), List.of());
+        when(commentRepository.findIdsByBoardIdIn(List.of(100L, 101L), 2))
+                .thenReturn(List.of(20L, 21L), List.of());
+        when(commentRepository.deleteByIds(List.of(10L, 11L))).thenReturn(2);
+        when(commentRepository.deleteByIds(List.of(12L))).thenReturn(1);
+        when(commentRepository.deleteByIds(List.of(20L, 21L))).thenReturn(2);
+        when(boardRepository.deleteByIds(List.of(100L, 101L))).thenReturn(2);
+        when(addressRepository.deleteAddressByMemberId(1L)).thenReturn(1);
+        when(memberRepository.deleteMemberById(1L)).thenReturn(1);
+
+        // When
+        AccountDeletionReport report = pipeline.delete(1L);
+
+        // Then
+        InOrder inOrder = inOrder(boardRepository, commentRepository, addressRepository, memberRepository);
+        inOrder.verify(boardRepository).softDeleteByIds(eq(List.of(100L)), any(LocalDateTime.class));
+        inOrder.verify(boardRepository).decreaseCommentCountByCommentIds(eq(List.of(10L, 11L)), any(LocalDateTime.class));
+        inOrder.verify(commentRepository).deleteByIds(List.of(10L, 11L));
+        inOrder.verify(boardRepository).decreaseCommentCountByCommentIds(eq(List.of(12L)), any(LocalDateTime.class));
+        inOrder.verify(commentRepository).deleteByIds(List.of(12L));
+        inOrder.verify(commentRepository).deleteByIds(List.of(20L, 21L));
+        inOrder.verify(boardRepository).deleteByIds(List.of(100L, 101L));
+        inOrder.verify(addressRepository).deleteAddressByMemberId(1L);
+        inOrder.verify(memberRepository).deleteMemberById(1L);
+
+        // 삭제 표시한 게시글만 색인 / 상세 캐시 / 개수에서 제외
+        verify(boardSearchEngine).remove(100L);
+        verify(boardSearchEngine, never()).remove(101L);
+        verify(boardDetailCacheService).evict(100L);
+        verify(approximateBoardCounter, times(1)).add(-1L);
+        verify(transactionManager, times(7)).commit(any());
+
+        assertEquals(1, report.getDeletedRows("board(hidden)"));
+        assertEquals(3, report.getDeletedRows("comment"));
+        assertEquals(2, report.getDeletedRows("comment(board)"));
+        assertEquals(2, report.getDeletedRows("board"));
+        assertEquals(1, report.getDeletedRows("address"));
+        assertEquals(1, report.getDeletedRows("member"));
+        assertEquals(7, report.getBatchCount());
+    }
+
+    @Test
+    @DisplayName("작성한 댓글 / 게시글이 없으면 주소와 회원만 삭제")
+    void testDeleteMemberWithoutContents() {
+        // Given
+        when(commentRepository.findIdsByMemberId(eq(1L), any(Pageable.class))).thenReturn(List.of());
+        when(boardRepository.findIdsByMemberId(1L, 2)).thenReturn(List.of());
+        when(memberRepository.deleteMemberById(1L)).thenReturn(1);
+
+        // When
+        AccountDeletionReport report = pipeline.delete(1L);
+
+        // Then
+        verify(commentRepository, never()).deleteByIds(any());
+        verify(boardRepository, never()).deleteByIds(any());
+        verify(boardRepository, never()).softDeleteByIds(any(), any());
+        verify(addressRepository).deleteAddressByMemberId(1L);
+        assertEquals(1, report.getDeletedRows("member"));
+        assertEquals(0, report.getDeletedRows("board"));
+    }
+}
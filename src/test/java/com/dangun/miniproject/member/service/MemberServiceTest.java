@@ -1,15 +1,17 @@
 package com.dangun.miniproject.member.service;
 
-import com.dangun.miniproject.board.domain.Board;
-import com.dangun.miniproject.comment.domain.Comment;
+import com.dangun.miniproject.auth.service.impl.PrincipalCacheService;
+import com.dangun.miniproject.board.service.impl.BoardDetailCacheService;
 import com.dangun.miniproject.common.exception.InvalidInputException;
 import com.dangun.miniproject.member.domain.Address;
 import com.dangun.miniproject.member.domain.Member;
+import com.dangun.miniproject.member.dto.AccountDeletionReport;
 import com.dangun.miniproject.member.dto.GetAddressDto;
 import com.dangun.miniproject.member.dto.GetMemberDto;
 import com.dangun.miniproject.member.exception.MemberNotFoundException;
 import com.dangun.miniproject.member.repository.AddressRepository;
 import com.dangun.miniproject.member.repository.MemberRepository;
+import com.dangun.miniproject.member.service.impl.AccountDeletionPipeline;
 import com.dangun.miniproject.member.service.impl.MemberServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,15 +20,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
-import static org.springframework.test.util.ReflectionTestUtils.getField;
-import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 @ExtendWith(MockitoExtension.class)
 public class MemberServiceTest {
@@ -36,6 +35,15 @@ public class MemberServiceTest {
     @Mock
     private AddressRepository addressRepository;
 
+    @Mock
+    private PrincipalCacheService principalCacheService;
+
+    @Mock
+    private BoardDetailCacheService boardDetailCacheService;
+
+    @Mock
+    private AccountDeletionPipeline accountDeletionPipeline;
+
     @InjectMocks
     private MemberServiceImpl memberService;
 
@@ -133,6 +141,7 @@ public class MemberServiceTest {
         assertEquals("newNickname", updatedMemberDto.getNickname());
         assertEquals(member.getEmail(), updatedMemberDto.getEmail());
         verify(memberRepository).save(member);
+        verify(principalCacheService).evict(member.getEmail());
     }
 
     @Test
@@ -197,6 +206,8 @@ public class MemberServiceTest {
         assertEquals("new Detail", updatedAddressDto.getDetail());
         assertEquals("11111", updatedAddressDto.getZipcode());
         verify(addressRepository).save(address); // save가 호출되었는지 확인
+        verify(principalCacheService).evict(member.getEmail());
+        verify(memberRepository).touch(eq(member.getId()), any(LocalDateTime.class)); // 조회 ETag 갱신
     }
 
     @Test
@@ -328,30 +339,19 @@ public class MemberServiceTest {
     @Test
     void deleteMember() {
         // given
-        setField(member, "comments", new ArrayList<Comment>());
-        setField(member, "boards", new ArrayList<Board>());
-        setField(member, "address", new Address());
-
-        Comment comment = mock(Comment.class);
-        Board board = mock(Board.class);
-
-        List<Comment> comments = (List<Comment>) getField(member, "comments");
-        comments.add(comment);
-
-        List<Board> boards = (List<Board>) getField(member, "boards");
-        boards.add(board);
-
+        AccountDeletionReport report = new AccountDeletionReport(member.getId());
         when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(accountDeletionPipeline.delete(member.getId())).thenReturn(report);
 
         // when
-        boolean result = memberService.deleteMember(1L);
+        AccountDeletionReport result = memberService.deleteMember(1L);
 
         // then
-        assertTrue(result);
+        assertSame(report, result);
 
-        verify(memberRepository).deleteCommentsByMemberId(member.getId());
-        verify(memberRepository).deleteBoardsByMemberId(member.getId());
-        verify(addressRepository).delete(member.getAddress());
-        verify(memberRepository).delete(member);
+        verify(accountDeletionPipeline).delete(member.getId());
+        verify(memberRepository, never()).delete(member);
+        verify(principalCacheService).evict(member.getEmail());
+        verify(boardDetailCacheService).evictAll();
     }
 }
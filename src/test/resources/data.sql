@@ -171,3 +171,12 @@ INSERT INTO comment (id, created_at, updated_at, content, board_id, member_id) V
 INSERT INTO comment (id, created_at, updated_at, content, board_id, member_id) VALUES (98, '2024-09-20 14:09:16', '2024-09-20 14:09:16', '예약 가능한가요?', 42, 3);
 INSERT INTO comment (id, created_at, updated_at, content, board_id, member_id) VALUES (99, '2024-09-20 14:14:16', '2024-09-20 14:14:16', '상품 상태가 궁금합니다.', 41, 6);
 INSERT INTO comment (id, created_at, updated_at, content, board_id, member_id) VALUES (100, '2024-09-20 14:19:16', '2024-09-20 14:19:16', '예약 가능한가요?', 42, 4);
+
+-- 게시글 댓글 수 동기화
+UPDATE board b
+SET b.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.board_id = b.id),
+    b.last_activity_at = (SELECT MAX(c.created_at) FROM comment c WHERE c.board_id = b.id);
+
+-- 시드 데이터 이후부터 id 를 할당하도록 id 테이블 갱신 (Board / Comment pooled-lo 생성기)
+UPDATE board_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM board);
+UPDATE comment_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM comment);